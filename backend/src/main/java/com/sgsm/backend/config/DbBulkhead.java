@@ -0,0 +1,126 @@
+package com.sgsm.backend.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limitează câte fire folosesc simultan o conexiune la baza de date. Cu fire virtuale pot exista mii de
+ * cereri concurente; fără limită toate ar aștepta în pool-ul Hikari până la connection-timeout.
+ * Aici așteaptă pe un semafor echitabil cel mult max-wait, apoi cererea e respinsă (503, DatabaseBusyHandler).
+ * Permisul e luat la getConnection() și eliberat la close(), deci acoperă tranzacțiile JPA și JdbcTemplate.
+ */
+@Component
+public class DbBulkhead implements BeanPostProcessor, MeterBinder {
+
+    private final boolean enabled;
+    private final int permits;
+    private final long maxWaitNanos;
+    private final Semaphore semaphore;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public DbBulkhead(@Value("${app.db-bulkhead.enabled:false}") boolean enabled,
+                      @Value("${app.db-bulkhead.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+                      @Value("${app.db-bulkhead.max-wait:2s}") Duration maxWait) {
+        this.enabled = enabled;
+        this.permits = permits;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.semaphore = new Semaphore(permits, true);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+            return new BulkheadDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!enabled) return;
+        Gauge.builder("db.bulkhead.in.use", semaphore, s -> permits - s.availablePermits()).register(registry);
+        Gauge.builder("db.bulkhead.waiting", semaphore, Semaphore::getQueueLength).register(registry);
+        FunctionCounter.builder("db.bulkhead.acquired", acquired, LongAdder::sum).register(registry);
+        FunctionCounter.builder("db.bulkhead.rejected", rejected, LongAdder::sum).register(registry);
+    }
+
+    private void acquire() throws SQLException {
+        boolean ok;
+        try {
+            ok = semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Așteptarea unei conexiuni a fost întreruptă", e);
+        }
+        if (!ok) {
+            rejected.increment();
+            throw new SQLTransientConnectionException("Baza de date este ocupată (bulkhead plin)");
+        }
+        acquired.increment();
+    }
+
+    private Connection guard(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    } finally {
+                        if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                            semaphore.release();
+                        }
+                    }
+                });
+    }
+
+    private final class BulkheadDataSource extends DelegatingDataSource {
+
+        BulkheadDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            acquire();
+            try {
+                return guard(super.getConnection());
+            } catch (SQLException | RuntimeException e) {
+                semaphore.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            acquire();
+            try {
+                return guard(super.getConnection(username, password));
+            } catch (SQLException | RuntimeException e) {
+                semaphore.release();
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.sgsm.backend.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pe PostgreSQL, indexul parțial folosit de OverdueSweeper: doar taskurile cu deadline care nu sunt încă
+ * marcate întârziate și nici finalizate. Un task iese din index când e marcat sau mutat în DONE, așa că fiecare
+ * sweep citește doar ce mai are de marcat, nu tot istoricul cu deadline depășit.
+ */
+@Component
+public class OverdueSweepIndex {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepare() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if ("PostgreSQL".equals(product)) {
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_tasks_pending_deadline ON tasks (deadline, id) "
+                    + "WHERE overdue = false AND status IS DISTINCT FROM 'DONE'");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.sgsm.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pregătește coloana title_key pentru proiectele create înainte de listarea paginată și,
+ * pe PostgreSQL, indexul cu text_pattern_ops necesar căutării după prefix (LIKE 'abc%')
+ * indiferent de collation-ul bazei.
+ */
+@Component
+public class ProjectListingIndexes {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectListingIndexes.class);
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepare() {
+        int keys = jdbcTemplate.update(
+                "UPDATE projects SET title_key = LOWER(COALESCE(title, '')) WHERE title_key IS NULL");
+        int dates = jdbcTemplate.update(
+                "UPDATE projects SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL");
+        if (keys > 0 || dates > 0) {
+            log.info("Listare proiecte: {} chei de titlu și {} date de creare completate", keys, dates);
+        }
+
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if ("PostgreSQL".equals(product)) {
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_projects_title_prefix "
+                    + "ON projects (title_key text_pattern_ops, id)");
+        }
+    }
+}
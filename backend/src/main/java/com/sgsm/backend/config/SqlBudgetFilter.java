@@ -0,0 +1,84 @@
+package com.sgsm.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Un scope SqlStatementCounter per cerere HTTP, în jurul întregului lanț de filtre (inclusiv autentificarea).
+ * La final: sql.statements.per.request per rută, sql.repeated.statements pentru formele repetate peste prag
+ * (N+1) și un warning dacă cererea a depășit max-statements.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+    private final SqlStatementCounter counter;
+    private final MeterRegistry registry;
+    private final int maxStatements;
+
+    public SqlBudgetFilter(SqlStatementCounter counter, MeterRegistry registry,
+                           @Value("${app.sql-budget.max-statements:30}") int maxStatements) {
+        this.counter = counter;
+        this.registry = registry;
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !counter.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Scope scope = counter.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            report(request, scope);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementCounter.Scope scope) {
+        // Ruta potrivită (ex. /projects/{projectId}/members), ca la http.server.requests
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("sql.statements.per.request")
+                .tags("method", method, "uri", uri)
+                .register(registry)
+                .record(scope.total());
+
+        Map<String, Integer> repeated = scope.repeatedOver(counter.getRepeatThreshold());
+        if (!repeated.isEmpty()) {
+            Counter.builder("sql.repeated.statements")
+                    .tags("method", method, "uri", uri)
+                    .register(registry)
+                    .increment(repeated.size());
+        }
+
+        if (scope.total() > maxStatements) {
+            log.warn("{} {}: {} instrucțiuni SQL, peste bugetul de {}", method, uri, scope.total(), maxStatements);
+        }
+    }
+}
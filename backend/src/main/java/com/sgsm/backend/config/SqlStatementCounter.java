@@ -0,0 +1,207 @@
+package com.sgsm.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Numără instrucțiunile SQL trimise la baza de date de firul curent, cât timp un {@link Scope} e deschis
+ * (o cerere HTTP, vezi SqlBudgetFilter, sau un bloc dintr-un test). Conexiunile sunt învelite la nivel JDBC,
+ * deci se văd și încărcările lazy/eager ale Hibernate, nu doar apelurile de repository.
+ * <p>
+ * O execuție = un drum la baza de date (executeBatch contează o dată). Forma unei instrucțiuni este textul SQL
+ * cu listele de parametri restrânse; când aceeași formă se repetă de peste repeat-threshold ori (tiparul N+1),
+ * se scrie un warning cu stiva apelului, o singură dată per formă.
+ */
+@Component
+public class SqlStatementCounter implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementCounter.class);
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Set<String> EXECUTE = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final String OWN_PACKAGE = "com.sgsm.backend";
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final int repeatThreshold;
+
+    public SqlStatementCounter(@Value("${app.sql-budget.enabled:true}") boolean enabled,
+                               @Value("${app.sql-budget.repeat-threshold:10}") int repeatThreshold) {
+        this.enabled = enabled;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+            return new CountingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getRepeatThreshold() {
+        return repeatThreshold;
+    }
+
+    /** Începe numărarea pe firul curent; scope-urile se pot imbrica (fiecare vede și instrucțiunile celor interioare). */
+    public Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    // Formă comună pentru aceeași interogare cu liste IN de lungimi diferite (și tupluri de parametri)
+    static String shapeOf(String sql) {
+        return sql.indexOf('?') >= 0 && sql.contains(",") ? IN_LIST.matcher(sql).replaceAll("(?...)") : sql;
+    }
+
+    private void record(String shape) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            int count = scope.add(shape);
+            // Doar scope-ul exterior raportează, ca o cerere într-un test să nu fie raportată de două ori
+            if (count == repeatThreshold + 1 && scope.parent == null) {
+                log.warn("Posibil N+1: aceeași instrucțiune executată de {} ori în aceeași cerere: {}\n\tla {}",
+                        count, shape, callSite());
+            }
+        }
+    }
+
+    // Doar cadrele aplicației, fără cele din acest pachet: serviciul/controller-ul care a declanșat încărcarea
+    private static String callSite() {
+        return Arrays.stream(new Throwable().getStackTrace())
+                .filter(frame -> frame.getClassName().startsWith(OWN_PACKAGE)
+                        && !frame.getClassName().startsWith(SqlStatementCounter.class.getName())
+                        && !frame.getClassName().contains("$$"))
+                .map(StackTraceElement::toString)
+                .collect(Collectors.joining("\n\tla "));
+    }
+
+    /** Instrucțiunile numărate de la open() până la close(), grupate pe formă. */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int total;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private int add(String shape) {
+            total++;
+            return shapes.merge(shape, 1, Integer::sum);
+        }
+
+        public int total() {
+            return total;
+        }
+
+        public Map<String, Integer> byShape() {
+            return Collections.unmodifiableMap(shapes);
+        }
+
+        /** De câte ori s-a executat forma cea mai repetată (0 dacă nu s-a executat nimic). */
+        public int maxRepeats() {
+            return shapes.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+
+        /** Formele executate de peste threshold ori. */
+        public Map<String, Integer> repeatedOver(int threshold) {
+            return shapes.entrySet().stream()
+                    .filter(e -> e.getValue() > threshold)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent == null) CURRENT.remove();
+                else CURRENT.set(parent);
+            }
+        }
+    }
+
+    private Connection counting(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("equals".equals(method.getName())) return proxy == args[0];
+                    if ("hashCode".equals(method.getName())) return System.identityHashCode(proxy);
+                    Object result = invoke(connection, method, args);
+                    // Fără scope deschis instrucțiunile nu sunt învelite deloc
+                    if (CURRENT.get() == null) return result;
+                    return switch (method.getName()) {
+                        case "prepareStatement" -> statement(result, PreparedStatement.class, shapeOf((String) args[0]));
+                        case "prepareCall" -> statement(result, CallableStatement.class, shapeOf((String) args[0]));
+                        case "createStatement" -> statement(result, Statement.class, null);
+                        default -> result;
+                    };
+                });
+    }
+
+    // Pentru Statement simplu forma vine din argumentul lui execute*(sql)
+    private Object statement(Object statement, Class<? extends Statement> type, String shape) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (EXECUTE.contains(method.getName())) {
+                String sql = shape != null ? shape
+                        : args != null && args.length > 0 && args[0] instanceof String s ? shapeOf(s)
+                        : "<batch>";
+                record(sql);
+            }
+            return invoke(statement, method, args);
+        };
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password));
+        }
+    }
+}
@@ -2,11 +2,14 @@ package com.sgsm.backend.controller;
 
 import com.sgsm.backend.dto.ProjectDTO;
 import com.sgsm.backend.dto.TaskDTO;
+import com.sgsm.backend.security.CustomUserDetails;
 import com.sgsm.backend.service.AdminService;
+import com.sgsm.backend.service.ProjectListingService;
 import com.sgsm.backend.service.ProjectService;
 import com.sgsm.backend.service.TaskService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.ResponseEntity;
 
@@ -17,6 +20,8 @@ import java.util.List;
 public class AdminController {
     @Autowired
     private AdminService adminService;
+    @Autowired
+    private ProjectListingService projectListingService;
     @PreAuthorize("hasAuthority('ADMIN')")
     @GetMapping("/ping")
     public ResponseEntity<String> testAdminAccess() {
@@ -25,8 +30,19 @@ public class AdminController {
 
 
 
+    @PreAuthorize("hasAuthority('ADMIN')")
     @GetMapping("/projects")
-    public ResponseEntity<?> getAllProjects() {
+    public ResponseEntity<?> getAllProjects(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                            @RequestParam(required = false) Integer limit,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(required = false) String sort,
+                                            @RequestParam(required = false) String q,
+                                            @RequestParam(required = false) Boolean includeTotal) {
+        if (limit != null || cursor != null || sort != null || q != null || includeTotal != null) {
+            return projectListingService.page(userDetails.getUser(), true, limit, cursor, sort, q,
+                    Boolean.TRUE.equals(includeTotal),
+                    row -> new ProjectDTO(row.getId(), row.getTitle(), row.getDescription()));
+        }
         return ResponseEntity.ok(adminService.getAllProjects());
     }
 
@@ -0,0 +1,22 @@
+package com.sgsm.backend.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+// Nicio conexiune disponibilă în timp util (bulkhead sau pool plin): 503, ca la pool-ul de login
+@RestControllerAdvice
+public class DatabaseBusyHandler {
+
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<?> databaseBusy() {
+        return ResponseEntity.status(503)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", "Serverul este ocupat. Încearcă din nou."));
+    }
+}
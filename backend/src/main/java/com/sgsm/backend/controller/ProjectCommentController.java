@@ -43,8 +43,14 @@ public class ProjectCommentController {
         return commentService.deleteComment(projectId, commentId, userDetails.getUser());
     }
 
+    // Fără limit/cursor răspunsul rămâne forma veche {pinned, unpinned}
     @GetMapping
-    public ResponseEntity<?> getAllComments(@PathVariable Long projectId) {
+    public ResponseEntity<?> getAllComments(@PathVariable Long projectId,
+                                            @RequestParam(required = false) Integer limit,
+                                            @RequestParam(required = false) String cursor) {
+        if (limit != null || cursor != null) {
+            return commentService.getCommentFeed(projectId, limit, cursor);
+        }
         return commentService.getAllComments(projectId);
     }
 
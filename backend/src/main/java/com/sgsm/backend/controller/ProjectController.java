@@ -3,6 +3,7 @@ package com.sgsm.backend.controller;
 import com.sgsm.backend.dto.*;
 import com.sgsm.backend.model.User;
 import com.sgsm.backend.security.CustomUserDetails;
+import com.sgsm.backend.service.ProjectListingService;
 import com.sgsm.backend.service.ProjectService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -19,10 +20,24 @@ public class ProjectController {
     @Autowired
     private ProjectService projectService;
 
+    @Autowired
+    private ProjectListingService projectListingService;
+
+    // Fără parametri de paginare răspunsul rămâne lista completă (clienții vechi); cu oricare dintre ei, o pagină keyset
     @GetMapping
-    public ResponseEntity<List<ProjectWithRoleDTO>> getProjectsForUser(@AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<?> getProjectsForUser(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                @RequestParam(required = false) Integer limit,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(required = false) String sort,
+                                                @RequestParam(required = false) String q,
+                                                @RequestParam(required = false) Boolean includeTotal) {
         User user = userDetails.getUser();
 
+        if (limit != null || cursor != null || sort != null || q != null || includeTotal != null) {
+            return projectListingService.page(user, false, limit, cursor, sort, q, Boolean.TRUE.equals(includeTotal),
+                    row -> new ProjectWithRoleDTO(row.getId(), row.getTitle(), row.getDescription(), row.getRole()));
+        }
+
         // Dacă are rol global ADMIN returnează toate proiectele și simulează rolul MANAGER
         if (user.getRole() != null && "ADMIN".equals(user.getRole())) {
             return ResponseEntity.ok(projectService.getAllProjectsAsManagerView());
@@ -55,6 +70,11 @@ public class ProjectController {
         return projectService.deleteProject(projectId, user);
     }
 
+    @GetMapping("/{projectId}/deletion")
+    public ResponseEntity<?> getDeletionStatus(@PathVariable Long projectId, @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return projectService.getDeletionStatus(projectId, userDetails.getUser());
+    }
+
     @GetMapping("/{projectId}/role/self")
     public ResponseEntity<?> getUserRoleInProject(@PathVariable Long projectId, @AuthenticationPrincipal CustomUserDetails userDetails) {
         User user = userDetails.getUser();
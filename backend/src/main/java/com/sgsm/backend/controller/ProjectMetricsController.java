@@ -0,0 +1,41 @@
+package com.sgsm.backend.controller;
+
+import com.sgsm.backend.security.CustomUserDetails;
+import com.sgsm.backend.service.BoardSnapshotService;
+import com.sgsm.backend.service.FlowMetricsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/projects/{projectId}/metrics")
+public class ProjectMetricsController {
+
+    @Autowired
+    private BoardSnapshotService boardSnapshotService;
+
+    @Autowired
+    private FlowMetricsService flowMetricsService;
+
+    @GetMapping("/cfd")
+    public ResponseEntity<?> getCumulativeFlow(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return boardSnapshotService.getCfd(projectId, from, to, userDetails.getUser());
+    }
+
+    @GetMapping("/flow")
+    public ResponseEntity<?> getFlowMetrics(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return flowMetricsService.getFlowMetrics(projectId, from, to, userDetails.getUser());
+    }
+}
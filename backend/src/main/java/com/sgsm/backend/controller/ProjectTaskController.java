@@ -0,0 +1,43 @@
+package com.sgsm.backend.controller;
+
+import com.sgsm.backend.dto.TaskMoveDTO;
+import com.sgsm.backend.security.CustomUserDetails;
+import com.sgsm.backend.service.TaskImportService;
+import com.sgsm.backend.service.TaskMoveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/projects/{projectId}/tasks")
+public class ProjectTaskController {
+
+    @Autowired
+    private TaskMoveService taskMoveService;
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @PostMapping("/moves")
+    public ResponseEntity<?> moveTasks(
+            @PathVariable Long projectId,
+            @RequestBody List<TaskMoveDTO> moves,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return taskMoveService.moveTasks(projectId, moves, userDetails.getUser());
+    }
+
+    // Corpul cererii e citit ca flux: text/csv (cu antet) sau application/x-ndjson
+    @PostMapping("/import")
+    public ResponseEntity<?> importTasks(
+            @PathVariable Long projectId,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return taskImportService.importTasks(projectId, body, contentType, userDetails.getUser());
+    }
+}
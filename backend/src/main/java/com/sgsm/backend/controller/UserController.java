@@ -3,7 +3,6 @@ package com.sgsm.backend.controller;
 import com.sgsm.backend.dto.UserDTO;
 import com.sgsm.backend.dto.UserResponseDTO;
 import com.sgsm.backend.model.User;
-import com.sgsm.backend.repository.UserRepository;
 import com.sgsm.backend.security.CustomUserDetails;
 import com.sgsm.backend.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,7 +12,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Optional;
 
 @RestController
 @RequestMapping("/users")
@@ -22,15 +20,20 @@ public class UserController {
     @Autowired
     private UserService userService;
 
-    @Autowired
-    private UserRepository userRepository;
-
     @GetMapping
     public ResponseEntity<List<UserResponseDTO>> getAllUsers(@AuthenticationPrincipal CustomUserDetails userDetails) {
         User currentUser = userDetails.getUser();
         return ResponseEntity.ok(userService.getAllUsersExcept(currentUser.getId()));
     }
 
+    // Selectorul de membri: primele limit potriviri după prefixul username-ului, fără userul curent
+    @GetMapping("/search")
+    public ResponseEntity<List<UserResponseDTO>> searchUsers(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                             @RequestParam(defaultValue = "") String q,
+                                                             @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(userService.searchUsers(q, limit, userDetails.getUser().getId()));
+    }
+
     @PreAuthorize("hasAuthority('ADMIN')")
     @GetMapping("/all")
     public ResponseEntity<List<UserResponseDTO>> getAllUsersAdmin() {
@@ -52,13 +55,7 @@ public class UserController {
             return ResponseEntity.badRequest().body("Nu poți să te ștergi singur.");
         }
 
-        Optional<User> user = userRepository.findById(id);
-        if (user.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
-
-        userRepository.deleteById(id);
-        return ResponseEntity.ok("Utilizator șters cu succes.");
+        return userService.deleteUser(id);
     }
 
     @PreAuthorize("hasAuthority('ADMIN')")
@@ -0,0 +1,32 @@
+package com.sgsm.backend.dto;
+
+import java.time.LocalDate;
+
+public class CfdPointDTO {
+    private LocalDate date;
+    private long todoCount;
+    private long inProgressCount;
+    private long doneCount;
+    private long lateCount;
+
+    public CfdPointDTO() {}
+
+    public CfdPointDTO(LocalDate date) {
+        this.date = date;
+    }
+
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public long getTodoCount() { return todoCount; }
+    public void setTodoCount(long todoCount) { this.todoCount = todoCount; }
+
+    public long getInProgressCount() { return inProgressCount; }
+    public void setInProgressCount(long inProgressCount) { this.inProgressCount = inProgressCount; }
+
+    public long getDoneCount() { return doneCount; }
+    public void setDoneCount(long doneCount) { this.doneCount = doneCount; }
+
+    public long getLateCount() { return lateCount; }
+    public void setLateCount(long lateCount) { this.lateCount = lateCount; }
+}
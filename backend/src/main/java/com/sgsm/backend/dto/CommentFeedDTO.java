@@ -0,0 +1,19 @@
+package com.sgsm.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// O pagină din comentariile nepinned; pinned vine doar pe prima pagină (fără cursor)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CommentFeedDTO extends CursorPageDTO<ProjectCommentDTO> {
+
+    private final List<ProjectCommentDTO> pinned;
+
+    public CommentFeedDTO(List<ProjectCommentDTO> pinned, List<ProjectCommentDTO> items, String nextCursor) {
+        super(items, nextCursor);
+        this.pinned = pinned;
+    }
+
+    public List<ProjectCommentDTO> getPinned() { return pinned; }
+}
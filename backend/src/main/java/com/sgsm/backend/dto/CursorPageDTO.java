@@ -0,0 +1,31 @@
+package com.sgsm.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// O pagină dintr-o listare keyset; nextCursor e null pe ultima pagină, total doar dacă a fost cerut
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPageDTO<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+    private Long total;
+    private Boolean totalExact;
+
+    public CursorPageDTO(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+
+    public Long getTotal() { return total; }
+    public Boolean getTotalExact() { return totalExact; }
+
+    public void setTotal(long total, boolean exact) {
+        this.total = total;
+        this.totalExact = exact;
+    }
+}
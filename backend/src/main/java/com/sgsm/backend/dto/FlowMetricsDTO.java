@@ -0,0 +1,32 @@
+package com.sgsm.backend.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class FlowMetricsDTO {
+    private LocalDate from;
+    private LocalDate to;
+    private FlowStatsDTO project;
+    private List<FlowStatsDTO> assignees;
+
+    public FlowMetricsDTO() {}
+
+    public FlowMetricsDTO(LocalDate from, LocalDate to, FlowStatsDTO project, List<FlowStatsDTO> assignees) {
+        this.from = from;
+        this.to = to;
+        this.project = project;
+        this.assignees = assignees;
+    }
+
+    public LocalDate getFrom() { return from; }
+    public void setFrom(LocalDate from) { this.from = from; }
+
+    public LocalDate getTo() { return to; }
+    public void setTo(LocalDate to) { this.to = to; }
+
+    public FlowStatsDTO getProject() { return project; }
+    public void setProject(FlowStatsDTO project) { this.project = project; }
+
+    public List<FlowStatsDTO> getAssignees() { return assignees; }
+    public void setAssignees(List<FlowStatsDTO> assignees) { this.assignees = assignees; }
+}
@@ -0,0 +1,31 @@
+package com.sgsm.backend.dto;
+
+// Statistici de flow pentru proiect (assigneeId null) sau pentru un singur asignat
+public class FlowStatsDTO {
+    private Long assigneeId;
+    private String assigneeUsername;
+    private long completed;
+    private PercentilesDTO leadTimeHours;
+    private PercentilesDTO cycleTimeHours;
+    private PercentilesDTO throughputPerDay;
+
+    public FlowStatsDTO() {}
+
+    public Long getAssigneeId() { return assigneeId; }
+    public void setAssigneeId(Long assigneeId) { this.assigneeId = assigneeId; }
+
+    public String getAssigneeUsername() { return assigneeUsername; }
+    public void setAssigneeUsername(String assigneeUsername) { this.assigneeUsername = assigneeUsername; }
+
+    public long getCompleted() { return completed; }
+    public void setCompleted(long completed) { this.completed = completed; }
+
+    public PercentilesDTO getLeadTimeHours() { return leadTimeHours; }
+    public void setLeadTimeHours(PercentilesDTO leadTimeHours) { this.leadTimeHours = leadTimeHours; }
+
+    public PercentilesDTO getCycleTimeHours() { return cycleTimeHours; }
+    public void setCycleTimeHours(PercentilesDTO cycleTimeHours) { this.cycleTimeHours = cycleTimeHours; }
+
+    public PercentilesDTO getThroughputPerDay() { return throughputPerDay; }
+    public void setThroughputPerDay(PercentilesDTO throughputPerDay) { this.throughputPerDay = throughputPerDay; }
+}
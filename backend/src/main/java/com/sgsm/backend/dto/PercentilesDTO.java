@@ -0,0 +1,24 @@
+package com.sgsm.backend.dto;
+
+public class PercentilesDTO {
+    private double p50;
+    private double p85;
+    private double p95;
+
+    public PercentilesDTO() {}
+
+    public PercentilesDTO(double p50, double p85, double p95) {
+        this.p50 = p50;
+        this.p85 = p85;
+        this.p95 = p95;
+    }
+
+    public double getP50() { return p50; }
+    public void setP50(double p50) { this.p50 = p50; }
+
+    public double getP85() { return p85; }
+    public void setP85(double p85) { this.p85 = p85; }
+
+    public double getP95() { return p95; }
+    public void setP95(double p95) { this.p95 = p95; }
+}
@@ -15,17 +15,36 @@ public class TaskDTO {
     private Long projectId;
     private Long assignedToId;
     private String assignedToUsername;
-    private Integer position;
-
+    private String rankKey;
+    private boolean overdue;
 
     public TaskDTO() {}
 
-    public Integer getPosition() {
-        return position;
+    // Folosit de proiecțiile JPQL (SELECT new ...): un singur JOIN, fără entități în contextul de persistență
+    public TaskDTO(Long id, String title, String description, String status, String tags, LocalDateTime deadline,
+                   Long projectId, Long assignedToId, String assignedToUsername, String rankKey, boolean overdue) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.tags = tags;
+        this.deadline = deadline;
+        this.projectId = projectId;
+        this.assignedToId = assignedToId;
+        this.assignedToUsername = assignedToUsername;
+        this.rankKey = rankKey;
+        this.overdue = overdue;
     }
 
-    public void setPosition(Integer position) {
-        this.position = position;
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getRankKey() {
+        return rankKey;
+    }
+
+    public void setRankKey(String rankKey) {
+        this.rankKey = rankKey;
     }
 
     public String getTitle() { return title; }
@@ -51,6 +70,9 @@ public class TaskDTO {
     public String getAssignedToUsername() { return assignedToUsername; }
     public void setAssignedToUsername(String assignedToUsername) { this.assignedToUsername = assignedToUsername; }
 
+    public boolean isOverdue() { return overdue; }
+    public void setOverdue(boolean overdue) { this.overdue = overdue; }
+
     public TaskDTO(Task task) {
         this.id = task.getId();
         this.title = task.getTitle();
@@ -59,7 +81,8 @@ public class TaskDTO {
         this.tags = task.getTags();
         this.deadline = task.getDeadline();
         this.projectId = task.getProject().getId();
-        this.position = task.getPosition();
+        this.rankKey = task.getRankKey();
+        this.overdue = task.isOverdue();
         if (task.getAssignedTo() != null) {
             this.assignedToId = task.getAssignedTo().getId();
             this.assignedToUsername = task.getAssignedTo().getUsername();
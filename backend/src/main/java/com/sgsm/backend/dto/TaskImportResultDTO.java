@@ -0,0 +1,50 @@
+package com.sgsm.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TaskImportResultDTO {
+
+    public static class RowError {
+        private int line;
+        private String message;
+
+        public RowError() {}
+
+        public RowError(int line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public int getLine() { return line; }
+        public void setLine(int line) { this.line = line; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+
+    private long imported;
+    private long failed;
+    private List<RowError> errors = new ArrayList<>();
+    // true dacă au fost mai multe erori decât cele raportate
+    private boolean errorsTruncated;
+    // Eroarea care a oprit citirea fișierului; rândurile importate până atunci rămân salvate
+    private String fileError;
+
+    public TaskImportResultDTO() {}
+
+    public long getImported() { return imported; }
+    public void setImported(long imported) { this.imported = imported; }
+
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+
+    public List<RowError> getErrors() { return errors; }
+    public void setErrors(List<RowError> errors) { this.errors = errors; }
+
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public void setErrorsTruncated(boolean errorsTruncated) { this.errorsTruncated = errorsTruncated; }
+
+    public String getFileError() { return fileError; }
+    public void setFileError(String fileError) { this.fileError = fileError; }
+}
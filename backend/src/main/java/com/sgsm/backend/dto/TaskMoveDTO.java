@@ -0,0 +1,25 @@
+package com.sgsm.backend.dto;
+
+public class TaskMoveDTO {
+    private Long taskId;
+    private String targetStatus;
+    // Indexul în coloana finală, după aplicarea tuturor mutărilor din cerere
+    private Integer targetIndex;
+
+    public TaskMoveDTO() {}
+
+    public TaskMoveDTO(Long taskId, String targetStatus, Integer targetIndex) {
+        this.taskId = taskId;
+        this.targetStatus = targetStatus;
+        this.targetIndex = targetIndex;
+    }
+
+    public Long getTaskId() { return taskId; }
+    public void setTaskId(Long taskId) { this.taskId = taskId; }
+
+    public String getTargetStatus() { return targetStatus; }
+    public void setTargetStatus(String targetStatus) { this.targetStatus = targetStatus; }
+
+    public Integer getTargetIndex() { return targetIndex; }
+    public void setTargetIndex(Integer targetIndex) { this.targetIndex = targetIndex; }
+}
@@ -11,6 +11,7 @@ public class TaskUpdateDTO {
     private LocalDateTime deadline;
     private Long assignedToId;
 
+    // Indexul țintă în coloana statusului nou (null = fără mutare, sau la final dacă se schimbă statusul)
     private Integer position;
 
 
@@ -0,0 +1,10 @@
+package com.sgsm.backend.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Publicat în tranzacția sweeper-ului pentru taskurile care tocmai au devenit întârziate
+public record TasksOverdueEvent(List<OverdueTask> tasks) {
+
+    public record OverdueTask(Long taskId, Long projectId, Long assigneeId, LocalDateTime deadline) {}
+}
@@ -0,0 +1,35 @@
+package com.sgsm.backend.model;
+
+import jakarta.persistence.*;
+
+// Serie de timp pentru cumulative flow: câte taskuri avea fiecare status la un moment dat.
+// Rândurile orare sunt copiate din contoare și comprimate noaptea într-un rând pe zi.
+@Entity
+@Table(name = "board_snapshots", indexes = {
+        @Index(name = "idx_board_snapshots_range", columnList = "project_id, granularity, bucket")
+})
+public class BoardSnapshot {
+
+    public static final String HOUR = "HOUR";
+    public static final String DAY = "DAY";
+
+    @EmbeddedId
+    private BoardSnapshotId id;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    @Column(name = "overdue_count", nullable = false)
+    private long overdueCount;
+
+    public BoardSnapshot() {}
+
+    public BoardSnapshotId getId() { return id; }
+    public void setId(BoardSnapshotId id) { this.id = id; }
+
+    public long getTaskCount() { return taskCount; }
+    public void setTaskCount(long taskCount) { this.taskCount = taskCount; }
+
+    public long getOverdueCount() { return overdueCount; }
+    public void setOverdueCount(long overdueCount) { this.overdueCount = overdueCount; }
+}
@@ -0,0 +1,61 @@
+package com.sgsm.backend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Embeddable
+public class BoardSnapshotId implements Serializable {
+    @Column(name = "project_id")
+    private Long projectId;
+
+    // HOUR sau DAY
+    @Column(name = "granularity", length = 8)
+    private String granularity;
+
+    // Începutul orei, respectiv al zilei
+    @Column(name = "bucket")
+    private LocalDateTime bucket;
+
+    @Column(name = "status")
+    private String status;
+
+    public BoardSnapshotId() {}
+
+    public BoardSnapshotId(Long projectId, String granularity, LocalDateTime bucket, String status) {
+        this.projectId = projectId;
+        this.granularity = granularity;
+        this.bucket = bucket;
+        this.status = status;
+    }
+
+    public Long getProjectId() { return projectId; }
+    public void setProjectId(Long projectId) { this.projectId = projectId; }
+
+    public String getGranularity() { return granularity; }
+    public void setGranularity(String granularity) { this.granularity = granularity; }
+
+    public LocalDateTime getBucket() { return bucket; }
+    public void setBucket(LocalDateTime bucket) { this.bucket = bucket; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BoardSnapshotId)) return false;
+        BoardSnapshotId that = (BoardSnapshotId) o;
+        return Objects.equals(projectId, that.projectId) &&
+                Objects.equals(granularity, that.granularity) &&
+                Objects.equals(bucket, that.bucket) &&
+                Objects.equals(status, that.status);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(projectId, granularity, bucket, status);
+    }
+}
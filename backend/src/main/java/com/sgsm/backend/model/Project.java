@@ -2,11 +2,19 @@ package com.sgsm.backend.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.SQLRestriction;
+
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 
+// Un proiect marcat ca șters dispare din toate citirile prin entitate; rândurile copil sunt șterse de ProjectPurger
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_title_key", columnList = "title_key, id"),
+        @Index(name = "idx_projects_created", columnList = "created_at, id")
+})
+@SQLRestriction("deleted_at IS NULL")
 public class Project {
 
     @Id
@@ -15,10 +23,23 @@ public class Project {
 
     private String title;
 
+    // Titlul în litere mici, pentru sortarea și căutarea după prefix fără diferențe de majuscule
+    @JsonIgnore
+    @Column(name = "title_key")
+    private String titleKey;
+
     private String description;
 
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    @JsonIgnore
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    @JsonIgnore
+    @Column(name = "deleted_by")
+    private Long deletedBy;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL)
     @JsonIgnore
     private List<Task> tasks;
@@ -45,18 +66,36 @@ public class Project {
         this.description=description;
     }
 
+    @PrePersist
+    @PreUpdate
+    void refreshTitleKey() {
+        this.titleKey = titleKey(title);
+    }
+
+    public static String titleKey(String title) {
+        return title == null ? "" : title.toLowerCase(Locale.ROOT);
+    }
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
 
+    public String getTitleKey() { return titleKey; }
+
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
 
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+    public void setDeletedAt(LocalDateTime deletedAt) { this.deletedAt = deletedAt; }
+
+    public Long getDeletedBy() { return deletedBy; }
+    public void setDeletedBy(Long deletedBy) { this.deletedBy = deletedBy; }
+
     public List<Task> getTasks() { return tasks; }
     public void setTasks(List<Task> tasks) { this.tasks = tasks; }
 
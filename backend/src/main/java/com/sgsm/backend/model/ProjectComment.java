@@ -4,6 +4,9 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "project_comment", indexes = {
+        @Index(name = "idx_comments_feed", columnList = "project_id, pinned, created_at, id")
+})
 public class ProjectComment {
 
     @Id
@@ -15,11 +18,11 @@ public class ProjectComment {
 
     private LocalDateTime createdAt;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
 
@@ -1,11 +1,13 @@
 package com.sgsm.backend.model;
 
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "project_members")
-public class ProjectMember {
+public class ProjectMember implements Persistable<ProjectMemberId> {
 
     @EmbeddedId
     private ProjectMemberId id;
@@ -24,6 +26,10 @@ public class ProjectMember {
 
     private LocalDateTime joinedAt = LocalDateTime.now();
 
+    // Cheia e compusă și atribuită manual, deci saveAll() trebuie să facă INSERT-uri în batch, fără SELECT prealabil
+    @Transient
+    private boolean isNew = true;
+
     public ProjectMember() {}
 
     public ProjectMember(ProjectMemberId id, User user, Project project, String role, LocalDateTime joinedAt) {
@@ -37,9 +43,19 @@ public class ProjectMember {
     public ProjectMember(String member) {
     }
 
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public ProjectMemberId getId() { return id; }
     public void setId(ProjectMemberId id) { this.id = id; }
 
+    @Override
+    public boolean isNew() { return isNew; }
+
     public User getUser() { return user; }
     public void setUser(User user) {
         this.user = user;
@@ -0,0 +1,52 @@
+package com.sgsm.backend.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.domain.Persistable;
+
+// Model de citire: numărul de taskuri per proiect și status, actualizat odată cu taskurile
+@Entity
+@Table(name = "project_task_counters")
+public class ProjectTaskCounter implements Persistable<ProjectTaskCounterId> {
+
+    @EmbeddedId
+    private ProjectTaskCounterId id;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    @ColumnDefault("0")
+    @Column(name = "overdue_count", nullable = false)
+    private long overdueCount;
+
+    // Cheia e atribuită manual, deci save() trebuie să facă INSERT direct, fără SELECT prealabil
+    @Transient
+    private boolean isNew = true;
+
+    public ProjectTaskCounter() {}
+
+    public ProjectTaskCounter(ProjectTaskCounterId id, long taskCount, long overdueCount) {
+        this.id = id;
+        this.taskCount = taskCount;
+        this.overdueCount = overdueCount;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public ProjectTaskCounterId getId() { return id; }
+    public void setId(ProjectTaskCounterId id) { this.id = id; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    public long getTaskCount() { return taskCount; }
+    public void setTaskCount(long taskCount) { this.taskCount = taskCount; }
+
+    public long getOverdueCount() { return overdueCount; }
+    public void setOverdueCount(long overdueCount) { this.overdueCount = overdueCount; }
+}
@@ -0,0 +1,42 @@
+package com.sgsm.backend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class ProjectTaskCounterId implements Serializable {
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "status")
+    private String status;
+
+    public ProjectTaskCounterId() {}
+
+    public ProjectTaskCounterId(Long projectId, String status) {
+        this.projectId = projectId;
+        this.status = status;
+    }
+
+    public Long getProjectId() { return projectId; }
+    public void setProjectId(Long projectId) { this.projectId = projectId; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ProjectTaskCounterId)) return false;
+        ProjectTaskCounterId that = (ProjectTaskCounterId) o;
+        return Objects.equals(projectId, that.projectId) &&
+                Objects.equals(status, that.status);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(projectId, status);
+    }
+}
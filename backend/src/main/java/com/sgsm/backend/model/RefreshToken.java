@@ -0,0 +1,62 @@
+package com.sgsm.backend.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// Token de reîmprospătare opac; în baza de date stă doar digest-ul lui
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_user", columnList = "user_id")
+})
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    // Fără cheie străină: ștergerea userului nu trebuie să țină cont de sesiunile lui
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // Versiunea credențialelor la emitere; o schimbare de parolă invalidează și tokenurile de refresh
+    @Column(name = "credentials_version", nullable = false)
+    private long credentialsVersion;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Setat la rotire sau logout; reutilizarea unui token rotit revocă toate sesiunile userului
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    public RefreshToken() {}
+
+    public RefreshToken(String tokenHash, Long userId, long credentialsVersion, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.credentialsVersion = credentialsVersion;
+        this.expiresAt = expiresAt;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTokenHash() { return tokenHash; }
+    public void setTokenHash(String tokenHash) { this.tokenHash = tokenHash; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public long getCredentialsVersion() { return credentialsVersion; }
+    public void setCredentialsVersion(long credentialsVersion) { this.credentialsVersion = credentialsVersion; }
+
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(LocalDateTime expiresAt) { this.expiresAt = expiresAt; }
+
+    public LocalDateTime getRevokedAt() { return revokedAt; }
+    public void setRevokedAt(LocalDateTime revokedAt) { this.revokedAt = revokedAt; }
+}
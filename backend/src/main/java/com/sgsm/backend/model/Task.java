@@ -1,11 +1,16 @@
 package com.sgsm.backend.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_deadline", columnList = "deadline, id"),
+        @Index(name = "idx_tasks_assigned_overdue", columnList = "assigned_to, overdue"),
+        @Index(name = "idx_tasks_column_rank", columnList = "project_id, status, rank_key")
+})
 public class Task {
 
     @Id
@@ -16,25 +21,30 @@ public class Task {
 
     private String description;
 
-    private String status; // TO_DO, IN_PROGRESS, DONE, LATE
+    private String status; // TO_DO, IN_PROGRESS, DONE (LATE = flagul overdue)
 
     private LocalDateTime deadline;
 
+    // Starea LATE materializată de OverdueSweeper (deadline depășit și task nefinalizat)
+    @ColumnDefault("false")
+    @Column(name = "overdue", nullable = false)
+    private boolean overdue;
 
     private String tags;
 
     private LocalDateTime createdAt = LocalDateTime.now();
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id")
     private Project project;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_to")
     private User assignedTo;
 
-    @Column(name = "position")
-    private Integer position;
+    // Ordinea în coloană (vezi RankKey); o mutare rescrie doar această valoare
+    @Column(name = "rank_key", length = 64)
+    private String rankKey;
 
 
     public Task() {}
@@ -50,12 +60,12 @@ public class Task {
         this.assignedTo = assignedTo;
     }
 
-    public Integer getPosition() {
-        return position;
+    public String getRankKey() {
+        return rankKey;
     }
 
-    public void setPosition(Integer position) {
-        this.position = position;
+    public void setRankKey(String rankKey) {
+        this.rankKey = rankKey;
     }
 
     public Long getId() { return id; }
@@ -73,6 +83,14 @@ public class Task {
     public LocalDateTime getDeadline() { return deadline; }
     public void setDeadline(LocalDateTime deadline) { this.deadline = deadline; }
 
+    public boolean isOverdue() { return overdue; }
+    public void setOverdue(boolean overdue) { this.overdue = overdue; }
+
+    // Recalculat la fiecare scriere; sweeper-ul marchează doar taskurile a căror deadline trece între scrieri
+    public void refreshOverdue(LocalDateTime now) {
+        this.overdue = deadline != null && deadline.isBefore(now) && !"DONE".equals(status);
+    }
+
     public String getTags() { return tags; }
     public void setTags(String tags) { this.tags = tags; }
 
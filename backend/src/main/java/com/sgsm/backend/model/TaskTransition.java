@@ -0,0 +1,73 @@
+package com.sgsm.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Jurnal append-only al schimbărilor de status; fromStatus e null la crearea taskului
+@Entity
+@Table(name = "task_transitions", indexes = {
+        @Index(name = "idx_transitions_project_to", columnList = "project_id, to_status, changed_at"),
+        @Index(name = "idx_transitions_task", columnList = "task_id, changed_at")
+})
+public class TaskTransition {
+
+    // Secvență cu alocare pe blocuri, ca inserările de tranziții să poată fi trimise în batch
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_transitions_seq")
+    @SequenceGenerator(name = "task_transitions_seq", sequenceName = "task_transitions_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "from_status")
+    private String fromStatus;
+
+    @Column(name = "to_status", nullable = false)
+    private String toStatus;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    public TaskTransition() {}
+
+    public TaskTransition(Task task, String fromStatus, User actor, LocalDateTime changedAt) {
+        this.taskId = task.getId();
+        this.projectId = task.getProject().getId();
+        this.fromStatus = fromStatus;
+        this.toStatus = task.getStatus();
+        this.changedAt = changedAt;
+        this.actorId = actor != null ? actor.getId() : null;
+        this.assigneeId = task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+    }
+
+    // Pentru taskurile inserate fără entitate (importul în masă)
+    public TaskTransition(Long taskId, Long projectId, String fromStatus, String toStatus, LocalDateTime changedAt,
+                          Long actorId, Long assigneeId) {
+        this.taskId = taskId;
+        this.projectId = projectId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.changedAt = changedAt;
+        this.actorId = actorId;
+        this.assigneeId = assigneeId;
+    }
+
+    public Long getId() { return id; }
+    public Long getTaskId() { return taskId; }
+    public Long getProjectId() { return projectId; }
+    public String getFromStatus() { return fromStatus; }
+    public String getToStatus() { return toStatus; }
+    public LocalDateTime getChangedAt() { return changedAt; }
+    public Long getActorId() { return actorId; }
+    public Long getAssigneeId() { return assigneeId; }
+}
@@ -1,6 +1,7 @@
 package com.sgsm.backend.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "users")
@@ -18,6 +19,11 @@ public class User {
 
     private String role; // ex: USER, ADMIN
 
+    // Crește la schimbarea username-ului/parolei/rolului; tokenurile emise cu o versiune veche sunt respinse
+    @ColumnDefault("0")
+    @Column(name = "credentials_version", nullable = false)
+    private long credentialsVersion;
+
     public User() {}
 
     public User(Long id, String username, String email, String password, String role) {
@@ -42,5 +48,8 @@ public class User {
 
     public String getRole() { return role; }
     public void setRole(String role) { this.role = role; }
+
+    public long getCredentialsVersion() { return credentialsVersion; }
+    public void setCredentialsVersion(long credentialsVersion) { this.credentialsVersion = credentialsVersion; }
 }
 
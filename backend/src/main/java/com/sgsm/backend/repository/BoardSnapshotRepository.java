@@ -0,0 +1,49 @@
+package com.sgsm.backend.repository;
+
+import com.sgsm.backend.model.BoardSnapshot;
+import com.sgsm.backend.model.BoardSnapshotId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BoardSnapshotRepository extends JpaRepository<BoardSnapshot, BoardSnapshotId> {
+
+    // Copiază toate contoarele într-o singură instrucțiune; NOT EXISTS face rularea repetată (sau pe alt nod) inofensivă
+    @Modifying
+    @Query(value = "INSERT INTO board_snapshots (project_id, granularity, bucket, status, task_count, overdue_count) " +
+            "SELECT c.project_id, 'HOUR', :bucket, c.status, c.task_count, c.overdue_count " +
+            "FROM project_task_counters c " +
+            "WHERE NOT EXISTS (SELECT 1 FROM board_snapshots s WHERE s.project_id = c.project_id " +
+            "AND s.granularity = 'HOUR' AND s.bucket = :bucket AND s.status = c.status)", nativeQuery = true)
+    int snapshotHour(@Param("bucket") LocalDateTime bucket);
+
+    // Valoarea zilei = ultimul snapshot orar din acea zi, per proiect și status
+    @Modifying
+    @Query(value = "INSERT INTO board_snapshots (project_id, granularity, bucket, status, task_count, overdue_count) " +
+            "SELECT h.project_id, 'DAY', :dayStart, h.status, h.task_count, h.overdue_count " +
+            "FROM board_snapshots h " +
+            "WHERE h.granularity = 'HOUR' AND h.bucket >= :dayStart AND h.bucket < :dayEnd " +
+            "AND h.bucket = (SELECT MAX(h2.bucket) FROM board_snapshots h2 WHERE h2.project_id = h.project_id " +
+            "AND h2.granularity = 'HOUR' AND h2.status = h.status AND h2.bucket >= :dayStart AND h2.bucket < :dayEnd) " +
+            "AND NOT EXISTS (SELECT 1 FROM board_snapshots d WHERE d.project_id = h.project_id " +
+            "AND d.granularity = 'DAY' AND d.bucket = :dayStart AND d.status = h.status)", nativeQuery = true)
+    int rollupDay(@Param("dayStart") LocalDateTime dayStart, @Param("dayEnd") LocalDateTime dayEnd);
+
+    @Modifying
+    @Query("DELETE FROM BoardSnapshot s WHERE s.id.granularity = 'HOUR' AND s.id.bucket < :before")
+    int deleteHourlyBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM BoardSnapshot s WHERE s.id.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT s FROM BoardSnapshot s WHERE s.id.projectId = :projectId AND s.id.granularity = 'DAY' " +
+            "AND s.id.bucket >= :from AND s.id.bucket <= :to ORDER BY s.id.bucket")
+    List<BoardSnapshot> findDaily(@Param("projectId") Long projectId,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,10 @@
+package com.sgsm.backend.repository;
+
+import java.time.LocalDateTime;
+
+// Proiect marcat ca șters, încă neeliminat (invizibil pentru interogările pe entitatea Project)
+public interface DeletedProject {
+    Long getId();
+    Long getDeletedBy();
+    LocalDateTime getDeletedAt();
+}
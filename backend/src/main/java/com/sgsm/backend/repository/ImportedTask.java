@@ -0,0 +1,8 @@
+package com.sgsm.backend.repository;
+
+// Task inserat de import (COPY nu întoarce id-urile): doar ce trebuie pentru tranziția de creare
+public interface ImportedTask {
+    Long getId();
+    String getStatus();
+    Long getAssigneeId();
+}
@@ -0,0 +1,7 @@
+package com.sgsm.backend.repository;
+
+// Id și username pentru un membru de proiect, fără încărcarea entității User
+public interface MemberRef {
+    Long getId();
+    String getUsername();
+}
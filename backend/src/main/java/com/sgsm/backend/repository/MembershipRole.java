@@ -0,0 +1,7 @@
+package com.sgsm.backend.repository;
+
+// Rolul unui user într-un proiect (rând din project_members fără entitățile asociate)
+public interface MembershipRole {
+    Long getProjectId();
+    String getRole();
+}
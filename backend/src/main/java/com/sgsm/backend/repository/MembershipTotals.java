@@ -0,0 +1,7 @@
+package com.sgsm.backend.repository;
+
+// Rând agregat: număr de proiecte și număr de membri distincți
+public interface MembershipTotals {
+    long getProjects();
+    long getMembers();
+}
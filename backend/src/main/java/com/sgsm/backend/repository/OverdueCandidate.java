@@ -0,0 +1,12 @@
+package com.sgsm.backend.repository;
+
+import java.time.LocalDateTime;
+
+// Rând blocat de OverdueSweeper: doar coloanele necesare pentru contoare și evenimente
+public interface OverdueCandidate {
+    Long getId();
+    Long getProjectId();
+    String getStatus();
+    Long getAssigneeId();
+    LocalDateTime getDeadline();
+}
@@ -1,8 +1,13 @@
 package com.sgsm.backend.repository;
 
+import com.sgsm.backend.dto.ProjectCommentDTO;
 import com.sgsm.backend.model.ProjectComment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ProjectCommentRepository extends JpaRepository<ProjectComment, Long> {
@@ -12,4 +17,23 @@ public interface ProjectCommentRepository extends JpaRepository<ProjectComment,
 
     List<ProjectComment> findByProjectIdAndPinnedFalseOrderByCreatedAtDesc(Long projectId);
 
+    // Variantele de mai sus ca proiecții cu autorul în același JOIN, pe idx_comments_feed
+    @Query("SELECT new com.sgsm.backend.dto.ProjectCommentDTO(c.id, c.content, a.username, c.createdAt, c.pinned) " +
+            "FROM ProjectComment c JOIN c.author a WHERE c.project.id = :projectId AND c.pinned = true " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ProjectCommentDTO> findDtosByProjectIdAndPinnedTrue(@Param("projectId") Long projectId);
+
+    @Query("SELECT new com.sgsm.backend.dto.ProjectCommentDTO(c.id, c.content, a.username, c.createdAt, c.pinned) " +
+            "FROM ProjectComment c JOIN c.author a WHERE c.project.id = :projectId AND c.pinned = false " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ProjectCommentDTO> findDtosByProjectIdAndPinnedFalse(@Param("projectId") Long projectId);
+
+    // O pagină din feed: comentariile nepinned strict mai vechi decât cursorul (createdAt, id)
+    @Query("SELECT new com.sgsm.backend.dto.ProjectCommentDTO(c.id, c.content, a.username, c.createdAt, c.pinned) " +
+            "FROM ProjectComment c JOIN c.author a WHERE c.project.id = :projectId AND c.pinned = false " +
+            "AND (c.createdAt, c.id) < (:beforeCreated, :beforeId) ORDER BY c.createdAt DESC, c.id DESC")
+    List<ProjectCommentDTO> findDtosByProjectIdAndPinnedFalseBefore(@Param("projectId") Long projectId,
+                                                                   @Param("beforeCreated") LocalDateTime beforeCreated,
+                                                                   @Param("beforeId") Long beforeId, Limit limit);
+
 }
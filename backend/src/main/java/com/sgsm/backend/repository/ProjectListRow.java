@@ -0,0 +1,13 @@
+package com.sgsm.backend.repository;
+
+import java.time.LocalDateTime;
+
+// Un rând din listarea paginată de proiecte; titleKey și createdAt construiesc cursorul paginii următoare
+public interface ProjectListRow {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    String getTitleKey();
+    LocalDateTime getCreatedAt();
+    String getRole();
+}
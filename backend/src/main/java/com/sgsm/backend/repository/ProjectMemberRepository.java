@@ -1,23 +1,68 @@
 package com.sgsm.backend.repository;
 
+import com.sgsm.backend.dto.ProjectMemberDTO;
+import com.sgsm.backend.dto.ProjectWithRoleDTO;
 import com.sgsm.backend.model.ProjectMember;
 import com.sgsm.backend.model.ProjectMemberId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ProjectMemberRepository extends JpaRepository<ProjectMember, ProjectMemberId> {
 
-    List<ProjectMember> findByUserId(Long userId);
+    // Proiectele userului cu rolul lui într-un singur query (asocierile eager ar încărca fiecare proiect separat)
+    @Query("SELECT new com.sgsm.backend.dto.ProjectWithRoleDTO(p.id, p.title, p.description, pm.role) " +
+            "FROM ProjectMember pm JOIN pm.project p WHERE pm.id.userId = :userId")
+    List<ProjectWithRoleDTO> findProjectsWithRoleByUserId(@Param("userId") Long userId);
 
     Optional<ProjectMember> findByUserIdAndProjectId(Long userId, Long projectId);
 
     boolean existsByUserIdAndProjectId(Long userId, Long projectId);
 
-    List<ProjectMember> findByProjectId(Long projectId);
+    @Query("SELECT new com.sgsm.backend.dto.ProjectMemberDTO(u.id, u.username, pm.role) " +
+            "FROM ProjectMember pm JOIN pm.user u WHERE pm.id.projectId = :projectId")
+    List<ProjectMemberDTO> findMemberDtosByProjectId(@Param("projectId") Long projectId);
     List<ProjectMember> findByProjectIdIn(List<Long> projectIds);
 
     boolean existsByProjectIdAndUserId(Long projectId, Long userId);
 
+    long countByUserId(Long userId);
+
+    @Query("SELECT pm.id.userId FROM ProjectMember pm WHERE pm.id.projectId = :projectId AND pm.role = :role")
+    List<Long> findUserIdsByProjectIdAndRole(@Param("projectId") Long projectId, @Param("role") String role);
+
+    @Query("SELECT pm.id.userId FROM ProjectMember pm WHERE pm.id.projectId = :projectId")
+    List<Long> findUserIdsByProjectId(@Param("projectId") Long projectId);
+
+    // Un singur DELETE pentru toți membrii eliminați (vezi ProjectMembershipSync)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ProjectMember pm WHERE pm.id.projectId = :projectId AND pm.id.userId IN :userIds")
+    int deleteByProjectIdAndUserIdIn(@Param("projectId") Long projectId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ProjectMember pm WHERE pm.id.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    // Toate rolurile unui user, pentru MembershipCache
+    @Query("SELECT pm.id.projectId AS projectId, pm.role AS role FROM ProjectMember pm WHERE pm.id.userId = :userId")
+    List<MembershipRole> findRolesByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT u.id AS id, u.username AS username FROM ProjectMember pm JOIN pm.user u WHERE pm.id.projectId = :projectId")
+    List<MemberRef> findMemberRefsByProjectId(@Param("projectId") Long projectId);
+
+    // Proiectele gestionate de user și membrii distincți din ele, într-un singur query
+    @Query("SELECT COUNT(DISTINCT m.id.projectId) AS projects, COUNT(DISTINCT pm.id.userId) AS members " +
+            "FROM ProjectMember m, ProjectMember pm " +
+            "WHERE m.id.userId = :userId AND m.role = 'MANAGER' AND pm.id.projectId = m.id.projectId")
+    MembershipTotals countManagedTotals(@Param("userId") Long userId);
+
+    @Query("SELECT (SELECT COUNT(p) FROM Project p) AS projects, COUNT(DISTINCT pm.id.userId) AS members " +
+            "FROM ProjectMember pm")
+    MembershipTotals countGlobalTotals();
+
 }
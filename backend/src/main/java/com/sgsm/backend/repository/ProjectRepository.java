@@ -1,7 +1,73 @@
 package com.sgsm.backend.repository;
 
 import com.sgsm.backend.model.Project;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    // Listări keyset: (cheie de sortare, id) strict după cursor, pe idx_projects_title_key / idx_projects_created.
+    // pattern e prefixul căutat (deja în litere mici, cu % și _ escapate prin '!'), sau "%" fără căutare.
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description, p.titleKey AS titleKey, " +
+            "p.createdAt AS createdAt, 'MANAGER' AS role FROM Project p " +
+            "WHERE p.titleKey LIKE :pattern ESCAPE '!' AND (p.titleKey, p.id) > (:afterKey, :afterId) " +
+            "ORDER BY p.titleKey, p.id")
+    List<ProjectListRow> pageAllByTitle(@Param("pattern") String pattern, @Param("afterKey") String afterKey,
+                                        @Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description, p.titleKey AS titleKey, " +
+            "p.createdAt AS createdAt, 'MANAGER' AS role FROM Project p " +
+            "WHERE p.titleKey LIKE :pattern ESCAPE '!' AND (p.createdAt, p.id) < (:beforeCreated, :beforeId) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProjectListRow> pageAllByNewest(@Param("pattern") String pattern,
+                                         @Param("beforeCreated") LocalDateTime beforeCreated,
+                                         @Param("beforeId") Long beforeId, Limit limit);
+
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description, p.titleKey AS titleKey, " +
+            "p.createdAt AS createdAt, pm.role AS role FROM ProjectMember pm JOIN pm.project p " +
+            "WHERE pm.id.userId = :userId AND p.titleKey LIKE :pattern ESCAPE '!' " +
+            "AND (p.titleKey, p.id) > (:afterKey, :afterId) ORDER BY p.titleKey, p.id")
+    List<ProjectListRow> pageForMemberByTitle(@Param("userId") Long userId, @Param("pattern") String pattern,
+                                              @Param("afterKey") String afterKey, @Param("afterId") Long afterId,
+                                              Limit limit);
+
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description, p.titleKey AS titleKey, " +
+            "p.createdAt AS createdAt, pm.role AS role FROM ProjectMember pm JOIN pm.project p " +
+            "WHERE pm.id.userId = :userId AND p.titleKey LIKE :pattern ESCAPE '!' " +
+            "AND (p.createdAt, p.id) < (:beforeCreated, :beforeId) ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProjectListRow> pageForMemberByNewest(@Param("userId") Long userId, @Param("pattern") String pattern,
+                                               @Param("beforeCreated") LocalDateTime beforeCreated,
+                                               @Param("beforeId") Long beforeId, Limit limit);
+
+    // Numărare plafonată: se oprește după :cap rânduri, deci costul nu crește cu tabela
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM projects p WHERE p.deleted_at IS NULL " +
+            "AND p.title_key LIKE :pattern ESCAPE '!' LIMIT :cap) c", nativeQuery = true)
+    long countAllCapped(@Param("pattern") String pattern, @Param("cap") int cap);
+
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM project_members pm JOIN projects p ON p.id = pm.project_id " +
+            "WHERE pm.user_id = :userId AND p.deleted_at IS NULL AND p.title_key LIKE :pattern ESCAPE '!' " +
+            "LIMIT :cap) c", nativeQuery = true)
+    long countForMemberCapped(@Param("userId") Long userId, @Param("pattern") String pattern, @Param("cap") int cap);
+
+    // Interogări native: restricția deleted_at IS NULL de pe entitate nu se aplică aici
+    @Query(value = "SELECT id AS id, deleted_by AS deletedBy, deleted_at AS deletedAt FROM projects " +
+            "WHERE id = :id AND deleted_at IS NOT NULL", nativeQuery = true)
+    Optional<DeletedProject> findDeletedById(@Param("id") Long id);
+
+    @Query("SELECT p.id FROM Project p")
+    List<Long> findAllIds();
+
+    @Query(value = "SELECT id FROM projects WHERE deleted_at IS NOT NULL ORDER BY deleted_at", nativeQuery = true)
+    List<Long> findDeletedIds();
+
+    @Modifying
+    @Query(value = "DELETE FROM projects WHERE id = :id AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeDeleted(@Param("id") Long id);
 }
@@ -0,0 +1,9 @@
+package com.sgsm.backend.repository;
+
+// Rând agregat: câte taskuri (și câte întârziate) are un proiect într-un anumit status
+public interface ProjectStatusCount {
+    Long getProjectId();
+    String getStatus();
+    long getTotal();
+    long getOverdue();
+}
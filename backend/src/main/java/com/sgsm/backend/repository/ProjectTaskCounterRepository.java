@@ -0,0 +1,56 @@
+package com.sgsm.backend.repository;
+
+import com.sgsm.backend.model.ProjectTaskCounter;
+import com.sgsm.backend.model.ProjectTaskCounterId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProjectTaskCounterRepository extends JpaRepository<ProjectTaskCounter, ProjectTaskCounterId> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ProjectTaskCounter c WHERE c.id = :id")
+    Optional<ProjectTaskCounter> findForUpdate(@Param("id") ProjectTaskCounterId id);
+
+    @Modifying
+    @Query("UPDATE ProjectTaskCounter c SET c.taskCount = c.taskCount + :delta, " +
+            "c.overdueCount = c.overdueCount + :overdueDelta " +
+            "WHERE c.id.projectId = :projectId AND c.id.status = :status")
+    int addToCount(@Param("projectId") Long projectId, @Param("status") String status,
+                   @Param("delta") long delta, @Param("overdueDelta") long overdueDelta);
+
+    @Modifying
+    @Query("UPDATE ProjectTaskCounter c SET c.taskCount = :taskCount, c.overdueCount = :overdueCount " +
+            "WHERE c.id.projectId = :projectId AND c.id.status = :status")
+    int setCounts(@Param("projectId") Long projectId, @Param("status") String status,
+                  @Param("taskCount") long taskCount, @Param("overdueCount") long overdueCount);
+
+    // Primul writer pentru un rând lipsă: la o inserare concurentă (PostgreSQL așteaptă commit-ul celeilalte)
+    // nu se inserează nimic și se întoarce 0, fără eroare de cheie duplicată
+    @Modifying
+    @Query(value = "INSERT INTO project_task_counters (project_id, status, task_count, overdue_count) " +
+            "VALUES (:projectId, :status, :taskCount, :overdueCount) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("projectId") Long projectId, @Param("status") String status,
+                       @Param("taskCount") long taskCount, @Param("overdueCount") long overdueCount);
+
+    @Query("SELECT c.id.status AS status, SUM(c.taskCount) AS total, SUM(c.overdueCount) AS late " +
+            "FROM ProjectTaskCounter c GROUP BY c.id.status")
+    List<TaskStatusCount> sumByStatus();
+
+    @Query("SELECT c.id.status AS status, SUM(c.taskCount) AS total, SUM(c.overdueCount) AS late " +
+            "FROM ProjectTaskCounter c " +
+            "WHERE c.id.projectId IN (" +
+            "SELECT pm.id.projectId FROM ProjectMember pm WHERE pm.id.userId = :userId AND pm.role = 'MANAGER') " +
+            "GROUP BY c.id.status")
+    List<TaskStatusCount> sumByStatusForManager(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM ProjectTaskCounter c WHERE c.id.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,12 @@
+package com.sgsm.backend.repository;
+
+import java.time.LocalDateTime;
+
+// Un task finalizat, redus din jurnalul de tranziții la momentele care contează pentru flow
+public interface TaskFlowRow {
+    Long getTaskId();
+    Long getAssigneeId();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getStartedAt();
+    LocalDateTime getDoneAt();
+}
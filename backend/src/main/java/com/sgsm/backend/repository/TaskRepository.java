@@ -1,11 +1,18 @@
 package com.sgsm.backend.repository;
 
+import com.sgsm.backend.dto.TaskDTO;
 import com.sgsm.backend.model.Task;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByProjectId(Long projectId);
@@ -19,14 +26,93 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     List<Task> findByProjectIdIn(List<Long> projectIds);
 
-    List<Task> findByProjectIdOrderByStatusAscPositionAsc(Long projectId);
-    List<Task> findByProjectIdAndStatusOrderByPositionAsc(Long projectId, String status);
+    List<Task> findByProjectIdOrderByStatusAscRankKeyAscIdAsc(Long projectId);
 
+    // Listări pentru board și „taskurile mele”: proiecție directă în TaskDTO, un singur SELECT cu JOIN pe asignat
+    @Query("SELECT new com.sgsm.backend.dto.TaskDTO(t.id, t.title, t.description, t.status, t.tags, t.deadline, " +
+            "t.project.id, u.id, u.username, t.rankKey, t.overdue) " +
+            "FROM Task t LEFT JOIN t.assignedTo u WHERE t.project.id = :projectId AND t.project.deletedAt IS NULL " +
+            "ORDER BY t.status, t.rankKey, t.id")
+    List<TaskDTO> findBoardByProjectId(@Param("projectId") Long projectId);
 
-    @Query("SELECT COALESCE(MAX(t.position), 0) FROM Task t WHERE t.status = :status AND t.project.id = :projectId")
-    int findMaxPositionByStatusAndProjectId(@Param("status") String status, @Param("projectId") Long projectId);
+    @Query("SELECT new com.sgsm.backend.dto.TaskDTO(t.id, t.title, t.description, t.status, t.tags, t.deadline, " +
+            "t.project.id, u.id, u.username, t.rankKey, t.overdue) " +
+            "FROM Task t JOIN t.assignedTo u WHERE u.id = :userId AND t.project.deletedAt IS NULL ORDER BY t.id")
+    List<TaskDTO> findDtosByAssignedToId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.sgsm.backend.dto.TaskDTO(t.id, t.title, t.description, t.status, t.tags, t.deadline, " +
+            "t.project.id, u.id, u.username, t.rankKey, t.overdue) " +
+            "FROM Task t LEFT JOIN t.assignedTo u WHERE t.project.deletedAt IS NULL ORDER BY t.id")
+    List<TaskDTO> findAllDtos();
+
+    // Rândurile unui lot de import: create la momentul lotului și încă fără tranziția de creare
+    @Query("SELECT t.id AS id, t.status AS status, u.id AS assigneeId FROM Task t LEFT JOIN t.assignedTo u " +
+            "WHERE t.project.id = :projectId AND t.createdAt = :createdAt " +
+            "AND NOT EXISTS (SELECT 1 FROM TaskTransition tr WHERE tr.taskId = t.id)")
+    List<ImportedTask> findImportedWithoutTransition(@Param("projectId") Long projectId,
+                                                     @Param("createdAt") LocalDateTime createdAt);
+
+    @Query("SELECT MAX(t.rankKey) FROM Task t WHERE t.project.id = :projectId AND t.status = :status")
+    String findMaxRankKey(@Param("projectId") Long projectId, @Param("status") String status);
+
+    // Cheile vecinilor pentru inserarea la un index (fără taskul mutat), citite doar din idx_tasks_column_rank
+    @Query(value = "SELECT rank_key FROM tasks WHERE project_id = :projectId AND status = :status AND id <> :excludeId " +
+            "ORDER BY rank_key, id LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<String> findRankKeysInColumn(@Param("projectId") Long projectId, @Param("status") String status,
+                                      @Param("excludeId") Long excludeId,
+                                      @Param("offset") int offset, @Param("limit") int limit);
+
+    @Query("SELECT t.rankKey FROM Task t WHERE t.project.id = :projectId AND t.status = :status " +
+            "AND t.id NOT IN :excludedIds ORDER BY t.rankKey, t.id")
+    List<String> findRankKeysExcluding(@Param("projectId") Long projectId, @Param("status") String status,
+                                       @Param("excludedIds") Collection<Long> excludedIds);
+
+    // Blocare în ordinea id-urilor, ca două mutări în lot pe aceleași taskuri să nu se blocheze reciproc
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids ORDER BY t.id")
+    List<Long> lockByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.project LEFT JOIN FETCH t.assignedTo WHERE t.id IN :ids")
+    List<Task> findAllWithProjectAndAssignee(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId AND t.status = :status ORDER BY t.rankKey, t.id")
+    List<Long> findIdsInRankOrder(@Param("projectId") Long projectId, @Param("status") String status);
 
     @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignedTo")
     List<Task> findAllWithAssignedTo();
 
+    // Agregare pentru dashboard-ul personal: un singur GROUP BY în loc de încărcarea tuturor entităților
+    @Query("SELECT t.status AS status, COUNT(t) AS total, " +
+            "SUM(CASE WHEN t.overdue = true THEN 1 ELSE 0 END) AS late " +
+            "FROM Task t WHERE t.assignedTo.id = :userId AND t.project.deletedAt IS NULL GROUP BY t.status")
+    List<TaskStatusCount> countGroupedByStatusForAssignee(@Param("userId") Long userId);
+
+    // Recalculare completă a contoarelor per proiect și status
+    @Query("SELECT t.project.id AS projectId, t.status AS status, COUNT(t) AS total, " +
+            "SUM(CASE WHEN t.overdue = true THEN 1 ELSE 0 END) AS overdue " +
+            "FROM Task t WHERE t.status IS NOT NULL AND t.project.deletedAt IS NULL GROUP BY t.project.id, t.status")
+    List<ProjectStatusCount> countGroupedByProjectAndStatus();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id = :id")
+    Optional<Task> findByIdForUpdate(@Param("id") Long id);
+
+    // Taskuri care tocmai au depășit deadline-ul, parcurse în ordinea (deadline, id). Pe PostgreSQL predicatul
+    // coincide cu indexul parțial idx_tasks_pending_deadline (OverdueSweepIndex), care conține doar taskurile
+    // încă nemarcate și nefinalizate, deci un sweep nu recitește istoricul. Taskurile fără status sunt incluse.
+    // SKIP LOCKED: mai multe noduri pot rula simultan fără să proceseze aceleași rânduri.
+    @Query(value = "SELECT id AS id, project_id AS projectId, status AS status, " +
+            "assigned_to AS assigneeId, deadline AS deadline FROM tasks " +
+            "WHERE overdue = false AND status IS DISTINCT FROM 'DONE' AND deadline < :now " +
+            "AND NOT EXISTS (SELECT 1 FROM projects p WHERE p.id = tasks.project_id AND p.deleted_at IS NOT NULL) " +
+            "AND (deadline > :afterDeadline OR (deadline = :afterDeadline AND id > :afterId)) " +
+            "ORDER BY deadline, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OverdueCandidate> lockNewlyOverdue(@Param("now") LocalDateTime now,
+                                            @Param("afterDeadline") LocalDateTime afterDeadline,
+                                            @Param("afterId") Long afterId,
+                                            @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.overdue = true WHERE t.id IN :ids AND t.overdue = false")
+    int markOverdue(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,8 @@
+package com.sgsm.backend.repository;
+
+// Rând agregat: câte taskuri are un status și câte dintre ele sunt întârziate (din taskuri sau din contoare)
+public interface TaskStatusCount {
+    String getStatus();
+    long getTotal();
+    long getLate();
+}
@@ -0,0 +1,35 @@
+package com.sgsm.backend.repository;
+
+import com.sgsm.backend.model.TaskTransition;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public interface TaskTransitionRepository extends JpaRepository<TaskTransition, Long> {
+
+    // Baza de date comprimă jurnalul la un rând per task finalizat în interval; rezultatul e citit ca stream.
+    // Asignatul e cel din tranziția spre DONE.
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT t.taskId AS taskId, " +
+            "MAX(CASE WHEN t.toStatus = 'DONE' THEN t.assigneeId END) AS assigneeId, " +
+            "MIN(CASE WHEN t.fromStatus IS NULL THEN t.changedAt END) AS createdAt, " +
+            "MIN(CASE WHEN t.toStatus = 'IN_PROGRESS' THEN t.changedAt END) AS startedAt, " +
+            "MAX(CASE WHEN t.toStatus = 'DONE' THEN t.changedAt END) AS doneAt " +
+            "FROM TaskTransition t WHERE t.taskId IN (" +
+            "SELECT d.taskId FROM TaskTransition d WHERE d.projectId = :projectId AND d.toStatus = 'DONE' " +
+            "AND d.changedAt >= :from AND d.changedAt < :to) " +
+            "GROUP BY t.taskId")
+    Stream<TaskFlowRow> streamCompletedInRange(@Param("projectId") Long projectId,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM TaskTransition t WHERE t.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -1,10 +1,17 @@
 package com.sgsm.backend.repository;
 
+import com.sgsm.backend.dto.UserResponseDTO;
 import com.sgsm.backend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+
+    // Doar id și username, pentru indexul de căutare (fără parole și roluri în memorie)
+    @Query("SELECT new com.sgsm.backend.dto.UserResponseDTO(u.id, u.username) FROM User u")
+    List<UserResponseDTO> findAllSummaries();
 }
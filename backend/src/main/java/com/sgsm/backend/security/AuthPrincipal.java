@@ -0,0 +1,20 @@
+package com.sgsm.backend.security;
+
+import com.sgsm.backend.model.User;
+
+/**
+ * Identitatea autentificată păstrată în PrincipalCache: doar câmpurile necesare autorizării, fără parolă.
+ */
+public record AuthPrincipal(Long id, String username, String role, long credentialsVersion) {
+
+    public static AuthPrincipal of(User user) {
+        return new AuthPrincipal(user.getId(), user.getUsername(), user.getRole(), user.getCredentialsVersion());
+    }
+
+    // Entitate detașată pentru servicii (id, username, rol); nu conține parola și nu trebuie salvată
+    public User toUser() {
+        User user = new User(id, username, null, null, role);
+        user.setCredentialsVersion(credentialsVersion);
+        return user;
+    }
+}
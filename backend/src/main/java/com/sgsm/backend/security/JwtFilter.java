@@ -1,8 +1,5 @@
 package com.sgsm.backend.security;
 
-import com.sgsm.backend.model.User;
-import com.sgsm.backend.repository.UserRepository;
-import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,11 +16,13 @@ import java.io.IOException;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList revocationList;
 
-    public JwtFilter(JwtUtil jwtUtil, UserRepository userRepository) {
+    public JwtFilter(JwtUtil jwtUtil, PrincipalCache principalCache, TokenRevocationList revocationList) {
         this.jwtUtil = jwtUtil;
-        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.revocationList = revocationList;
     }
 
     @Override
@@ -39,21 +38,17 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
 
-        String token = authHeader.substring(7);
-        String username;
+        // O singură verificare per token (apoi din cache, până la expirare)
+        JwtUtil.VerifiedToken token = jwtUtil.verify(authHeader.substring(7));
 
-        try {
-            username = jwtUtil.extractUsername(token);
-        } catch (JwtException e) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            User user = userRepository.findByUsername(username).orElse(null);
+        // Tokenurile revocate (logout, token compromis) sunt tratate ca lipsă
+        if (token != null && !revocationList.isRevoked(token.tokenId())
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            AuthPrincipal principal = principalCache.get(token.username());
 
-            if (user != null && jwtUtil.isTokenValid(token)) {
-                CustomUserDetails userDetails = new CustomUserDetails(user);
+            // Utilizator șters sau cu datele de autentificare schimbate după emiterea tokenului
+            if (principal != null && principal.credentialsVersion() == token.credentialsVersion()) {
+                CustomUserDetails userDetails = new CustomUserDetails(principal.toUser());
 
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities()
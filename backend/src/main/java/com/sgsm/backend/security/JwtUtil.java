@@ -1,58 +1,142 @@
 package com.sgsm.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
+/**
+ * Generare și verificare JWT. Cheia și parserul sunt construite o singură dată; un token e verificat
+ * (semnătură + expirare) o singură dată, apoi rezultatul stă în cache până la expirarea tokenului.
+ */
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
 
     private final String SECRET_KEY = "sgsm-project-management-app-secret-key-1234567890";
-    private final long EXPIRATION_TIME = 1000 * 60 * 60; // 1 oră (în milisecunde)
+    // Tokenurile de acces trăiesc puțin; sesiunea e prelungită prin tokenul de refresh (vezi RefreshTokenService)
+    private final Duration accessTtl;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+    // Rezultatul unei verificări reușite; tokenId (jti) e cheia folosită la revocare
+    public record VerifiedToken(String username, String role, long credentialsVersion, Instant expiresAt,
+                                String tokenId) {}
+
+    private final Key signingKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+
+    // Cheiat pe digest-ul tokenului, ca tokenurile în clar să nu stea în memorie; null = fără cache
+    private final Cache<String, VerifiedToken> verified;
+
+    public JwtUtil(@Value("${app.jwt.cache.max-size:10000}") long cacheMaxSize,
+                   @Value("${app.jwt.access-ttl:15m}") Duration accessTtl) {
+        this.accessTtl = accessTtl;
+        this.verified = cacheMaxSize <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return Math.max(0, value.expiresAt().toEpochMilli() - System.currentTimeMillis()) * 1_000_000;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
     }
 
-    public String generateToken(String username, String role) {
+    public String generateToken(String username, String role, long credentialsVersion) {
         return Jwts.builder()
                 .setSubject(username)
                 .claim("role", role)
+                .claim("cv", credentialsVersion)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + accessTtl.toMillis()))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verifică tokenul o singură dată; null dacă semnătura e invalidă, tokenul e malformat sau a expirat.
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) return null;
+
+        String digest = verified != null ? digest(token) : null;
+        VerifiedToken cached = digest != null ? verified.getIfPresent(digest) : null;
+        if (cached != null) {
+            return cached.expiresAt().isAfter(Instant.now()) ? cached : null;
+        }
+
+        try {
+            // parseClaimsJws verifică și expirarea (ExpiredJwtException)
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getSubject() == null || claims.getExpiration() == null) return null;
+
+            Number credentialsVersion = claims.get("cv", Number.class);
+            VerifiedToken result = new VerifiedToken(claims.getSubject(), claims.get("role", String.class),
+                    credentialsVersion != null ? credentialsVersion.longValue() : 0, claims.getExpiration().toInstant(),
+                    claims.getId());
+            if (digest != null) verified.put(digest, result);
+            return result;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (verified != null) CaffeineCacheMetrics.monitor(registry, verified, "jwt-verified");
+    }
+
+    public Duration getAccessTtl() {
+        return accessTtl;
+    }
+
     public String extractUsername(String token) {
-        return extractAllClaims(token).getSubject();
+        VerifiedToken result = verify(token);
+        return result != null ? result.username() : null;
     }
 
     public String extractRole(String token) {
-        return (String) extractAllClaims(token).get("role");
+        VerifiedToken result = verify(token);
+        return result != null ? result.role() : null;
     }
 
-    public boolean isTokenExpired(String token) {
-        return extractAllClaims(token).getExpiration().before(new Date());
+    public boolean isTokenValid(String token) {
+        return verify(token) != null;
     }
 
-    public boolean isTokenValid(String token) {
+    // SHA-256 în Base64; folosit și pentru tokenurile de refresh, care nu sunt păstrate în clar
+    public static String digest(String token) {
         try {
-            extractAllClaims(token);
-            return !isTokenExpired(token);
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
 }
@@ -0,0 +1,48 @@
+package com.sgsm.backend.security;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool dedicat pentru hashing-ul BCrypt la login, cu coadă limitată. Un val de autentificări ocupă doar
+ * aceste fire; când coada e plină cererea e respinsă imediat (503), iar firele Tomcat rămân pentru board.
+ * Rămâne pe fire platformă și în modul cu fire virtuale: BCrypt consumă CPU, iar limita de fire e chiar scopul.
+ * Intenționat nu implementează Executor: un bean Executor ar dezactiva executorul implicit folosit de @Async.
+ */
+@Component
+public class LoginExecutor {
+
+    private final ThreadPoolExecutor pool;
+
+    public LoginExecutor(@Value("${app.auth.login-pool.size:0}") int size,
+                         @Value("${app.auth.login-pool.queue-capacity:100}") int queueCapacity) {
+        int threads = size > 0 ? size : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger counter = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // RejectedExecutionException când pool-ul și coada sunt pline
+    public void execute(Runnable command) {
+        pool.execute(command);
+    }
+
+    public int queued() {
+        return pool.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,87 @@
+package com.sgsm.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Token bucket per username și per IP pentru /auth/login. Încercările peste limită sunt respinse
+ * înainte de orice calcul BCrypt.
+ */
+@Component
+public class LoginThrottle {
+
+    // Găleată clasică: se reumple continuu cu refillPerNanos, până la capacity
+    static final class Bucket {
+        private final double capacity;
+        private final double refillPerNanos;
+        private double tokens;
+        private long lastRefill;
+
+        Bucket(double capacity, double refillPerMinute, long now) {
+            this.capacity = capacity;
+            this.refillPerNanos = refillPerMinute / Duration.ofMinutes(1).toNanos();
+            this.tokens = capacity;
+            this.lastRefill = now;
+        }
+
+        // 0 dacă s-a consumat un token, altfel nanosecundele până la următorul token
+        synchronized long tryConsume(long now) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNanos);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / refillPerNanos);
+        }
+    }
+
+    private final Cache<String, Bucket> buckets;
+    private final int userCapacity;
+    private final double userRefillPerMinute;
+    private final int ipCapacity;
+    private final double ipRefillPerMinute;
+
+    public LoginThrottle(@Value("${app.auth.throttle.user.capacity:5}") int userCapacity,
+                         @Value("${app.auth.throttle.user.refill-per-minute:5}") double userRefillPerMinute,
+                         @Value("${app.auth.throttle.ip.capacity:30}") int ipCapacity,
+                         @Value("${app.auth.throttle.ip.refill-per-minute:60}") double ipRefillPerMinute) {
+        this.userCapacity = userCapacity;
+        this.userRefillPerMinute = userRefillPerMinute;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerMinute = ipRefillPerMinute;
+        // O găleată neatinsă 10 minute e oricum plină, deci poate fi uitată
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    /**
+     * Consumă câte un token din găleata IP-ului și a username-ului.
+     * Întoarce 0 dacă încercarea e permisă, altfel numărul de secunde după care se poate reîncerca.
+     */
+    public long tryAcquire(String username, String clientIp) {
+        long now = System.nanoTime();
+
+        if (clientIp != null) {
+            long wait = buckets.get("ip:" + clientIp, k -> new Bucket(ipCapacity, ipRefillPerMinute, now)).tryConsume(now);
+            if (wait > 0) return toSeconds(wait);
+        }
+        if (username != null) {
+            String key = "user:" + username.trim().toLowerCase(Locale.ROOT);
+            long wait = buckets.get(key, k -> new Bucket(userCapacity, userRefillPerMinute, now)).tryConsume(now);
+            if (wait > 0) return toSeconds(wait);
+        }
+        return 0;
+    }
+
+    private static long toSeconds(long nanos) {
+        return Math.max(1, (nanos + 999_999_999L) / 1_000_000_000L);
+    }
+}
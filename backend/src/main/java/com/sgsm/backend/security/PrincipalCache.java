@@ -0,0 +1,66 @@
+package com.sgsm.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sgsm.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Cache username → AuthPrincipal pentru JwtFilter, ca cererile autentificate să nu mai citească tabela users.
+ * Modificările de utilizatori invalidează explicit intrarea (după commit); TTL-ul e doar plasa de siguranță.
+ */
+@Component
+public class PrincipalCache implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final Cache<String, AuthPrincipal> cache;
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${app.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${app.principal-cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // null dacă utilizatorul nu (mai) există; absența nu e păstrată în cache
+    public AuthPrincipal get(String username) {
+        return cache.get(username, key -> userRepository.findByUsername(key).map(AuthPrincipal::of).orElse(null));
+    }
+
+    public void invalidate(String... usernames) {
+        List<String> keys = Arrays.stream(usernames).filter(Objects::nonNull).toList();
+        if (keys.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateAll(keys);
+                }
+            });
+        } else {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "principals");
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.sgsm.backend.security;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mulțimea în memorie a tokenurilor revocate (jti → expirare): un filtru Bloom în fața unui set exact.
+ * Pentru un token nerevocat, adică aproape toate, verificarea citește doar câțiva biți, fără alocări și fără
+ * lock. Doar un răspuns „posibil revocat” ajunge la setul exact, care elimină fals-pozitivele.
+ */
+public final class RevokedTokenFilter {
+
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+
+    private final Map<String, Long> exact = new ConcurrentHashMap<>();
+    private volatile Bloom bloom;
+
+    // Versiunea la care a fost adăugată fiecare intrare, ca o reîncărcare să nu piardă ce a apărut după citirea ei
+    private final Map<String, Long> addedAt = new HashMap<>();
+    private long version;
+
+    private final LongAdder bloomPositives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public RevokedTokenFilter(int expectedEntries, double falsePositiveRate) {
+        this.expectedEntries = Math.max(expectedEntries, 64);
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloom = new Bloom(this.expectedEntries, falsePositiveRate);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloom.mightContain(tokenId)) return false;
+
+        bloomPositives.increment();
+        Long expiresAt = exact.get(tokenId);
+        if (expiresAt == null) {
+            falsePositives.increment();
+            return false;
+        }
+        return expiresAt > System.currentTimeMillis();
+    }
+
+    // Setul exact e scris înaintea biților: cine vede biții găsește și intrarea
+    public synchronized void add(String tokenId, long expiresAtMillis) {
+        addedAt.put(tokenId, ++version);
+        if (exact.put(tokenId, expiresAtMillis) != null) return;
+
+        if (exact.size() > bloom.capacity) {
+            rebuild();
+        } else {
+            bloom.put(tokenId);
+        }
+    }
+
+    /** Versiunea curentă; se citește înainte de interogarea al cărei rezultat ajunge în replaceAll. */
+    public synchronized long version() {
+        return version;
+    }
+
+    // Biții nu pot fi șterși, deci filtrul e reconstruit din setul rămas. Intrările adăugate după snapshotVersion
+    // lipsesc din citire doar pentru că au apărut după ea, deci rămân până la expirare.
+    public synchronized void replaceAll(Map<String, Long> entries, long snapshotVersion) {
+        long now = System.currentTimeMillis();
+        Map<String, Long> next = new HashMap<>(entries);
+        addedAt.values().removeIf(addedVersion -> addedVersion <= snapshotVersion);
+        for (String tokenId : addedAt.keySet()) {
+            Long expiresAt = exact.get(tokenId);
+            if (expiresAt != null && expiresAt > now) next.putIfAbsent(tokenId, expiresAt);
+        }
+        addedAt.keySet().retainAll(next.keySet());
+        exact.keySet().retainAll(next.keySet());
+        exact.putAll(next);
+        rebuild();
+    }
+
+    public synchronized int purgeExpired(long nowMillis) {
+        int before = exact.size();
+        exact.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+        addedAt.keySet().retainAll(exact.keySet());
+        int removed = before - exact.size();
+        if (removed > 0) rebuild();
+        return removed;
+    }
+
+    public int size() {
+        return exact.size();
+    }
+
+    public int capacity() {
+        return bloom.capacity;
+    }
+
+    public long bloomPositives() {
+        return bloomPositives.sum();
+    }
+
+    public long falsePositives() {
+        return falsePositives.sum();
+    }
+
+    private void rebuild() {
+        Bloom next = new Bloom(Math.max(expectedEntries, exact.size() * 2), falsePositiveRate);
+        for (String tokenId : exact.keySet()) {
+            next.put(tokenId);
+        }
+        bloom = next;
+    }
+
+    // Dimensionare clasică: m = -n·ln(p) / ln(2)², k = m/n · ln(2); k poziții din două jumătăți ale unui hash pe 64 de biți
+    private static final class Bloom {
+        final int capacity;
+        final int numBits;
+        final int numHashes;
+        final AtomicLongArray words;
+
+        Bloom(int capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.numBits = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+            this.numHashes = Math.max(1, (int) Math.round((double) numBits / capacity * Math.log(2)));
+            this.words = new AtomicLongArray((numBits + 63) >>> 6);
+        }
+
+        void put(String key) {
+            long hash = hash64(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= numHashes; i++) {
+                int bit = index(h1 + i * h2);
+                int word = bit >>> 6;
+                long mask = 1L << bit;
+                long current;
+                do {
+                    current = words.get(word);
+                } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String key) {
+            long hash = hash64(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= numHashes; i++) {
+                int bit = index(h1 + i * h2);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) return false;
+            }
+            return true;
+        }
+
+        private int index(int combined) {
+            return (combined & Integer.MAX_VALUE) % numBits;
+        }
+
+        // FNV-1a peste caractere + finalizatorul MurmurHash3; fără alocări (nu folosim getBytes)
+        private static long hash64(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0, n = key.length(); i < n; i++) {
+                hash ^= key.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
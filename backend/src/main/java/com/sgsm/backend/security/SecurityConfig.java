@@ -1,14 +1,21 @@
 package com.sgsm.backend.security;
 
 import com.sgsm.backend.security.JwtFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,6 +32,35 @@ public class SecurityConfig {
         this.jwtFilter = jwtFilter;
     }
 
+    // Scraper-ul Prometheus nu poate folosi tokenurile de acces (15 minute): pe /actuator/prometheus se acceptă
+    // și HTTP Basic, cu userul din app.metrics.scrape; autoritatea METRICS nu deschide niciun alt endpoint
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsScrapeChain(HttpSecurity http, PasswordEncoder passwordEncoder,
+                                                  @Value("${app.metrics.scrape.username:prometheus}") String username,
+                                                  @Value("${app.metrics.scrape.password:}") String password) throws Exception {
+        http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasAnyAuthority("ADMIN", "METRICS"))
+                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+
+        // Fără parolă configurată rămân doar tokenurile de admin
+        if (!password.isBlank()) {
+            DaoAuthenticationProvider provider = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(
+                    User.withUsername(username)
+                            .password(passwordEncoder.encode(password))
+                            .authorities("METRICS")
+                            .build()));
+            provider.setPasswordEncoder(passwordEncoder);
+            http
+                    .authenticationManager(new ProviderManager(provider))
+                    .httpBasic(basic -> {});
+        }
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         return http
@@ -34,15 +70,18 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/users").authenticated() // permite accesul la GET /users pentru utilizatori autentificați
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority("ADMIN") // restul endpoint-urilor actuator doar pentru admini
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
 
+    // Costul poate fi mărit oricând: hash-urile vechi sunt refăcute la următorul login reușit
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.auth.bcrypt-cost:10}") int bcryptCost) {
+        return new BCryptPasswordEncoder(bcryptCost);
     }
 
     @Bean
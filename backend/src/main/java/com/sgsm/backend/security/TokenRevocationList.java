@@ -0,0 +1,97 @@
+package com.sgsm.backend.security;
+
+import com.sgsm.backend.model.RevokedToken;
+import com.sgsm.backend.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Revocarea tokenurilor de acces (logout, token furat). Revocările sunt scrise în tabela revoked_tokens,
+ * deci supraviețuiesc unui restart; JwtFilter consultă doar copia din memorie (RevokedTokenFilter).
+ * Reîncărcarea periodică șterge intrările expirate și preia revocările făcute de alte instanțe.
+ */
+@Component
+public class TokenRevocationList implements MeterBinder {
+
+    private final RevokedTokenRepository repository;
+    private final RevokedTokenFilter filter;
+
+    public TokenRevocationList(RevokedTokenRepository repository,
+                               @Value("${app.jwt.revocation.expected-entries:100000}") int expectedEntries,
+                               @Value("${app.jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.repository = repository;
+        this.filter = new RevokedTokenFilter(expectedEntries, falsePositiveRate);
+    }
+
+    // Încărcat înainte ca aplicația să accepte cereri, ca un token revocat să nu treacă după restart
+    @PostConstruct
+    public void load() {
+        long since = filter.version();
+        Map<String, Long> active = new HashMap<>();
+        for (RevokedToken token : repository.findActive(LocalDateTime.now())) {
+            active.put(token.getTokenId(), toEpochMillis(token.getExpiresAt()));
+        }
+        filter.replaceAll(active, since);
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.refresh-interval-ms:60000}",
+            initialDelayString = "${app.jwt.revocation.refresh-interval-ms:60000}")
+    @Transactional
+    public void refresh() {
+        repository.deleteExpired(LocalDateTime.now());
+        load();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return filter.isRevoked(tokenId);
+    }
+
+    // Un token fără jti (emis înainte de revocare) sau deja expirat nu are nevoie de intrare.
+    // Copia din memorie e actualizată după commit: o reîncărcare concurentă nu vede rândul necomis
+    @Transactional
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || !expiresAt.isAfter(Instant.now())) return;
+
+        if (!repository.existsById(tokenId)) {
+            repository.save(new RevokedToken(tokenId, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())));
+        }
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    filter.add(tokenId, expiresAtMillis);
+                }
+            });
+        } else {
+            filter.add(tokenId, expiresAtMillis);
+        }
+    }
+
+    // Fals-pozitivele Bloom (căutări inutile în setul exact) arată când expected-entries e prea mic
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.revoked.tokens", filter, RevokedTokenFilter::size).register(registry);
+        FunctionCounter.builder("jwt.revoked.bloom.positives", filter, RevokedTokenFilter::bloomPositives).register(registry);
+        FunctionCounter.builder("jwt.revoked.false.positives", filter, RevokedTokenFilter::falsePositives).register(registry);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -3,9 +3,9 @@ package com.sgsm.backend.service;
 import com.sgsm.backend.dto.ProjectDTO;
 import com.sgsm.backend.dto.TaskDTO;
 import com.sgsm.backend.model.Project;
-import com.sgsm.backend.model.Task;
 import com.sgsm.backend.repository.ProjectRepository;
 import com.sgsm.backend.repository.TaskRepository;
+import com.sgsm.backend.repository.TaskStatusCount;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -17,6 +17,7 @@ public class AdminService {
 
     @Autowired private ProjectRepository projectRepository;
     @Autowired private TaskRepository taskRepository;
+    @Autowired private TaskCounterService taskCounterService;
 
     public List<ProjectDTO> getAllProjects() {
         return projectRepository.findAll().stream()
@@ -25,9 +26,7 @@ public class AdminService {
     }
 
     public List<TaskDTO> getAllTasks() {
-        return taskRepository.findAll().stream()
-                .map(TaskDTO::new)
-                .collect(Collectors.toList());
+        return taskRepository.findAllDtos();
     }
 
     public long countAllProjects() {
@@ -39,16 +38,13 @@ public class AdminService {
     }
 
     public long countLateTasks() {
-        return taskRepository.findAll().stream()
-                .filter(t -> t.getDeadline() != null &&
-                        t.getDeadline().isBefore(java.time.LocalDateTime.now()) &&
-                        !"DONE".equals(t.getStatus()))
-                .count();
+        return taskCounterService.totals().stream().mapToLong(TaskStatusCount::getLate).sum();
     }
 
     public long countByStatus(String status) {
-        return taskRepository.findAll().stream()
-                .filter(t -> status.equals(t.getStatus()))
-                .count();
+        return taskCounterService.totals().stream()
+                .filter(row -> status.equals(row.getStatus()))
+                .mapToLong(TaskStatusCount::getTotal)
+                .sum();
     }
 }
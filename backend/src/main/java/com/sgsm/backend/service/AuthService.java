@@ -5,13 +5,21 @@ import com.sgsm.backend.dto.LoginRequest;
 import com.sgsm.backend.model.User;
 import com.sgsm.backend.repository.UserRepository;
 import com.sgsm.backend.security.JwtUtil;
+import com.sgsm.backend.security.LoginExecutor;
+import com.sgsm.backend.security.LoginThrottle;
+import com.sgsm.backend.security.TokenRevocationList;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 @Service
 public class AuthService {
@@ -25,6 +33,46 @@ public class AuthService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private LoginThrottle loginThrottle;
+
+    @Autowired
+    private LoginExecutor loginExecutor;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @Value("${app.auth.login-pool.max-queue-wait:5s}")
+    private Duration maxQueueWait = Duration.ofSeconds(5);
+
+    // Limitare înainte de hash, apoi verificarea parolei pe pool-ul de login (firul HTTP e eliberat)
+    public CompletableFuture<ResponseEntity<?>> authenticateAsync(LoginRequest request, String clientIp) {
+        long retryAfter = loginThrottle.tryAcquire(request.getUsername(), clientIp);
+        if (retryAfter > 0) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(429)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                    .body(Map.of("error", "Prea multe încercări de autentificare. Încearcă din nou mai târziu.")));
+        }
+
+        // O cerere care a stat prea mult în coadă e respinsă fără hash (clientul a renunțat probabil deja)
+        long enqueued = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> System.nanoTime() - enqueued > maxQueueWait.toNanos()
+                    ? busy() : authenticate(request), loginExecutor::execute);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(busy());
+        }
+    }
+
+    private ResponseEntity<?> busy() {
+        return ResponseEntity.status(503)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", "Serverul este ocupat. Încearcă din nou."));
+    }
+
     public ResponseEntity<?> authenticate(LoginRequest request) {
         Optional<User> userOpt = userRepository.findByUsername(request.getUsername());
 
@@ -38,7 +86,27 @@ public class AuthService {
             return ResponseEntity.status(401).body(Map.of("error", "Parolă incorectă"));
         }
 
-        String token = jwtUtil.generateToken(user.getUsername(), user.getRole());
-        return ResponseEntity.ok(new AuthResponse(token));
+        // Costul BCrypt configurat a crescut: hash-ul e refăcut acum, cât avem parola în clar
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(request.getPassword()));
+            userRepository.save(user);
+        }
+
+        String token = jwtUtil.generateToken(user.getUsername(), user.getRole(), user.getCredentialsVersion());
+        return ResponseEntity.ok(new AuthResponse(token, refreshTokenService.issue(user)));
+    }
+
+    public ResponseEntity<?> refresh(String refreshToken) {
+        return refreshTokenService.refresh(refreshToken);
+    }
+
+    // Tokenul de acces e revocat până la expirare; cel de refresh nu mai poate fi rotit
+    public ResponseEntity<?> logout(String accessToken, String refreshToken) {
+        JwtUtil.VerifiedToken verified = jwtUtil.verify(accessToken);
+        if (verified != null) {
+            revocationList.revoke(verified.tokenId(), verified.expiresAt());
+        }
+        refreshTokenService.revoke(refreshToken);
+        return ResponseEntity.noContent().build();
     }
 }
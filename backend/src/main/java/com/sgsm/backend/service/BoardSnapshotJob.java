@@ -0,0 +1,30 @@
+package com.sgsm.backend.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Snapshot orar al contoarelor și rollup-ul nocturn în rânduri zilnice
+@Component
+@ConditionalOnProperty(name = "app.board-snapshots.enabled", havingValue = "true", matchIfMissing = true)
+public class BoardSnapshotJob {
+
+    @Autowired private BoardSnapshotService boardSnapshotService;
+
+    @Scheduled(cron = "${app.board-snapshots.hourly-cron:0 0 * * * *}")
+    public void snapshotHour() {
+        boardSnapshotService.snapshotHour(LocalDateTime.now());
+    }
+
+    // Dacă snapshot-ul de la ora 23 lipsește (nod oprit), se completează cu starea curentă înainte de rollup
+    @Scheduled(cron = "${app.board-snapshots.rollup-cron:0 5 0 * * *}")
+    public void rollupYesterday() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        boardSnapshotService.snapshotHour(yesterday.atTime(23, 0));
+        boardSnapshotService.rollupDay(yesterday);
+    }
+}
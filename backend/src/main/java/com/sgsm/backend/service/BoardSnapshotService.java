@@ -0,0 +1,86 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.dto.CfdPointDTO;
+import com.sgsm.backend.model.BoardSnapshot;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.BoardSnapshotRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Istoric pentru cumulative flow. Snapshot-urile se fac din contoarele per proiect (nu din tasks),
+ * printr-un singur INSERT ... SELECT, deci costul depinde doar de numărul de proiecte.
+ */
+@Service
+public class BoardSnapshotService {
+
+    @Autowired private BoardSnapshotRepository snapshotRepository;
+    @Autowired private PermissionService permissionService;
+
+    @Value("${app.board-snapshots.max-range-days:731}")
+    private int maxRangeDays;
+
+    @Value("${app.board-snapshots.hourly-retention-days:14}")
+    private int hourlyRetentionDays;
+
+    @Transactional
+    public int snapshotHour(LocalDateTime now) {
+        return snapshotRepository.snapshotHour(now.truncatedTo(ChronoUnit.HOURS));
+    }
+
+    // Comprimă orele zilei într-un rând pe zi și curăță orele mai vechi decât perioada de retenție
+    @Transactional
+    public int rollupDay(LocalDate day) {
+        LocalDateTime dayStart = day.atStartOfDay();
+        int rows = snapshotRepository.rollupDay(dayStart, dayStart.plusDays(1));
+        snapshotRepository.deleteHourlyBefore(dayStart.minusDays(hourlyRetentionDays));
+        return rows;
+    }
+
+    @Transactional
+    public void deleteForProject(Long projectId) {
+        snapshotRepository.deleteByProjectId(projectId);
+    }
+
+    public ResponseEntity<?> getCfd(Long projectId, LocalDate from, LocalDate to, User user) {
+        boolean isAdmin = permissionService.isAdmin(user);
+        if (!isAdmin && !permissionService.isMemberOfProject(user.getId(), projectId)) {
+            return ResponseEntity.status(403).body(Map.of("error", "Nu ești membru al proiectului."));
+        }
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(90);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Intervalul este invalid: from > to."));
+        }
+        if (ChronoUnit.DAYS.between(start, end) > maxRangeDays) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Intervalul maxim este de " + maxRangeDays + " zile."));
+        }
+
+        Map<LocalDate, CfdPointDTO> points = new LinkedHashMap<>();
+        for (BoardSnapshot s : snapshotRepository.findDaily(projectId, start.atStartOfDay(), end.atStartOfDay())) {
+            LocalDate date = s.getId().getBucket().toLocalDate();
+            CfdPointDTO point = points.computeIfAbsent(date, CfdPointDTO::new);
+            switch (s.getId().getStatus()) {
+                case "TO_DO" -> point.setTodoCount(s.getTaskCount());
+                case "IN_PROGRESS" -> point.setInProgressCount(s.getTaskCount());
+                case "DONE" -> point.setDoneCount(s.getTaskCount());
+                default -> { }
+            }
+            point.setLateCount(point.getLateCount() + s.getOverdueCount());
+        }
+
+        return ResponseEntity.ok(new ArrayList<>(points.values()));
+    }
+}
@@ -0,0 +1,172 @@
+package com.sgsm.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sgsm.backend.event.TasksOverdueEvent;
+import com.sgsm.backend.repository.ProjectMemberRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache pentru răspunsurile de dashboard, cheiat pe user (adminii împart o singură intrare).
+ * Intrările sunt invalidate după commit de mutațiile pe taskuri și membri; cererile concurente
+ * pentru aceeași cheie lipsă așteaptă un singur calcul (single-flight).
+ */
+@Component
+public class DashboardCache implements MeterBinder {
+
+    public static final String USER_VIEW = "USER";
+    public static final String MANAGER_VIEW = "MANAGER";
+
+    // Adminii văd aceleași cifre globale, deci folosesc o singură intrare per vedere
+    private static final Long SHARED_ADMIN = -1L;
+
+    private record Key(String view, Long userId) {}
+
+    private final Cache<Key, Object> cache;
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Autowired private ProjectMemberRepository projectMemberRepository;
+
+    public DashboardCache(@Value("${app.dashboard-cache.max-size:10000}") long maxSize,
+                          @Value("${app.dashboard-cache.ttl:60s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String view, Long userId, boolean admin, Supplier<T> loader) {
+        Key key = new Key(view, admin ? SHARED_ADMIN : userId);
+
+        Object cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException re) throw re;
+                if (e.getCause() instanceof Error error) throw error;
+                throw e;
+            }
+        }
+
+        try {
+            T value = loader.get();
+            // O invalidare a cheii în timpul calculului scoate calculul din inFlight; verificarea și put-ul
+            // rulează sub lock-ul intrării, deci nu se pot intercala cu invalidarea (care scoate întâi din inFlight)
+            inFlight.compute(key, (k, current) -> {
+                if (current != mine) return current;
+                cache.put(k, value);
+                return null;
+            });
+            mine.complete(value);
+            return value;
+        } catch (Throwable t) {
+            // Și pentru Error: altfel cererile care așteaptă același calcul ar rămâne blocate
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // Task creat/modificat/șters: se schimbă dashboard-ul asignaților, al managerilor proiectului și al adminilor
+    public void evictForTask(Long projectId, Long... assigneeIds) {
+        Set<Key> keys = new HashSet<>();
+        for (Long assigneeId : assigneeIds) {
+            if (assigneeId != null) keys.add(new Key(USER_VIEW, assigneeId));
+        }
+        for (Long managerId : projectMemberRepository.findUserIdsByProjectIdAndRole(projectId, "MANAGER")) {
+            keys.add(new Key(MANAGER_VIEW, managerId));
+        }
+        evictAfterCommit(keys);
+    }
+
+    // Membri adăugați/eliminați: se schimbă numărul de proiecte al lor și numărul de membri văzut de manageri
+    public void evictForMembership(Long projectId, Collection<Long> userIds) {
+        Set<Key> keys = new HashSet<>();
+        for (Long userId : userIds) {
+            keys.add(new Key(USER_VIEW, userId));
+            keys.add(new Key(MANAGER_VIEW, userId));
+        }
+        for (Long managerId : projectMemberRepository.findUserIdsByProjectIdAndRole(projectId, "MANAGER")) {
+            keys.add(new Key(MANAGER_VIEW, managerId));
+        }
+        evictAfterCommit(keys);
+    }
+
+    // Rulează în tranzacția sweeper-ului; evacuarea efectivă are loc după commit
+    @EventListener
+    public void onTasksOverdue(TasksOverdueEvent event) {
+        Map<Long, Set<Long>> assigneesByProject = new HashMap<>();
+        for (TasksOverdueEvent.OverdueTask task : event.tasks()) {
+            Set<Long> assignees = assigneesByProject.computeIfAbsent(task.projectId(), id -> new HashSet<>());
+            if (task.assigneeId() != null) assignees.add(task.assigneeId());
+        }
+        assigneesByProject.forEach((projectId, assignees) ->
+                evictForTask(projectId, assignees.toArray(Long[]::new)));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "dashboard");
+        FunctionCounter.builder("cache.coalesced.loads", coalesced, LongAdder::sum).tag("cache", "dashboard").register(registry);
+        FunctionCounter.builder("cache.invalidations", invalidations, LongAdder::sum).tag("cache", "dashboard").register(registry);
+    }
+
+    private void evictAfterCommit(Set<Key> keys) {
+        keys.add(new Key(USER_VIEW, SHARED_ADMIN));
+        keys.add(new Key(MANAGER_VIEW, SHARED_ADMIN));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(keys);
+                }
+            });
+        } else {
+            evict(keys);
+        }
+    }
+
+    private void evict(Set<Key> keys) {
+        for (Key key : keys) {
+            inFlight.remove(key);
+        }
+        cache.invalidateAll(keys);
+        invalidations.add(keys.size());
+    }
+}
@@ -0,0 +1,145 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.dto.FlowMetricsDTO;
+import com.sgsm.backend.dto.FlowStatsDTO;
+import com.sgsm.backend.dto.PercentilesDTO;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.TaskFlowRow;
+import com.sgsm.backend.repository.TaskTransitionRepository;
+import com.sgsm.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Cycle time (primul IN_PROGRESS → DONE), lead time (creare → DONE) și throughput (taskuri finalizate pe zi)
+ * pentru taskurile finalizate într-un interval. Jurnalul nu e încărcat în memorie: baza de date îl reduce
+ * la un rând per task, iar rândurile sunt consumate ca stream în acumulatori de durate.
+ */
+@Service
+public class FlowMetricsService {
+
+    @Autowired private TaskTransitionRepository transitionRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private PermissionService permissionService;
+
+    @Value("${app.flow-metrics.max-range-days:366}")
+    private int maxRangeDays;
+
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getFlowMetrics(Long projectId, LocalDate from, LocalDate to, User user) {
+        boolean isAdmin = permissionService.isAdmin(user);
+        if (!isAdmin && !permissionService.isMemberOfProject(user.getId(), projectId)) {
+            return ResponseEntity.status(403).body(Map.of("error", "Nu ești membru al proiectului."));
+        }
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Intervalul este invalid: from > to."));
+        }
+        if (ChronoUnit.DAYS.between(start, end) > maxRangeDays) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Intervalul maxim este de " + maxRangeDays + " zile."));
+        }
+
+        int days = (int) ChronoUnit.DAYS.between(start, end) + 1;
+        FlowAccumulator project = new FlowAccumulator(start, days);
+        Map<Long, FlowAccumulator> byAssignee = new HashMap<>();
+
+        try (Stream<TaskFlowRow> rows = transitionRepository.streamCompletedInRange(
+                projectId, start.atStartOfDay(), end.plusDays(1).atStartOfDay())) {
+            rows.forEach(row -> {
+                project.add(row);
+                if (row.getAssigneeId() != null) {
+                    byAssignee.computeIfAbsent(row.getAssigneeId(), id -> new FlowAccumulator(start, days)).add(row);
+                }
+            });
+        }
+
+        Map<Long, String> usernames = new HashMap<>();
+        userRepository.findAllById(byAssignee.keySet()).forEach(u -> usernames.put(u.getId(), u.getUsername()));
+
+        List<FlowStatsDTO> assignees = new ArrayList<>();
+        byAssignee.forEach((assigneeId, acc) -> {
+            FlowStatsDTO stats = acc.toStats();
+            stats.setAssigneeId(assigneeId);
+            stats.setAssigneeUsername(usernames.get(assigneeId));
+            assignees.add(stats);
+        });
+        assignees.sort(Comparator.comparingLong(FlowStatsDTO::getCompleted).reversed());
+
+        return ResponseEntity.ok(new FlowMetricsDTO(start, end, project.toStats(), assignees));
+    }
+
+    // Percentilă nearest-rank pe un tablou sortat
+    static double percentile(long[] sorted, int length, double p) {
+        if (length == 0) return 0;
+        int rank = (int) Math.ceil(p / 100.0 * length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    static final class FlowAccumulator {
+        private final LocalDate start;
+        private final long[] donePerDay;
+        private long[] leadMinutes = new long[16];
+        private long[] cycleMinutes = new long[16];
+        private int leadSize;
+        private int cycleSize;
+        private long completed;
+
+        FlowAccumulator(LocalDate start, int days) {
+            this.start = start;
+            this.donePerDay = new long[days];
+        }
+
+        void add(TaskFlowRow row) {
+            LocalDateTime doneAt = row.getDoneAt();
+            if (doneAt == null) return;
+            completed++;
+
+            int day = (int) ChronoUnit.DAYS.between(start, doneAt.toLocalDate());
+            if (day >= 0 && day < donePerDay.length) donePerDay[day]++;
+
+            if (row.getCreatedAt() != null && !doneAt.isBefore(row.getCreatedAt())) {
+                if (leadSize == leadMinutes.length) leadMinutes = Arrays.copyOf(leadMinutes, leadSize * 2);
+                leadMinutes[leadSize++] = Duration.between(row.getCreatedAt(), doneAt).toMinutes();
+            }
+            if (row.getStartedAt() != null && !doneAt.isBefore(row.getStartedAt())) {
+                if (cycleSize == cycleMinutes.length) cycleMinutes = Arrays.copyOf(cycleMinutes, cycleSize * 2);
+                cycleMinutes[cycleSize++] = Duration.between(row.getStartedAt(), doneAt).toMinutes();
+            }
+        }
+
+        FlowStatsDTO toStats() {
+            FlowStatsDTO stats = new FlowStatsDTO();
+            stats.setCompleted(completed);
+            stats.setLeadTimeHours(hours(leadMinutes, leadSize));
+            stats.setCycleTimeHours(hours(cycleMinutes, cycleSize));
+
+            long[] throughput = donePerDay.clone();
+            Arrays.sort(throughput);
+            stats.setThroughputPerDay(new PercentilesDTO(
+                    percentile(throughput, throughput.length, 50),
+                    percentile(throughput, throughput.length, 85),
+                    percentile(throughput, throughput.length, 95)));
+            return stats;
+        }
+
+        private static PercentilesDTO hours(long[] minutes, int size) {
+            Arrays.sort(minutes, 0, size);
+            return new PercentilesDTO(
+                    percentile(minutes, size, 50) / 60.0,
+                    percentile(minutes, size, 85) / 60.0,
+                    percentile(minutes, size, 95) / 60.0);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.sgsm.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sgsm.backend.repository.MembershipRole;
+import com.sgsm.backend.repository.ProjectMemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Rolurile fiecărui user în proiecte (projectId → rol), încărcate o dată într-un singur query.
+ * Verificările de permisiuni devin căutări în memorie; modificările de membri invalidează userii afectați după commit.
+ */
+@Component
+public class MembershipCache implements MeterBinder {
+
+    private final ProjectMemberRepository projectMemberRepository;
+    private final Cache<Long, Map<Long, String>> cache;
+
+    public MembershipCache(ProjectMemberRepository projectMemberRepository,
+                           @Value("${app.membership-cache.max-size:10000}") long maxSize,
+                           @Value("${app.membership-cache.ttl:10m}") Duration ttl) {
+        this.projectMemberRepository = projectMemberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Map<Long, String> rolesOf(Long userId) {
+        if (userId == null) return Map.of();
+        return cache.get(userId, this::load);
+    }
+
+    public Optional<String> roleOf(Long userId, Long projectId) {
+        return Optional.ofNullable(rolesOf(userId).get(projectId));
+    }
+
+    public boolean isMember(Long userId, Long projectId) {
+        return rolesOf(userId).containsKey(projectId);
+    }
+
+    public void evictAfterCommit(Collection<Long> userIds) {
+        Set<Long> keys = new HashSet<>(userIds);
+        keys.remove(null);
+        if (keys.isEmpty()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateAll(keys);
+                }
+            });
+        } else {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "membership");
+    }
+
+    private Map<Long, String> load(Long userId) {
+        Map<Long, String> roles = new HashMap<>();
+        for (MembershipRole row : projectMemberRepository.findRolesByUserId(userId)) {
+            roles.put(row.getProjectId(), row.getRole());
+        }
+        return Map.copyOf(roles);
+    }
+}
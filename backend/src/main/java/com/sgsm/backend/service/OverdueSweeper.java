@@ -0,0 +1,45 @@
+package com.sgsm.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// Job periodic: parcurge taskurile cu deadline depășit pe indexul (deadline, id) și le marchează LATE
+@Component
+@ConditionalOnProperty(name = "app.overdue-sweeper.enabled", havingValue = "true", matchIfMissing = true)
+public class OverdueSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(OverdueSweeper.class);
+
+    @Autowired private TaskOverdueService taskOverdueService;
+
+    @Value("${app.overdue-sweeper.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.overdue-sweeper.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(fixedDelayString = "${app.overdue-sweeper.interval-ms:60000}",
+            initialDelayString = "${app.overdue-sweeper.initial-delay-ms:10000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        TaskOverdueService.Cursor cursor = TaskOverdueService.Cursor.START;
+        int marked = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun && cursor != null; batch++) {
+            TaskOverdueService.BatchResult result = taskOverdueService.markBatch(now, cursor, batchSize);
+            marked += result.marked();
+            cursor = result.next();
+        }
+
+        if (marked > 0) {
+            log.info("OverdueSweeper: {} taskuri marcate ca întârziate", marked);
+        }
+    }
+}
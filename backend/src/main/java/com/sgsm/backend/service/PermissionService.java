@@ -1,12 +1,17 @@
 package com.sgsm.backend.service;
 
 import com.sgsm.backend.model.User;
-import com.sgsm.backend.repository.ProjectMemberRepository;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 public class PermissionService {
 
+    // Rolurile în proiecte sunt citite din cache, nu din project_members la fiecare verificare
+    @Autowired private MembershipCache membershipCache;
+
     public boolean isAdmin(User user) {
         return user.getRole() != null && user.getRole().equals("ADMIN");
     }
@@ -15,9 +20,15 @@ public class PermissionService {
         return "MANAGER".equals(role);
     }
 
-    public boolean isManagerOfProject(User user, Long projectId, ProjectMemberRepository repo) {
-        return repo.findByUserIdAndProjectId(user.getId(), projectId)
-                .map(pm -> "MANAGER".equals(pm.getRole()))
-                .orElse(false);
+    public Optional<String> roleInProject(Long userId, Long projectId) {
+        return membershipCache.roleOf(userId, projectId);
+    }
+
+    public boolean isMemberOfProject(Long userId, Long projectId) {
+        return membershipCache.isMember(userId, projectId);
+    }
+
+    public boolean isManagerOfProject(User user, Long projectId) {
+        return roleInProject(user.getId(), projectId).map(this::isManager).orElse(false);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package com.sgsm.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sgsm.backend.dto.ProjectCommentDTO;
+import com.sgsm.backend.repository.ProjectCommentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Comentariile pinned ale fiecărui proiect (de obicei câteva), servite la fiecare deschidere a feed-ului.
+ * Pin/unpin și ștergerea invalidează proiectul după commit; TTL-ul acoperă redenumirile autorilor.
+ */
+@Component
+public class PinnedCommentCache implements MeterBinder {
+
+    private final ProjectCommentRepository commentRepository;
+    private final Cache<Long, List<ProjectCommentDTO>> cache;
+
+    public PinnedCommentCache(ProjectCommentRepository commentRepository,
+                              @Value("${app.pinned-comments-cache.max-size:5000}") long maxSize,
+                              @Value("${app.pinned-comments-cache.ttl:10m}") Duration ttl) {
+        this.commentRepository = commentRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public List<ProjectCommentDTO> pinnedOf(Long projectId) {
+        return cache.get(projectId, id -> List.copyOf(commentRepository.findDtosByProjectIdAndPinnedTrue(id)));
+    }
+
+    public void evictAfterCommit(Long projectId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(projectId);
+                }
+            });
+        } else {
+            cache.invalidate(projectId);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "pinned-comments");
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.sgsm.backend.service;
 
+import com.sgsm.backend.dto.CommentFeedDTO;
 import com.sgsm.backend.dto.ProjectCommentDTO;
 import com.sgsm.backend.dto.ProjectCommentRequestDTO;
 import com.sgsm.backend.model.Project;
@@ -7,8 +8,10 @@ import com.sgsm.backend.model.ProjectComment;
 import com.sgsm.backend.model.User;
 import com.sgsm.backend.repository.ProjectCommentRepository;
 import com.sgsm.backend.repository.ProjectRepository;
-import com.sgsm.backend.repository.ProjectMemberRepository;
+import com.sgsm.backend.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,15 +20,23 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 public class ProjectCommentService {
 
     @Autowired private ProjectCommentRepository commentRepository;
     @Autowired private ProjectRepository projectRepository;
-    @Autowired private ProjectMemberRepository projectMemberRepository;
     @Autowired private PermissionService permissionService;
+    @Autowired private PinnedCommentCache pinnedCommentCache;
+
+    // Sentinela primei pagini: orice comentariu real e mai vechi
+    private static final LocalDateTime NEWEST_SENTINEL = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    @Value("${app.comments.default-limit:30}")
+    private int defaultLimit;
+
+    @Value("${app.comments.max-limit:100}")
+    private int maxLimit;
 
     public ResponseEntity<?> addComment(Long projectId, ProjectCommentRequestDTO dto, User user) {
         Optional<Project> optionalProject = projectRepository.findById(projectId);
@@ -45,12 +56,14 @@ public class ProjectCommentService {
                 saved.getId(),
                 saved.getContent(),
                 saved.getAuthor().getUsername(),
-                saved.getCreatedAt()
+                saved.getCreatedAt(),
+                saved.isPinned()
         );
 
         return ResponseEntity.ok(responseDto);
     }
 
+    @Transactional
     public ResponseEntity<?> deleteComment(Long projectId, Long commentId, User user) {
         Optional<ProjectComment> optionalComment = commentRepository.findById(commentId);
         if (optionalComment.isEmpty()) {
@@ -71,40 +84,53 @@ public class ProjectCommentService {
         }
 
         commentRepository.delete(comment);
+        if (comment.isPinned()) {
+            pinnedCommentCache.evictAfterCommit(projectId);
+        }
         return ResponseEntity.ok().build();
     }
 
+    // Forma veche (toate comentariile): pinned din cache, restul într-un singur query cu autorul inclus
     public ResponseEntity<?> getAllComments(Long projectId) {
-        List<ProjectComment> allComments = commentRepository.findByProjectIdOrderByCreatedAtDesc(projectId);
-
-        List<ProjectCommentDTO> pinned = allComments.stream()
-                .filter(ProjectComment::isPinned)
-                .map(c -> new ProjectCommentDTO(
-                        c.getId(),
-                        c.getContent(),
-                        c.getAuthor().getUsername(),
-                        c.getCreatedAt(),
-                        true
-                ))
-                .collect(Collectors.toList());
-
-        List<ProjectCommentDTO> unpinned = allComments.stream()
-                .filter(c -> !c.isPinned())
-                .map(c -> new ProjectCommentDTO(
-                        c.getId(),
-                        c.getContent(),
-                        c.getAuthor().getUsername(),
-                        c.getCreatedAt(),
-                        false
-                ))
-                .collect(Collectors.toList());
-
         return ResponseEntity.ok(Map.of(
-                "pinned", pinned,
-                "unpinned", unpinned
+                "pinned", pinnedCommentCache.pinnedOf(projectId),
+                "unpinned", commentRepository.findDtosByProjectIdAndPinnedFalse(projectId)
         ));
     }
 
+    // Feed paginat după (createdAt, id), cele mai noi întâi; pinned sunt trimise o singură dată, pe prima pagină
+    public ResponseEntity<?> getCommentFeed(Long projectId, Integer limit, String cursor) {
+        if (limit != null && limit < 1) {
+            return ResponseEntity.badRequest().body(Map.of("error", "limit trebuie să fie pozitiv"));
+        }
+        int size = Math.min(limit == null ? defaultLimit : limit, maxLimit);
+
+        LocalDateTime beforeCreated = NEWEST_SENTINEL;
+        long beforeId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                KeysetCursor after = KeysetCursor.decode(cursor);
+                beforeCreated = LocalDateTime.parse(after.sortKey());
+                beforeId = after.id();
+            } catch (RuntimeException e) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Cursor invalid"));
+            }
+        }
+
+        List<ProjectCommentDTO> rows = commentRepository.findDtosByProjectIdAndPinnedFalseBefore(
+                projectId, beforeCreated, beforeId, Limit.of(size + 1));
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            ProjectCommentDTO last = rows.get(size - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt().toString(), last.getId()).encode();
+        }
+
+        List<ProjectCommentDTO> pinned = beforeId == Long.MAX_VALUE ? pinnedCommentCache.pinnedOf(projectId) : null;
+        return ResponseEntity.ok(new CommentFeedDTO(pinned, rows, nextCursor));
+    }
+
     @Transactional
     public ResponseEntity<?> togglePin(Long projectId, Long commentId, User user) {
         ProjectComment comment = commentRepository.findById(commentId)
@@ -114,7 +140,7 @@ public class ProjectCommentService {
             return ResponseEntity.badRequest().body("Comentariul nu aparține proiectului");
         }
 
-        boolean isManager = permissionService.isManagerOfProject(user, projectId, projectMemberRepository);
+        boolean isManager = permissionService.isManagerOfProject(user, projectId);
         boolean isAdmin = permissionService.isAdmin(user);
 
         if (!isManager && !isAdmin) {
@@ -123,6 +149,7 @@ public class ProjectCommentService {
 
         comment.setPinned(!comment.isPinned());
         commentRepository.save(comment);
+        pinnedCommentCache.evictAfterCommit(projectId);
         return ResponseEntity.ok().build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.dto.CursorPageDTO;
+import com.sgsm.backend.model.Project;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.ProjectListRow;
+import com.sgsm.backend.repository.ProjectRepository;
+import com.sgsm.backend.util.KeysetCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Listarea paginată de proiecte (keyset): fiecare pagină pornește de la cursorul ultimului rând,
+ * deci costul nu crește cu numărul paginii. Sortare după titlu (A-Z) sau după data creării (cele mai noi).
+ */
+@Service
+public class ProjectListingService {
+
+    public static final String SORT_TITLE = "title";
+    public static final String SORT_CREATED = "createdAt";
+
+    // Sentinelele primei pagini: orice cheie reală vine după ("", 0), respectiv înainte de (an 9999, MAX)
+    private static final LocalDateTime NEWEST_SENTINEL = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private PermissionService permissionService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.project-list.default-limit:50}")
+    private int defaultLimit;
+
+    @Value("${app.project-list.max-limit:200}")
+    private int maxLimit;
+
+    // Peste acest număr totalul nu mai e numărat exact
+    @Value("${app.project-list.count-cap:10000}")
+    private int countCap;
+
+    /**
+     * allProjects = listarea globală (admin); altfel doar proiectele în care userul e membru,
+     * cu excepția adminilor, care văd oricum toate proiectele.
+     */
+    @Transactional(readOnly = true)
+    public <T> ResponseEntity<?> page(User user, boolean allProjects, Integer limit, String cursor, String sort,
+                                      String q, boolean includeTotal, Function<ProjectListRow, T> mapper) {
+        String order = sort == null || sort.isBlank() ? SORT_TITLE : sort;
+        if (!SORT_TITLE.equals(order) && !SORT_CREATED.equals(order)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Sortare necunoscută: " + order));
+        }
+        if (limit != null && limit < 1) {
+            return ResponseEntity.badRequest().body(Map.of("error", "limit trebuie să fie pozitiv"));
+        }
+        int size = Math.min(limit == null ? defaultLimit : limit, maxLimit);
+
+        KeysetCursor after;
+        LocalDateTime afterCreated;
+        try {
+            after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+            afterCreated = after == null || !SORT_CREATED.equals(order) ? NEWEST_SENTINEL : LocalDateTime.parse(after.sortKey());
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Cursor invalid"));
+        }
+
+        boolean global = allProjects || permissionService.isAdmin(user);
+        String pattern = prefixPattern(q);
+        Limit fetch = Limit.of(size + 1);
+
+        List<ProjectListRow> rows;
+        if (SORT_TITLE.equals(order)) {
+            String afterKey = after == null ? "" : after.sortKey();
+            long afterId = after == null ? 0L : after.id();
+            rows = global
+                    ? projectRepository.pageAllByTitle(pattern, afterKey, afterId, fetch)
+                    : projectRepository.pageForMemberByTitle(user.getId(), pattern, afterKey, afterId, fetch);
+        } else {
+            long beforeId = after == null ? Long.MAX_VALUE : after.id();
+            rows = global
+                    ? projectRepository.pageAllByNewest(pattern, afterCreated, beforeId, fetch)
+                    : projectRepository.pageForMemberByNewest(user.getId(), pattern, afterCreated, beforeId, fetch);
+        }
+
+        // Un rând în plus față de limită arată că mai există o pagină, fără un COUNT separat
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            ProjectListRow last = rows.get(size - 1);
+            String key = SORT_TITLE.equals(order) ? last.getTitleKey() : last.getCreatedAt().toString();
+            nextCursor = new KeysetCursor(key, last.getId()).encode();
+        }
+
+        CursorPageDTO<T> page = new CursorPageDTO<>(rows.stream().map(mapper).toList(), nextCursor);
+        if (includeTotal) {
+            long counted = global
+                    ? projectRepository.countAllCapped(pattern, countCap + 1)
+                    : projectRepository.countForMemberCapped(user.getId(), pattern, countCap + 1);
+            if (counted <= countCap) {
+                page.setTotal(counted, true);
+            } else {
+                long estimate = global && q == null ? estimateProjectRows() : -1;
+                page.setTotal(Math.max(estimate, countCap), false);
+            }
+        }
+        return ResponseEntity.ok(page);
+    }
+
+    // Prefixul căutat, în litere mici, cu caracterele speciale LIKE escapate prin '!'
+    static String prefixPattern(String q) {
+        if (q == null || q.isBlank()) return "%";
+        String key = Project.titleKey(q.trim());
+        return key.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
+    // Estimarea din statisticile PostgreSQL (include și proiectele șterse încă nepurjate); -1 pe alte baze
+    private long estimateProjectRows() {
+        try {
+            Long estimate = jdbcTemplate.queryForObject(
+                    "SELECT reltuples::bigint FROM pg_class WHERE relname = 'projects'", Long.class);
+            return estimate == null ? -1 : estimate;
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.model.Project;
+import com.sgsm.backend.model.ProjectMember;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.ProjectMemberRepository;
+import com.sgsm.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Sincronizează membrii unui proiect cu o listă de id-uri prin diferență de mulțimi: id-urile existente
+ * într-un query, userii noi printr-un singur findAllById, eliminările într-un DELETE, adăugările ca INSERT-uri
+ * în batch. Numărul de drumuri la baza de date nu mai crește cu numărul de membri.
+ */
+@Component
+public class ProjectMembershipSync {
+
+    @Autowired private ProjectMemberRepository projectMemberRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private DashboardCache dashboardCache;
+    @Autowired private MembershipCache membershipCache;
+
+    // Proiect nou: creatorul devine MANAGER, restul MEMBER (id-urile inexistente sunt ignorate)
+    @Transactional
+    public Set<Long> initialize(Project project, User creator, Collection<Long> memberIds) {
+        Set<Long> wanted = normalize(memberIds, creator.getId());
+
+        List<ProjectMember> members = new ArrayList<>();
+        // Principalul autentificat e detașat; persist() are nevoie de o referință gestionată
+        members.add(newMember(project, userRepository.getReferenceById(creator.getId()), "MANAGER"));
+        for (User user : userRepository.findAllById(wanted)) {
+            members.add(newMember(project, user, "MEMBER"));
+        }
+        projectMemberRepository.saveAll(members);
+
+        Set<Long> changed = new HashSet<>();
+        members.forEach(pm -> changed.add(pm.getUser().getId()));
+        evict(project.getId(), changed);
+        return changed;
+    }
+
+    // Aduce membrii la lista dată; keepUserId (cel care editează) nu e niciodată eliminat și nici adăugat
+    @Transactional
+    public Set<Long> sync(Project project, Collection<Long> memberIds, Long keepUserId) {
+        Long projectId = project.getId();
+        Set<Long> wanted = normalize(memberIds, keepUserId);
+        Set<Long> existing = new HashSet<>(projectMemberRepository.findUserIdsByProjectId(projectId));
+
+        List<Long> removed = existing.stream()
+                .filter(id -> !id.equals(keepUserId) && !wanted.contains(id))
+                .toList();
+        if (!removed.isEmpty()) {
+            projectMemberRepository.deleteByProjectIdAndUserIdIn(projectId, removed);
+        }
+
+        wanted.removeAll(existing);
+        List<ProjectMember> added = new ArrayList<>();
+        if (!wanted.isEmpty()) {
+            for (User user : userRepository.findAllById(wanted)) {
+                added.add(newMember(project, user, "MEMBER"));
+            }
+            projectMemberRepository.saveAll(added);
+        }
+
+        Set<Long> changed = new HashSet<>(removed);
+        added.forEach(pm -> changed.add(pm.getUser().getId()));
+        evict(projectId, changed);
+        return changed;
+    }
+
+    private static Set<Long> normalize(Collection<Long> memberIds, Long excludedId) {
+        Set<Long> ids = new HashSet<>();
+        if (memberIds != null) {
+            memberIds.stream().filter(Objects::nonNull).forEach(ids::add);
+        }
+        ids.remove(excludedId);
+        return ids;
+    }
+
+    private static ProjectMember newMember(Project project, User user, String role) {
+        ProjectMember pm = new ProjectMember();
+        pm.setUser(user);
+        pm.setProject(project);
+        pm.setRole(role);
+        return pm;
+    }
+
+    private void evict(Long projectId, Set<Long> changed) {
+        if (changed.isEmpty()) return;
+        dashboardCache.evictForMembership(projectId, changed);
+        membershipCache.evictAfterCommit(changed);
+    }
+}
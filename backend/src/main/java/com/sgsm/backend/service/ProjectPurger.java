@@ -0,0 +1,165 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.repository.DeletedProject;
+import com.sgsm.backend.repository.ProjectRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Elimină în fundal rândurile unui proiect marcat ca șters, în bucăți DELETE limitate, fiecare în tranzacția ei:
+ * nicio entitate nu e încărcată în memorie, iar o conexiune e ținută doar cât durează o bucată.
+ * Starea e în baza de date (projects.deleted_at), deci după un restart job-ul periodic reia ștergerea;
+ * pașii sunt idempotenți, iar rândul proiectului dispare ultimul.
+ */
+@Component
+public class ProjectPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectPurger.class);
+
+    // Tabelele copil în ordinea ștergerii: întâi cele care referă taskurile, apoi taskurile
+    private static final List<String> CHILD_TABLES = List.of(
+            "task_transitions", "board_snapshots", "project_comment", "tasks", "project_members", "project_task_counters");
+
+    public enum Status { PENDING, PURGING, DONE, FAILED }
+
+    public static final class Progress {
+        private final Long deletedBy;
+        private volatile Status status = Status.PENDING;
+        private volatile String currentTable;
+        private final Map<String, AtomicLong> deletedRows = new ConcurrentHashMap<>();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile LocalDateTime finishedAt;
+
+        Progress(Long deletedBy) {
+            this.deletedBy = deletedBy;
+        }
+
+        public Long getDeletedBy() {
+            return deletedBy;
+        }
+
+        public Map<String, Object> toMap() {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("status", status);
+            result.put("currentTable", currentTable);
+            Map<String, Long> rows = new LinkedHashMap<>();
+            for (String table : CHILD_TABLES) {
+                AtomicLong count = deletedRows.get(table);
+                if (count != null) rows.put(table, count.get());
+            }
+            result.put("deletedRows", rows);
+            result.put("startedAt", startedAt);
+            result.put("finishedAt", finishedAt);
+            return result;
+        }
+    }
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private ProjectRepository projectRepository;
+
+    @Value("${app.project-purge.chunk-size:5000}")
+    private int chunkSize = 5000;
+
+    private final Map<Long, Progress> progress = new ConcurrentHashMap<>();
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    // Apelat din tranzacția care marchează proiectul, ca starea să fie vizibilă imediat
+    public void track(Long projectId, Long deletedBy) {
+        progress.put(projectId, new Progress(deletedBy));
+    }
+
+    @Async
+    public CompletableFuture<Void> purgeAsync(Long projectId) {
+        purge(projectId);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // Plasa de siguranță: ștergeri întrerupte de un restart sau eșuate
+    @Scheduled(fixedDelayString = "${app.project-purge.interval-ms:60000}",
+            initialDelayString = "${app.project-purge.initial-delay-ms:10000}")
+    public void resumePending() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(1);
+        progress.values().removeIf(state -> state.finishedAt != null && state.finishedAt.isBefore(cutoff));
+
+        for (Long projectId : projectRepository.findDeletedIds()) {
+            purge(projectId);
+        }
+    }
+
+    public void purge(Long projectId) {
+        if (!running.add(projectId)) return;
+
+        Progress state = progress.computeIfAbsent(projectId, id -> new Progress(
+                projectRepository.findDeletedById(id).map(DeletedProject::getDeletedBy).orElse(null)));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            state.status = Status.PURGING;
+            for (String table : CHILD_TABLES) {
+                state.currentTable = table;
+                AtomicLong deleted = state.deletedRows.computeIfAbsent(table, t -> new AtomicLong());
+                String sql = chunkSql(table);
+                int removed;
+                do {
+                    removed = transaction.execute(tx -> jdbcTemplate.update(sql, projectId, projectId));
+                    deleted.addAndGet(removed);
+                } while (removed >= chunkSize);
+            }
+            state.currentTable = null;
+            transaction.executeWithoutResult(tx -> projectRepository.purgeDeleted(projectId));
+
+            state.status = Status.DONE;
+            state.finishedAt = LocalDateTime.now();
+            log.info("Proiectul {} a fost eliminat: {}", projectId, state.toMap().get("deletedRows"));
+        } catch (RuntimeException e) {
+            state.status = Status.FAILED;
+            log.error("Eliminarea proiectului {} a eșuat; va fi reluată", projectId, e);
+        } finally {
+            running.remove(projectId);
+        }
+    }
+
+    // Gol dacă proiectul nu e în curs de ștergere și nici nu a fost eliminat de această instanță
+    public Optional<Progress> status(Long projectId) {
+        Progress state = progress.get(projectId);
+        if (state != null) return Optional.of(state);
+
+        // Marcat înainte de un restart și încă nepreluat de job
+        return projectRepository.findDeletedById(projectId).map(deleted -> new Progress(deleted.getDeletedBy()));
+    }
+
+    // Un DELETE de cel mult chunkSize rânduri (ambii parametri sunt projectId). Tabelele fără id simplu
+    // sunt delimitate prin cheia lor: bucket pentru board_snapshots, user_id pentru membri.
+    private String chunkSql(String table) {
+        return switch (table) {
+            case "board_snapshots" -> "DELETE FROM board_snapshots WHERE project_id = ? AND bucket <= " +
+                    "(SELECT MAX(b.bucket) FROM (SELECT bucket FROM board_snapshots WHERE project_id = ? " +
+                    "ORDER BY bucket LIMIT " + chunkSize + ") b)";
+            case "project_members", "project_task_counters" -> {
+                String key = table.equals("project_members") ? "user_id" : "status";
+                yield "DELETE FROM " + table + " WHERE project_id = ? AND " + key + " IN " +
+                        "(SELECT " + key + " FROM " + table + " WHERE project_id = ? LIMIT " + chunkSize + ")";
+            }
+            default -> "DELETE FROM " + table + " WHERE project_id = ? AND id IN " +
+                    "(SELECT id FROM " + table + " WHERE project_id = ? LIMIT " + chunkSize + ")";
+        };
+    }
+}
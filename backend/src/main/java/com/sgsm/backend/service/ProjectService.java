@@ -5,16 +5,18 @@ import com.sgsm.backend.dto.ProjectMemberDTO;
 import com.sgsm.backend.dto.ProjectUpdateDTO;
 import com.sgsm.backend.dto.ProjectWithRoleDTO;
 import com.sgsm.backend.model.Project;
-import com.sgsm.backend.model.ProjectMember;
 import com.sgsm.backend.model.User;
 import com.sgsm.backend.repository.ProjectMemberRepository;
 import com.sgsm.backend.repository.ProjectRepository;
-import com.sgsm.backend.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -23,52 +25,34 @@ public class ProjectService {
 
     @Autowired private ProjectRepository projectRepository;
     @Autowired private ProjectMemberRepository projectMemberRepository;
-    @Autowired private UserRepository userRepository;
+    @Autowired private ProjectMembershipSync projectMembershipSync;
     @Autowired private PermissionService permissionService;
+    @Autowired private TaskCounterService taskCounterService;
+    @Autowired private DashboardCache dashboardCache;
+    @Autowired private MembershipCache membershipCache;
+    @Autowired private ProjectPurger projectPurger;
 
     public List<ProjectWithRoleDTO> getProjectsForUser(User user) {
         if (permissionService.isAdmin(user)) {
             return getAllProjectsAsManagerView();
         }
 
-        return projectMemberRepository.findByUserId(user.getId()).stream()
-                .map(pm -> new ProjectWithRoleDTO(
-                        pm.getProject().getId(),
-                        pm.getProject().getTitle(),
-                        pm.getProject().getDescription(),
-                        pm.getRole()
-                )).toList();
+        return projectMemberRepository.findProjectsWithRoleByUserId(user.getId());
     }
 
+    @Transactional
     public ResponseEntity<?> createProject(ProjectDTO dto, User user) {
         Project project = new Project(dto.getTitle(), dto.getDescription());
         Project savedProject = projectRepository.save(project);
+        taskCounterService.initProject(savedProject.getId());
 
-        ProjectMember creator = new ProjectMember();
-        creator.setUser(user);
-        creator.setProject(savedProject);
-        creator.setRole("MANAGER");
-        projectMemberRepository.save(creator);
-
-        if (dto.getMemberIds() != null) {
-            for (Long memberId : dto.getMemberIds()) {
-                if (memberId == null || memberId.equals(user.getId())) continue;
-
-                userRepository.findById(memberId).ifPresent(m -> {
-                    ProjectMember pm = new ProjectMember();
-                    pm.setUser(m);
-                    pm.setProject(savedProject);
-                    pm.setRole("MEMBER");
-                    projectMemberRepository.save(pm);
-                });
-            }
-        }
+        projectMembershipSync.initialize(savedProject, user, dto.getMemberIds());
 
         return ResponseEntity.ok(savedProject);
     }
 
     public boolean isUserManagerOfProject(User user, Long projectId) {
-        return permissionService.isManagerOfProject(user, projectId, projectMemberRepository);
+        return permissionService.isManagerOfProject(user, projectId);
     }
 
     public Optional<String> getUserRoleInProject(User user, Long projectId) {
@@ -76,40 +60,74 @@ public class ProjectService {
             return Optional.of("MANAGER");
         }
 
-        return projectMemberRepository.findByUserIdAndProjectId(user.getId(), projectId)
-                .map(ProjectMember::getRole);
+        return permissionService.roleInProject(user.getId(), projectId);
     }
 
     public List<ProjectMemberDTO> getProjectMembers(Long projectId, User user) {
         boolean isAdmin = permissionService.isAdmin(user);
 
-        if (!isAdmin && !projectMemberRepository.existsByUserIdAndProjectId(user.getId(), projectId)) {
+        if (!isAdmin && !permissionService.isMemberOfProject(user.getId(), projectId)) {
             throw new RuntimeException("Nu ai acces la acest proiect.");
         }
 
-        return projectMemberRepository.findByProjectId(projectId).stream()
-                .map(pm -> new ProjectMemberDTO(pm.getUser().getId(), pm.getUser().getUsername(), pm.getRole()))
-                .toList();
+        return projectMemberRepository.findMemberDtosByProjectId(projectId);
     }
 
+    // Proiectul e doar marcat ca șters (dispare imediat din citiri); taskurile, comentariile și istoricul
+    // sunt eliminate în fundal de ProjectPurger, în bucăți
+    @Transactional
     public ResponseEntity<?> deleteProject(Long projectId, User user) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Proiectul nu există."));
 
         boolean isAdmin = permissionService.isAdmin(user);
-        boolean isManager = permissionService.isManagerOfProject(user, projectId, projectMemberRepository);
+        boolean isManager = permissionService.isManagerOfProject(user, projectId);
 
         if (!isManager && !isAdmin) {
             return ResponseEntity.status(403).body("Nu ai permisiunea de a șterge acest proiect.");
         }
 
-        projectRepository.delete(project);
-        return ResponseEntity.ok("Proiectul a fost șters.");
+        List<Long> memberIds = projectMemberRepository.findUserIdsByProjectId(projectId);
+        dashboardCache.evictForMembership(projectId, memberIds);
+        membershipCache.evictAfterCommit(memberIds);
+
+        project.setDeletedAt(LocalDateTime.now());
+        project.setDeletedBy(user.getId());
+
+        // Membrii și contoarele sunt puține rânduri: șterse acum, ca permisiunile și dashboard-urile să nu mai vadă proiectul
+        projectMemberRepository.deleteByProjectId(projectId);
+        taskCounterService.deleteForProject(projectId);
+
+        projectPurger.track(projectId, user.getId());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                projectPurger.purgeAsync(projectId);
+            }
+        });
+
+        return ResponseEntity.accepted().body(Map.of(
+                "message", "Proiectul a fost șters. Datele asociate sunt eliminate în fundal.",
+                "statusUrl", "/projects/" + projectId + "/deletion"));
     }
 
+    public ResponseEntity<?> getDeletionStatus(Long projectId, User user) {
+        Optional<ProjectPurger.Progress> progress = projectPurger.status(projectId);
+        if (progress.isEmpty()) {
+            return ResponseEntity.status(404).body(Map.of("error", "Nu există o ștergere în curs pentru acest proiect."));
+        }
+
+        // Membrii au fost deja eliminați, așa că starea o vede doar cine a șters proiectul (sau un admin)
+        if (!permissionService.isAdmin(user) && !user.getId().equals(progress.get().getDeletedBy())) {
+            return ResponseEntity.status(403).body(Map.of("error", "Nu ai acces la această ștergere."));
+        }
+        return ResponseEntity.ok(progress.get().toMap());
+    }
+
+    @Transactional
     public ResponseEntity<?> updateProject(Long id, User user, ProjectUpdateDTO updateDTO) {
         boolean isAdmin = permissionService.isAdmin(user);
-        boolean isManager = permissionService.isManagerOfProject(user, id, projectMemberRepository);
+        boolean isManager = permissionService.isManagerOfProject(user, id);
 
         if (!isManager && !isAdmin) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
@@ -130,32 +148,7 @@ public class ProjectService {
         }
 
         if (updateDTO.getMemberIds() != null) {
-            Set<Long> newMemberIds = new HashSet<>(updateDTO.getMemberIds());
-            List<ProjectMember> existingMembers = projectMemberRepository.findByProjectId(id);
-
-            for (ProjectMember pm : existingMembers) {
-                Long uid = pm.getUser().getId();
-                if (!uid.equals(user.getId()) && !newMemberIds.contains(uid)) {
-                    projectMemberRepository.delete(pm);
-                }
-            }
-
-            for (Long memberId : newMemberIds) {
-                if (memberId == null || memberId.equals(user.getId())) continue;
-
-                boolean alreadyExists = existingMembers.stream()
-                        .anyMatch(pm -> pm.getUser().getId().equals(memberId));
-
-                if (!alreadyExists) {
-                    userRepository.findById(memberId).ifPresent(u -> {
-                        ProjectMember newMember = new ProjectMember();
-                        newMember.setUser(u);
-                        newMember.setProject(project);
-                        newMember.setRole("MEMBER");
-                        projectMemberRepository.save(newMember);
-                    });
-                }
-            }
+            projectMembershipSync.sync(project, updateDTO.getMemberIds(), user.getId());
         }
 
         projectRepository.save(project);
@@ -164,7 +157,7 @@ public class ProjectService {
 
     public Optional<ProjectDTO> getProjectById(Long id, User user) {
         boolean isAdmin = permissionService.isAdmin(user);
-        boolean isMember = projectMemberRepository.existsByProjectIdAndUserId(id, user.getId());
+        boolean isMember = permissionService.isMemberOfProject(user.getId(), id);
 
         if (!isMember && !isAdmin) return Optional.empty();
 
@@ -0,0 +1,98 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.dto.AuthResponse;
+import com.sgsm.backend.model.RefreshToken;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.RefreshTokenRepository;
+import com.sgsm.backend.repository.UserRepository;
+import com.sgsm.backend.security.JwtUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tokenuri de refresh opace, cu rotire: fiecare folosire emite o pereche nouă și îl consumă pe cel vechi.
+ * Prezentarea unui token deja rotit înseamnă că a fost copiat, așa că toate sesiunile userului sunt închise.
+ * Reîmprospătarea nu trece prin BCrypt.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JwtUtil jwtUtil;
+
+    @Value("${app.jwt.refresh-ttl:14d}")
+    private Duration refreshTtl = Duration.ofDays(14);
+
+    // Valoarea în clar e returnată o singură dată, clientului; în tabelă ajunge doar digest-ul
+    public String issue(User user) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String raw = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(JwtUtil.digest(raw), user.getId(),
+                user.getCredentialsVersion(), LocalDateTime.now().plus(refreshTtl)));
+        return raw;
+    }
+
+    @Transactional
+    public ResponseEntity<?> refresh(String raw) {
+        if (raw == null || raw.isBlank()) return invalid();
+
+        Optional<RefreshToken> tokenOpt = refreshTokenRepository.findByTokenHashForUpdate(JwtUtil.digest(raw));
+        if (tokenOpt.isEmpty()) return invalid();
+
+        RefreshToken token = tokenOpt.get();
+        LocalDateTime now = LocalDateTime.now();
+
+        if (token.getRevokedAt() != null) {
+            refreshTokenRepository.revokeAllForUser(token.getUserId(), now);
+            return invalid();
+        }
+        if (token.getExpiresAt().isBefore(now)) return invalid();
+
+        // Userul a fost șters sau și-a schimbat parola/username-ul după emitere
+        User user = userRepository.findById(token.getUserId()).orElse(null);
+        if (user == null || user.getCredentialsVersion() != token.getCredentialsVersion()) {
+            token.setRevokedAt(now);
+            return invalid();
+        }
+
+        token.setRevokedAt(now);
+        String accessToken = jwtUtil.generateToken(user.getUsername(), user.getRole(), user.getCredentialsVersion());
+        return ResponseEntity.ok(new AuthResponse(accessToken, issue(user)));
+    }
+
+    @Transactional
+    public void revoke(String raw) {
+        if (raw == null || raw.isBlank()) return;
+        refreshTokenRepository.findByTokenHashForUpdate(JwtUtil.digest(raw))
+                .filter(token -> token.getRevokedAt() == null)
+                .ifPresent(token -> token.setRevokedAt(LocalDateTime.now()));
+    }
+
+    // Rândurile expirate (inclusiv cele rotite) nu mai servesc nici la detectarea reutilizării
+    @Scheduled(fixedDelayString = "${app.jwt.refresh.purge-interval-ms:3600000}",
+            initialDelayString = "${app.jwt.refresh.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private ResponseEntity<?> invalid() {
+        return ResponseEntity.status(401).body(Map.of("error", "Sesiune expirată. Autentifică-te din nou."));
+    }
+}
@@ -0,0 +1,101 @@
+package com.sgsm.backend.service;
+
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserează rânduri validate direct în tabela tasks, în tranzacția curentă.
+ * Pe PostgreSQL folosește COPY FROM STDIN; pe alte baze de date, INSERT-uri JDBC în batch.
+ */
+@Component
+public class TaskBulkLoader {
+
+    public record Row(String title, String description, String status, LocalDateTime deadline, String tags,
+                      Long projectId, Long assigneeId, String rankKey, boolean overdue, LocalDateTime createdAt) {}
+
+    private static final String COLUMNS =
+            "title, description, status, deadline, tags, project_id, assigned_to, rank_key, overdue, created_at";
+
+    @Autowired private DataSource dataSource;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    public void load(List<Row> rows) {
+        if (rows.isEmpty()) return;
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                copy(connection.unwrap(PGConnection.class), rows);
+            } else {
+                insertBatch(rows);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Importul a eșuat: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void copy(PGConnection connection, List<Row> rows) throws SQLException {
+        StringBuilder csv = new StringBuilder(rows.size() * 96);
+        for (Row row : rows) {
+            appendField(csv, row.title()).append(',');
+            appendField(csv, row.description()).append(',');
+            appendField(csv, row.status()).append(',');
+            appendField(csv, row.deadline() != null ? row.deadline().toString() : null).append(',');
+            appendField(csv, row.tags()).append(',');
+            csv.append(row.projectId()).append(',');
+            csv.append(row.assigneeId() != null ? row.assigneeId().toString() : "").append(',');
+            appendField(csv, row.rankKey()).append(',');
+            csv.append(row.overdue()).append(',');
+            csv.append(row.createdAt()).append('\n');
+        }
+
+        try {
+            connection.getCopyAPI().copyIn(
+                    "COPY tasks (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)", new StringReader(csv.toString()));
+        } catch (java.io.IOException e) {
+            throw new SQLException(e);
+        }
+    }
+
+    // În formatul CSV al lui COPY, câmpul gol neîncadrat e NULL, iar "" e șirul gol
+    private static StringBuilder appendField(StringBuilder csv, String value) {
+        if (value == null) return csv;
+        csv.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') csv.append('"');
+            csv.append(c);
+        }
+        return csv.append('"');
+    }
+
+    private void insertBatch(List<Row> rows) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            args.add(new Object[]{
+                    row.title(), row.description(), row.status(),
+                    row.deadline() != null ? Timestamp.valueOf(row.deadline()) : null,
+                    row.tags(), row.projectId(), row.assigneeId(), row.rankKey(), row.overdue(),
+                    Timestamp.valueOf(row.createdAt())
+            });
+        }
+        int[] types = {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR,
+                Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.BOOLEAN, Types.TIMESTAMP};
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", args, types);
+    }
+}
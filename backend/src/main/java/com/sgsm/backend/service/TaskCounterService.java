@@ -0,0 +1,160 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.model.ProjectTaskCounter;
+import com.sgsm.backend.model.ProjectTaskCounterId;
+import com.sgsm.backend.repository.ProjectStatusCount;
+import com.sgsm.backend.repository.ProjectRepository;
+import com.sgsm.backend.repository.ProjectTaskCounterRepository;
+import com.sgsm.backend.repository.TaskRepository;
+import com.sgsm.backend.repository.TaskStatusCount;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Contoare per proiect și status, actualizate în aceeași tranzacție cu taskurile.
+ * Citirile (dashboard, limita WIP) nu mai numără taskurile de la zero.
+ */
+@Service
+public class TaskCounterService {
+
+    public static final List<String> BOARD_STATUSES = List.of("TO_DO", "IN_PROGRESS", "DONE");
+
+    @Autowired private ProjectTaskCounterRepository counterRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private ProjectRepository projectRepository;
+
+    public long count(Long projectId, String status) {
+        return counterRepository.findById(new ProjectTaskCounterId(projectId, status))
+                .map(ProjectTaskCounter::getTaskCount)
+                .orElse(0L);
+    }
+
+    // Blochează rândul contorului până la finalul tranzacției, ca verificarea WIP să nu fie ocolită concurent
+    @Transactional
+    public long countForUpdate(Long projectId, String status) {
+        return lockRow(projectId, status)
+                .map(ProjectTaskCounter::getTaskCount)
+                .orElse(0L);
+    }
+
+    // Serializează mutările și rebalansarea într-o coloană (cheile de ordonare sunt calculate din vecini)
+    @Transactional
+    public void lockColumn(Long projectId, String status) {
+        lockRow(projectId, status);
+    }
+
+    // Un rând lipsă e creat întâi, altfel nu ar exista nimic de blocat și verificările ar rula neserializate
+    private Optional<ProjectTaskCounter> lockRow(Long projectId, String status) {
+        ProjectTaskCounterId id = new ProjectTaskCounterId(projectId, status);
+        Optional<ProjectTaskCounter> row = counterRepository.findForUpdate(id);
+        if (row.isEmpty() && projectId != null && status != null) {
+            counterRepository.insertIfAbsent(projectId, status, 0, 0);
+            row = counterRepository.findForUpdate(id);
+        }
+        return row;
+    }
+
+    // Totaluri și întârzieri pe status, citite direct din contoare
+    public List<TaskStatusCount> totals() {
+        return counterRepository.sumByStatus();
+    }
+
+    public List<TaskStatusCount> totalsForManager(Long userId) {
+        return counterRepository.sumByStatusForManager(userId);
+    }
+
+    // Rândurile există de la crearea proiectului, așa că actualizările ulterioare sunt simple UPDATE-uri
+    @Transactional
+    public void initProject(Long projectId) {
+        counterRepository.saveAll(BOARD_STATUSES.stream()
+                .map(status -> new ProjectTaskCounter(new ProjectTaskCounterId(projectId, status), 0, 0))
+                .toList());
+    }
+
+    @Transactional
+    public void increment(Long projectId, String status, boolean overdue) {
+        add(projectId, status, 1, overdue ? 1 : 0);
+    }
+
+    @Transactional
+    public void decrement(Long projectId, String status, boolean overdue) {
+        add(projectId, status, -1, overdue ? -1 : 0);
+    }
+
+    @Transactional
+    public void move(Long projectId, String fromStatus, boolean fromOverdue, String toStatus, boolean toOverdue) {
+        if (fromStatus != null && fromStatus.equals(toStatus)) {
+            add(projectId, toStatus, 0, (toOverdue ? 1 : 0) - (fromOverdue ? 1 : 0));
+            return;
+        }
+        decrement(projectId, fromStatus, fromOverdue);
+        increment(projectId, toStatus, toOverdue);
+    }
+
+    @Transactional
+    public void add(Long projectId, String status, long delta, long overdueDelta) {
+        if (projectId == null || status == null || (delta == 0 && overdueDelta == 0)) return;
+
+        // Upsert: dacă rândul lipsește îl inserează primul writer; cel care pierde cursa face UPDATE-ul
+        if (counterRepository.addToCount(projectId, status, delta, overdueDelta) == 0
+                && counterRepository.insertIfAbsent(projectId, status, Math.max(delta, 0), Math.max(overdueDelta, 0)) == 0) {
+            counterRepository.addToCount(projectId, status, delta, overdueDelta);
+        }
+    }
+
+    @Transactional
+    public void deleteForProject(Long projectId) {
+        counterRepository.deleteByProjectId(projectId);
+    }
+
+    // Reconstruiește contoarele din tabela de taskuri (reparație), fără ștergere: un rând lipsă e inserat,
+    // unul existent primește valorile recalculate
+    @Transactional
+    public void rebuild() {
+        for (ProjectTaskCounter counter : computeCounters()) {
+            ProjectTaskCounterId id = counter.getId();
+            if (counterRepository.insertIfAbsent(id.getProjectId(), id.getStatus(), counter.getTaskCount(), counter.getOverdueCount()) == 0) {
+                counterRepository.setCounts(id.getProjectId(), id.getStatus(), counter.getTaskCount(), counter.getOverdueCount());
+            }
+        }
+    }
+
+    // Prima pornire: noduri pornite simultan văd toate tabela goală, așa că doar inserează rândurile lipsă.
+    // Al doilea nod nu șterge și nu suprascrie nimic din ce a scris primul (nici actualizările de după)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (counterRepository.count() == 0 && taskRepository.count() > 0) {
+            for (ProjectTaskCounter counter : computeCounters()) {
+                ProjectTaskCounterId id = counter.getId();
+                counterRepository.insertIfAbsent(id.getProjectId(), id.getStatus(), counter.getTaskCount(), counter.getOverdueCount());
+            }
+        }
+    }
+
+    // Fiecare proiect primește toate cele trei coloane, și cele goale, ca actualizările și blocările să găsească
+    // mereu rândul
+    private Collection<ProjectTaskCounter> computeCounters() {
+        Map<ProjectTaskCounterId, ProjectTaskCounter> counters = new LinkedHashMap<>();
+        for (Long projectId : projectRepository.findAllIds()) {
+            for (String status : BOARD_STATUSES) {
+                ProjectTaskCounterId id = new ProjectTaskCounterId(projectId, status);
+                counters.put(id, new ProjectTaskCounter(id, 0, 0));
+            }
+        }
+        for (ProjectStatusCount row : taskRepository.countGroupedByProjectAndStatus()) {
+            ProjectTaskCounterId id = new ProjectTaskCounterId(row.getProjectId(), row.getStatus());
+            counters.put(id, new ProjectTaskCounter(id, row.getTotal(), row.getOverdue()));
+        }
+        return counters.values();
+    }
+}
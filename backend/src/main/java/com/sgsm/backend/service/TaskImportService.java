@@ -0,0 +1,307 @@
+package com.sgsm.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sgsm.backend.dto.TaskImportResultDTO;
+import com.sgsm.backend.model.TaskTransition;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.ImportedTask;
+import com.sgsm.backend.repository.MemberRef;
+import com.sgsm.backend.repository.ProjectMemberRepository;
+import com.sgsm.backend.repository.ProjectRepository;
+import com.sgsm.backend.repository.TaskRepository;
+import com.sgsm.backend.repository.TaskTransitionRepository;
+import com.sgsm.backend.util.CsvReader;
+import com.sgsm.backend.util.RankKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Import în masă de taskuri dintr-un flux CSV sau NDJSON. Fișierul e citit incremental, rândurile sunt
+ * validate și inserate în loturi (fiecare lot în propria tranzacție), iar erorile sunt raportate per linie.
+ */
+@Service
+public class TaskImportService {
+
+    private static final int WIP_LIMIT = 7;
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    // Un rând citit din fișier, înainte de validare
+    record ImportRow(int line, String title, String description, String status,
+                     String deadline, String tags, String assignee, String parseError) {}
+
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private ProjectMemberRepository projectMemberRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private TaskTransitionRepository taskTransitionRepository;
+    @Autowired private PermissionService permissionService;
+    @Autowired private TaskCounterService taskCounterService;
+    @Autowired private TaskBulkLoader taskBulkLoader;
+    @Autowired private DashboardCache dashboardCache;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Value("${app.task-import.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.task-import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    public ResponseEntity<?> importTasks(Long projectId, InputStream body, String contentType, User user) {
+        if (!projectRepository.existsById(projectId)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        boolean isAdmin = permissionService.isAdmin(user);
+        boolean isManager = permissionService.isManagerOfProject(user, projectId);
+        if (!isManager && !isAdmin) {
+            return ResponseEntity.status(403).body(Map.of("error", "Nu ai dreptul să imporți taskuri în acest proiect."));
+        }
+
+        // Toți membrii proiectului într-un singur query; asignații sunt rezolvați după username
+        Map<String, Long> members = new HashMap<>();
+        for (MemberRef member : projectMemberRepository.findMemberRefsByProjectId(projectId)) {
+            members.put(member.getUsername(), member.getId());
+        }
+
+        TaskImportResultDTO result = new TaskImportResultDTO();
+        Set<Long> assignees = new HashSet<>();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 1 << 16)) {
+            RowSource source = isNdjson(contentType) ? new NdjsonSource(reader) : new CsvSource(new CsvReader(reader));
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            ImportRow row;
+            while ((row = source.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    loadChunk(projectId, chunk, members, assignees, user, result, transaction);
+                    chunk.clear();
+                }
+            }
+            loadChunk(projectId, chunk, members, assignees, user, result, transaction);
+        } catch (IOException e) {
+            if (result.getImported() == 0) {
+                return ResponseEntity.badRequest().body(Map.of(
+                        "error", "Fișier invalid: " + e.getMessage(),
+                        "imported", 0));
+            }
+            // Loturile de dinaintea erorii sunt deja salvate: import parțial, nu cerere invalidă
+            result.setFileError("Fișier invalid: " + e.getMessage());
+        } finally {
+            // Și când importul se oprește la mijloc (fișier invalid, lot eșuat), pentru loturile deja salvate
+            if (result.getImported() > 0) {
+                dashboardCache.evictForTask(projectId, assignees.toArray(Long[]::new));
+            }
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    private void loadChunk(Long projectId, List<ImportRow> chunk, Map<String, Long> members, Set<Long> assignees,
+                           User user, TaskImportResultDTO result, TransactionTemplate transaction) {
+        if (chunk.isEmpty()) return;
+
+        transaction.executeWithoutResult(status -> {
+            // Coloanele sunt blocate pe durata lotului: cheile de ordonare continuă de la maximul curent
+            Map<String, String> lastKey = new HashMap<>();
+            for (String column : TaskCounterService.BOARD_STATUSES) {
+                taskCounterService.lockColumn(projectId, column);
+                lastKey.put(column, taskRepository.findMaxRankKey(projectId, column));
+            }
+            long wip = taskCounterService.count(projectId, "IN_PROGRESS");
+
+            // La precizia coloanei created_at, ca rândurile lotului să poată fi regăsite după inserare
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            List<TaskBulkLoader.Row> valid = new ArrayList<>(chunk.size());
+            Map<String, long[]> deltas = new HashMap<>();
+
+            for (ImportRow row : chunk) {
+                String error = row.parseError();
+                String taskStatus = blankToNull(row.status()) != null ? row.status().trim().toUpperCase() : "TO_DO";
+                LocalDateTime deadline = null;
+                Long assigneeId = null;
+
+                if (error == null) error = validateText(row);
+                if (error == null && !TaskCounterService.BOARD_STATUSES.contains(taskStatus)) {
+                    error = "Status invalid: " + row.status();
+                }
+                if (error == null && blankToNull(row.deadline()) != null) {
+                    deadline = parseDeadline(row.deadline().trim());
+                    if (deadline == null) error = "Deadline invalid: " + row.deadline();
+                }
+                if (error == null && blankToNull(row.assignee()) != null) {
+                    assigneeId = members.get(row.assignee().trim());
+                    if (assigneeId == null) error = "Utilizatorul " + row.assignee() + " nu este membru al proiectului.";
+                }
+                if (error == null && "IN_PROGRESS".equals(taskStatus) && wip >= WIP_LIMIT) {
+                    error = "Limita WIP atinsă: maxim 7 taskuri IN_PROGRESS.";
+                }
+
+                if (error != null) {
+                    reportError(result, row.line(), error);
+                    continue;
+                }
+
+                if ("IN_PROGRESS".equals(taskStatus)) wip++;
+                boolean overdue = deadline != null && deadline.isBefore(now) && !"DONE".equals(taskStatus);
+                String rankKey = RankKey.after(lastKey.get(taskStatus));
+                lastKey.put(taskStatus, rankKey);
+
+                valid.add(new TaskBulkLoader.Row(row.title().trim(), blankToNull(row.description()), taskStatus, deadline,
+                        blankToNull(row.tags()), projectId, assigneeId, rankKey, overdue, now));
+                long[] delta = deltas.computeIfAbsent(taskStatus, s -> new long[2]);
+                delta[0]++;
+                if (overdue) delta[1]++;
+                if (assigneeId != null) assignees.add(assigneeId);
+            }
+
+            taskBulkLoader.load(valid);
+            logCreation(projectId, now, user, valid.size());
+            deltas.forEach((taskStatus, delta) -> taskCounterService.add(projectId, taskStatus, delta[0], delta[1]));
+            result.setImported(result.getImported() + valid.size());
+        });
+    }
+
+    // Tranziția null -> status, ca la TaskService.createTask; fără ea taskurile importate nu au lead time.
+    // COPY nu întoarce id-urile, așa că rândurile lotului sunt recitite (un SELECT) și jurnalul scris în batch
+    private void logCreation(Long projectId, LocalDateTime createdAt, User user, int expected) {
+        if (expected == 0) return;
+
+        List<TaskTransition> transitions = new ArrayList<>(expected);
+        for (ImportedTask task : taskRepository.findImportedWithoutTransition(projectId, createdAt)) {
+            transitions.add(new TaskTransition(task.getId(), projectId, null, task.getStatus(), createdAt,
+                    user.getId(), task.getAssigneeId()));
+        }
+        taskTransitionRepository.saveAll(transitions);
+    }
+
+    private String validateText(ImportRow row) {
+        if (blankToNull(row.title()) == null) return "Titlul este obligatoriu.";
+        if (row.title().trim().length() > MAX_TEXT_LENGTH) return "Titlul depășește " + MAX_TEXT_LENGTH + " caractere.";
+        if (row.description() != null && row.description().length() > MAX_TEXT_LENGTH) {
+            return "Descrierea depășește " + MAX_TEXT_LENGTH + " caractere.";
+        }
+        if (row.tags() != null && row.tags().length() > MAX_TEXT_LENGTH) {
+            return "Tag-urile depășesc " + MAX_TEXT_LENGTH + " caractere.";
+        }
+        return null;
+    }
+
+    private void reportError(TaskImportResultDTO result, int line, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < maxReportedErrors) {
+            result.getErrors().add(new TaskImportResultDTO.RowError(line, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    // Acceptă dată-oră ISO sau doar dată (termen la finalul zilei)
+    private static LocalDateTime parseDeadline(String value) {
+        try {
+            return value.length() <= 10 ? LocalDate.parse(value).atTime(23, 59) : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static boolean isNdjson(String contentType) {
+        return contentType != null && contentType.toLowerCase().contains("json");
+    }
+
+    private interface RowSource {
+        ImportRow next() throws IOException;
+    }
+
+    // Prima linie e antetul; coloanele sunt găsite după nume
+    private static final class CsvSource implements RowSource {
+        private final CsvReader csv;
+        private Map<String, Integer> header;
+
+        CsvSource(CsvReader csv) {
+            this.csv = csv;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            if (header == null) {
+                List<String> names = csv.next();
+                if (names == null) return null;
+                header = new HashMap<>();
+                for (int i = 0; i < names.size(); i++) {
+                    header.put(names.get(i).trim().toLowerCase(), i);
+                }
+                if (!header.containsKey("title")) throw new IOException("Antetul CSV nu conține coloana title.");
+            }
+
+            List<String> fields = csv.next();
+            if (fields == null) return null;
+            return new ImportRow(csv.getRecordLine(), field(fields, "title"), field(fields, "description"),
+                    field(fields, "status"), field(fields, "deadline"), field(fields, "tags"),
+                    field(fields, "assignee"), null);
+        }
+
+        private String field(List<String> fields, String name) {
+            Integer index = header.get(name);
+            return index != null && index < fields.size() ? fields.get(index) : null;
+        }
+    }
+
+    // Un obiect JSON pe linie; o linie invalidă devine eroare de rând, nu oprește importul
+    private final class NdjsonSource implements RowSource {
+        private final BufferedReader reader;
+        private int line;
+
+        NdjsonSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) continue;
+                try {
+                    JsonNode node = objectMapper.readTree(text);
+                    if (!node.isObject()) return new ImportRow(line, null, null, null, null, null, null, "Linia nu este un obiect JSON.");
+                    return new ImportRow(line, text(node, "title"), text(node, "description"), text(node, "status"),
+                            text(node, "deadline"), text(node, "tags"), text(node, "assignee"), null);
+                } catch (IOException e) {
+                    return new ImportRow(line, null, null, null, null, null, null, "JSON invalid.");
+                }
+            }
+            return null;
+        }
+
+        private String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            if (value == null || value.isNull()) return null;
+            if (value.isArray()) {
+                List<String> parts = new ArrayList<>();
+                value.forEach(v -> parts.add(v.asText()));
+                return String.join(",", parts);
+            }
+            return value.asText();
+        }
+    }
+}
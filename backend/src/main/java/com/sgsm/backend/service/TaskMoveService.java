@@ -0,0 +1,201 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.dto.TaskDTO;
+import com.sgsm.backend.dto.TaskMoveDTO;
+import com.sgsm.backend.model.Task;
+import com.sgsm.backend.model.TaskTransition;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.TaskRepository;
+import com.sgsm.backend.repository.TaskTransitionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Mutarea mai multor carduri într-o singură cerere: permisiunile și limita WIP sunt verificate o dată,
+ * cheile de ordonare sunt calculate dintr-o singură citire per coloană, iar scrierile pleacă în batch.
+ */
+@Service
+public class TaskMoveService {
+
+    private static final int WIP_LIMIT = 7;
+
+    private record CounterDelta(long tasks, long overdue) {
+        CounterDelta plus(CounterDelta other) {
+            return new CounterDelta(tasks + other.tasks, overdue + other.overdue);
+        }
+    }
+
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private TaskTransitionRepository taskTransitionRepository;
+    @Autowired private PermissionService permissionService;
+    @Autowired private TaskCounterService taskCounterService;
+    @Autowired private TaskRankService taskRankService;
+    @Autowired private DashboardCache dashboardCache;
+
+    @Value("${app.task-moves.max-batch-size:200}")
+    private int maxBatchSize;
+
+    @Transactional
+    public ResponseEntity<?> moveTasks(Long projectId, List<TaskMoveDTO> moves, User user) {
+        String invalid = validate(moves);
+        if (invalid != null) {
+            return ResponseEntity.badRequest().body(Map.of("error", invalid));
+        }
+
+        boolean isAdmin = permissionService.isAdmin(user);
+        Optional<String> membership = permissionService.roleInProject(user.getId(), projectId);
+        if (!isAdmin && membership.isEmpty()) {
+            return ResponseEntity.status(403).body(Map.of("error", "Nu ești membru al proiectului."));
+        }
+        boolean canMoveAny = isAdmin || membership.map(permissionService::isManager).orElse(false);
+
+        Map<Long, TaskMoveDTO> moveByTask = new LinkedHashMap<>();
+        for (TaskMoveDTO move : moves) {
+            moveByTask.put(move.getTaskId(), move);
+        }
+
+        taskRepository.lockByIds(moveByTask.keySet());
+        List<Task> tasks = taskRepository.findAllWithProjectAndAssignee(moveByTask.keySet());
+        if (tasks.size() != moveByTask.size()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Unele taskuri nu există."));
+        }
+        for (Task task : tasks) {
+            if (!task.getProject().getId().equals(projectId)) {
+                return ResponseEntity.badRequest().body(Map.of("error", "Taskul " + task.getId() + " nu aparține proiectului."));
+            }
+            boolean isAssigned = task.getAssignedTo() != null && task.getAssignedTo().getId().equals(user.getId());
+            if (!canMoveAny && !isAssigned) {
+                return ResponseEntity.status(403).body(Map.of("error", "Nu ai permisiunea de a muta taskul " + task.getId() + "."));
+            }
+        }
+
+        // Coloanele atinse sunt blocate în ordine fixă; WIP se verifică pe rezultatul întregului lot.
+        // Un task fără status nu stă în nicio coloană, deci nu are nimic de blocat la sursă
+        SortedSet<String> columns = new TreeSet<>();
+        for (Task task : tasks) {
+            if (task.getStatus() != null) columns.add(task.getStatus());
+            columns.add(moveByTask.get(task.getId()).getTargetStatus());
+        }
+        long wipDelta = 0;
+        for (Task task : tasks) {
+            boolean wasInProgress = "IN_PROGRESS".equals(task.getStatus());
+            boolean willBeInProgress = "IN_PROGRESS".equals(moveByTask.get(task.getId()).getTargetStatus());
+            wipDelta += (willBeInProgress ? 1 : 0) - (wasInProgress ? 1 : 0);
+        }
+        long wipCount = 0;
+        for (String column : columns) {
+            if ("IN_PROGRESS".equals(column)) {
+                wipCount = taskCounterService.countForUpdate(projectId, column);
+            } else {
+                taskCounterService.lockColumn(projectId, column);
+            }
+        }
+        if (wipDelta > 0 && wipCount + wipDelta > WIP_LIMIT) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Limita WIP atinsă: maxim 7 taskuri IN_PROGRESS."));
+        }
+
+        Map<Long, String> newKeys = assignRanks(projectId, moveByTask);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskTransition> transitions = new ArrayList<>();
+        Set<Long> assignees = new HashSet<>();
+        // Diferențele de contor se adună per coloană: un UPDATE per coloană atinsă, nu două per card
+        Map<String, CounterDelta> counterDeltas = new TreeMap<>();
+        for (Task task : tasks) {
+            String previousStatus = task.getStatus();
+            boolean previousOverdue = task.isOverdue();
+
+            task.setStatus(moveByTask.get(task.getId()).getTargetStatus());
+            task.setRankKey(newKeys.get(task.getId()));
+            task.refreshOverdue(now);
+
+            if (previousStatus != null) {
+                counterDeltas.merge(previousStatus, new CounterDelta(-1, previousOverdue ? -1 : 0), CounterDelta::plus);
+            }
+            counterDeltas.merge(task.getStatus(), new CounterDelta(1, task.isOverdue() ? 1 : 0), CounterDelta::plus);
+            if (!Objects.equals(previousStatus, task.getStatus())) {
+                transitions.add(new TaskTransition(task, previousStatus, user, now));
+                if (task.getAssignedTo() != null) assignees.add(task.getAssignedTo().getId());
+            }
+        }
+
+        counterDeltas.forEach((status, delta) -> taskCounterService.add(projectId, status, delta.tasks(), delta.overdue()));
+        taskRepository.saveAll(tasks);
+        taskTransitionRepository.saveAll(transitions);
+        if (!transitions.isEmpty()) {
+            dashboardCache.evictForTask(projectId, assignees.toArray(Long[]::new));
+        }
+
+        List<TaskDTO> result = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            result.add(new TaskDTO(task));
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    // Pentru fiecare coloană țintă: cheile rămase (fără taskurile mutate) se citesc o dată,
+    // apoi mutările sunt inserate în ordinea indexului final
+    private Map<Long, String> assignRanks(Long projectId, Map<Long, TaskMoveDTO> moveByTask) {
+        Map<String, List<TaskMoveDTO>> byColumn = new TreeMap<>();
+        for (TaskMoveDTO move : moveByTask.values()) {
+            byColumn.computeIfAbsent(move.getTargetStatus(), s -> new ArrayList<>()).add(move);
+        }
+
+        Map<Long, String> keys = new HashMap<>();
+        byColumn.forEach((status, columnMoves) -> {
+            columnMoves.sort(Comparator.comparingInt(TaskMoveDTO::getTargetIndex));
+            List<String> remaining = taskRepository.findRankKeysExcluding(projectId, status, moveByTask.keySet());
+
+            // Grupuri de mutări care ajung în același interval dintre două carduri rămase
+            int i = 0;
+            int placed = 0;
+            while (i < columnMoves.size()) {
+                int gap = Math.min(Math.max(columnMoves.get(i).getTargetIndex() - placed, 0), remaining.size());
+                int j = i;
+                while (j < columnMoves.size()
+                        && Math.min(Math.max(columnMoves.get(j).getTargetIndex() - placed - (j - i), 0), remaining.size()) == gap) {
+                    j++;
+                }
+
+                String lo = gap > 0 ? remaining.get(gap - 1) : null;
+                String hi = gap < remaining.size() ? remaining.get(gap) : null;
+                List<String> generated = taskRankService.ranksBetween(projectId, status, lo, hi, j - i);
+                for (int k = i; k < j; k++) {
+                    keys.put(columnMoves.get(k).getTaskId(), generated.get(k - i));
+                }
+
+                placed += j - i;
+                i = j;
+            }
+        });
+        return keys;
+    }
+
+    private String validate(List<TaskMoveDTO> moves) {
+        if (moves == null || moves.isEmpty()) {
+            return "Lista de mutări este goală.";
+        }
+        if (moves.size() > maxBatchSize) {
+            return "Maxim " + maxBatchSize + " mutări într-o cerere.";
+        }
+        Set<Long> seen = new HashSet<>();
+        for (TaskMoveDTO move : moves) {
+            if (move.getTaskId() == null || move.getTargetIndex() == null || move.getTargetIndex() < 0) {
+                return "Fiecare mutare trebuie să aibă taskId și targetIndex >= 0.";
+            }
+            if (!TaskCounterService.BOARD_STATUSES.contains(move.getTargetStatus())) {
+                return "Status invalid: " + move.getTargetStatus();
+            }
+            if (!seen.add(move.getTaskId())) {
+                return "Taskul " + move.getTaskId() + " apare de mai multe ori.";
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,61 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.event.TasksOverdueEvent;
+import com.sgsm.backend.repository.OverdueCandidate;
+import com.sgsm.backend.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Marchează taskurile întârziate în loturi mărginite. Fiecare lot rulează în propria tranzacție:
+ * rândurile sunt blocate cu SKIP LOCKED, marcate și contorizate, apoi se publică evenimentul.
+ * Rularea repetată sau pe mai multe noduri nu marchează același task de două ori.
+ */
+@Service
+public class TaskOverdueService {
+
+    // Cursor (deadline, id) de la care continuă următorul lot
+    public record Cursor(LocalDateTime deadline, Long id) {
+        public static final Cursor START = new Cursor(LocalDateTime.of(1, 1, 1, 0, 0), 0L);
+    }
+
+    public record BatchResult(int marked, Cursor next) {}
+
+    private record CounterKey(Long projectId, String status) {}
+
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private TaskCounterService taskCounterService;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public BatchResult markBatch(LocalDateTime now, Cursor after, int batchSize) {
+        List<OverdueCandidate> candidates =
+                taskRepository.lockNewlyOverdue(now, after.deadline(), after.id(), batchSize);
+        if (candidates.isEmpty()) {
+            return new BatchResult(0, null);
+        }
+
+        taskRepository.markOverdue(candidates.stream().map(OverdueCandidate::getId).toList());
+
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        for (OverdueCandidate c : candidates) {
+            deltas.merge(new CounterKey(c.getProjectId(), c.getStatus()), 1L, Long::sum);
+        }
+        deltas.forEach((key, delta) -> taskCounterService.add(key.projectId(), key.status(), 0, delta));
+
+        eventPublisher.publishEvent(new TasksOverdueEvent(candidates.stream()
+                .map(c -> new TasksOverdueEvent.OverdueTask(c.getId(), c.getProjectId(), c.getAssigneeId(), c.getDeadline()))
+                .toList()));
+
+        OverdueCandidate last = candidates.get(candidates.size() - 1);
+        Cursor next = candidates.size() < batchSize ? null : new Cursor(last.getDeadline(), last.getId());
+        return new BatchResult(candidates.size(), next);
+    }
+}
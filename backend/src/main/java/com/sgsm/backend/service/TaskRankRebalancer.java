@@ -0,0 +1,56 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.repository.TaskRepository;
+import com.sgsm.backend.util.RankKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// Rescrie cheile unei coloane cu valori scurte și egal distanțate (rebalansare și migrarea din position)
+@Component
+public class TaskRankRebalancer {
+
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private TaskCounterService taskCounterService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Async
+    @Transactional
+    public CompletableFuture<Void> rebalance(Long projectId, String status) {
+        taskCounterService.lockColumn(projectId, status);
+        rewrite(taskRepository.findIdsInRankOrder(projectId, status));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    // Taskurile create înainte de rank_key au doar coloana position: le convertim o singură dată, la pornire
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void migrateLegacyPositions() {
+        List<Object[]> columns = jdbcTemplate.query(
+                "SELECT DISTINCT project_id, status FROM tasks WHERE rank_key IS NULL AND status IS NOT NULL",
+                (rs, i) -> new Object[]{rs.getLong(1), rs.getString(2)});
+
+        for (Object[] column : columns) {
+            rewrite(jdbcTemplate.queryForList(
+                    "SELECT id FROM tasks WHERE project_id = ? AND status = ? ORDER BY position, id",
+                    Long.class, column[0], column[1]));
+        }
+    }
+
+    private void rewrite(List<Long> ids) {
+        List<String> keys = RankKey.evenlySpaced(ids.size());
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            rows.add(new Object[]{keys.get(i), ids.get(i)});
+        }
+        jdbcTemplate.batchUpdate("UPDATE tasks SET rank_key = ? WHERE id = ?", rows);
+    }
+}
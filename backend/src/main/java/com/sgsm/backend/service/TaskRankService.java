@@ -0,0 +1,107 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.repository.TaskRepository;
+import com.sgsm.backend.util.RankKey;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Calculează cheia de ordonare pentru un task inserat la un index dintr-o coloană.
+ * Apelantul ține blocat rândul coloanei (TaskCounterService.lockColumn) până la commit,
+ * ca două mutări în același loc să nu primească aceeași cheie.
+ */
+@Service
+public class TaskRankService {
+
+    private record Column(Long projectId, String status) {}
+
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private TaskRankRebalancer rebalancer;
+
+    @Value("${app.task-rank.max-key-length:16}")
+    private int maxKeyLength;
+
+    private final Set<Column> pendingRebalance = ConcurrentHashMap.newKeySet();
+
+    public String rankAtEnd(Long projectId, String status) {
+        String key = RankKey.after(taskRepository.findMaxRankKey(projectId, status));
+        return checkLength(projectId, status, key);
+    }
+
+    // taskId e taskul mutat (exclus din coloană) sau null la creare
+    public String rankAtIndex(Long projectId, String status, Long taskId, int index) {
+        if (index <= 0) {
+            List<String> first = taskRepository.findRankKeysInColumn(projectId, status, excluded(taskId), 0, 1);
+            String hi = first.isEmpty() ? null : first.get(0);
+            return checkLength(projectId, status, RankKey.before(hi));
+        }
+
+        List<String> neighbours = taskRepository.findRankKeysInColumn(projectId, status, excluded(taskId), index - 1, 2);
+        if (neighbours.isEmpty()) {
+            return rankAtEnd(projectId, status);
+        }
+
+        String lo = neighbours.get(0);
+        String hi = neighbours.size() > 1 ? neighbours.get(1) : null;
+        if (lo == null || (hi != null && lo.compareTo(hi) >= 0)) {
+            // Chei lipsă sau duplicate (date vechi): plasăm taskul după lo și refacem coloana
+            scheduleRebalance(projectId, status);
+            return RankKey.after(lo);
+        }
+        return checkLength(projectId, status, RankKey.between(lo, hi));
+    }
+
+    // count chei consecutive între lo și hi, pentru mai multe taskuri inserate în același loc
+    public List<String> ranksBetween(Long projectId, String status, String lo, String hi, int count) {
+        List<String> keys = new ArrayList<>(count);
+        if (lo != null && hi != null && lo.compareTo(hi) >= 0) {
+            scheduleRebalance(projectId, status);
+            hi = null;
+        }
+        String previous = lo;
+        for (int i = 0; i < count; i++) {
+            previous = checkLength(projectId, status, RankKey.between(previous, hi));
+            keys.add(previous);
+        }
+        return keys;
+    }
+
+    private String checkLength(Long projectId, String status, String key) {
+        if (key.length() > maxKeyLength) {
+            scheduleRebalance(projectId, status);
+        }
+        return key;
+    }
+
+    // Rebalansarea rulează în fundal după commit, o singură dată per coloană
+    private void scheduleRebalance(Long projectId, String status) {
+        Column column = new Column(projectId, status);
+        if (!pendingRebalance.add(column)) return;
+
+        Runnable start = () -> rebalancer.rebalance(projectId, status)
+                .whenComplete((ignored, error) -> pendingRebalance.remove(column));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int completionStatus) {
+                    start.run();
+                }
+            });
+        } else {
+            start.run();
+        }
+    }
+
+    private static Long excluded(Long taskId) {
+        return taskId != null ? taskId : -1L;
+    }
+}
@@ -7,9 +7,12 @@ import com.sgsm.backend.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Service
 public class TaskService {
@@ -17,24 +20,28 @@ public class TaskService {
     @Autowired private TaskRepository taskRepository;
     @Autowired private ProjectRepository projectRepository;
     @Autowired private UserRepository userRepository;
-    @Autowired private ProjectMemberRepository projectMemberRepository;
     @Autowired private PermissionService permissionService;
+    @Autowired private TaskCounterService taskCounterService;
+    @Autowired private DashboardCache dashboardCache;
+    @Autowired private TaskTransitionRepository taskTransitionRepository;
+    @Autowired private TaskRankService taskRankService;
 
+    @Transactional
     public ResponseEntity<?> createTask(TaskDTO dto, User user) {
         boolean isAdmin = permissionService.isAdmin(user);
-        boolean isManager = permissionService.isManagerOfProject(user, dto.getProjectId(), projectMemberRepository);
+        boolean isManager = permissionService.isManagerOfProject(user, dto.getProjectId());
 
         if (!isManager && !isAdmin) {
             return ResponseEntity.status(403).body(Map.of("error", "Nu ai dreptul să adaugi taskuri în acest proiect."));
         }
 
-        boolean assignedExists = projectMemberRepository.existsByUserIdAndProjectId(dto.getAssignedToId(), dto.getProjectId());
+        boolean assignedExists = permissionService.isMemberOfProject(dto.getAssignedToId(), dto.getProjectId());
         if (!assignedExists) {
             return ResponseEntity.badRequest().body(Map.of("error", "Utilizatorul atribuit nu este membru al proiectului."));
         }
 
-        long wipCount = taskRepository.countByProjectIdAndStatus(dto.getProjectId(), "IN_PROGRESS");
-        if ("IN_PROGRESS".equals(dto.getStatus()) && wipCount >= 7) {
+        if ("IN_PROGRESS".equals(dto.getStatus())
+                && taskCounterService.countForUpdate(dto.getProjectId(), "IN_PROGRESS") >= 7) {
             return ResponseEntity.badRequest().body(Map.of("error", "Limita WIP atinsă: maxim 7 taskuri IN_PROGRESS."));
         }
 
@@ -49,54 +56,64 @@ public class TaskService {
         task.setDeadline(dto.getDeadline());
         task.setProject(project);
         task.setAssignedTo(assignedTo);
+        LocalDateTime now = LocalDateTime.now();
+        task.refreshOverdue(now);
 
-        int maxPos = taskRepository.findMaxPositionByStatusAndProjectId(dto.getStatus(), dto.getProjectId());
-        task.setPosition(maxPos + 1);
+        taskCounterService.lockColumn(project.getId(), task.getStatus());
+        task.setRankKey(taskRankService.rankAtEnd(project.getId(), task.getStatus()));
 
         taskRepository.save(task);
+        taskTransitionRepository.save(new TaskTransition(task, null, user, now));
+        taskCounterService.increment(project.getId(), task.getStatus(), task.isOverdue());
+        dashboardCache.evictForTask(project.getId(), assignedTo.getId());
 
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok(new TaskDTO(task));
     }
 
     public ResponseEntity<?> getTasks(Long projectId, User user) {
-        List<Task> tasks;
+        List<TaskDTO> tasks;
 
         if (projectId != null) {
             boolean isAdmin = permissionService.isAdmin(user);
-            boolean isMember = projectMemberRepository.findByUserIdAndProjectId(user.getId(), projectId).isPresent();
+            boolean isMember = permissionService.isMemberOfProject(user.getId(), projectId);
 
             if (!isMember && !isAdmin) {
                 return ResponseEntity.status(403).body("Nu ești membru al proiectului.");
             }
 
-            tasks = taskRepository.findByProjectIdOrderByStatusAscPositionAsc(projectId);
+            tasks = taskRepository.findBoardByProjectId(projectId);
         } else {
-            tasks = taskRepository.findByAssignedToId(user.getId());
+            tasks = taskRepository.findDtosByAssignedToId(user.getId());
         }
 
         return ResponseEntity.ok(tasks);
     }
 
+    @Transactional
     public ResponseEntity<?> deleteTask(Long id, User user) {
-        Task task = taskRepository.findById(id).orElseThrow(() -> new RuntimeException("Taskul nu există."));
+        Task task = taskRepository.findByIdForUpdate(id).orElseThrow(() -> new RuntimeException("Taskul nu există."));
 
         boolean isAdmin = permissionService.isAdmin(user);
-        boolean isManager = permissionService.isManagerOfProject(user, task.getProject().getId(), projectMemberRepository);
+        boolean isManager = permissionService.isManagerOfProject(user, task.getProject().getId());
 
         if (!isManager && !isAdmin) {
             return ResponseEntity.status(403).body("Nu ai dreptul să ștergi acest task.");
         }
 
         taskRepository.delete(task);
+        taskCounterService.decrement(task.getProject().getId(), task.getStatus(), task.isOverdue());
+        dashboardCache.evictForTask(task.getProject().getId(), task.getAssignedTo() != null ? task.getAssignedTo().getId() : null);
         return ResponseEntity.ok("Taskul a fost șters.");
     }
 
+    @Transactional
     public ResponseEntity<?> updateTask(Long id, TaskUpdateDTO dto, User user) {
-        Task task = taskRepository.findById(id).orElseThrow(() -> new RuntimeException("Taskul nu există."));
+        // Blocat ca sweeper-ul (SKIP LOCKED) să nu marcheze taskul între citire și scriere
+        Task task = taskRepository.findByIdForUpdate(id).orElseThrow(() -> new RuntimeException("Taskul nu există."));
 
         Long projectId = task.getProject().getId();
         boolean isAdmin = permissionService.isAdmin(user);
-        boolean isManager = permissionService.isManagerOfProject(user, projectId, projectMemberRepository);
+        boolean isManager = permissionService.isManagerOfProject(user, projectId);
         boolean isAssigned = task.getAssignedTo() != null && task.getAssignedTo().getId().equals(user.getId());
 
         if (!isManager && !isAssigned && !isAdmin) {
@@ -104,12 +121,16 @@ public class TaskService {
         }
 
         if ("IN_PROGRESS".equals(dto.getStatus()) && !"IN_PROGRESS".equals(task.getStatus())) {
-            long wipCount = taskRepository.countByProjectIdAndStatus(projectId, "IN_PROGRESS");
+            long wipCount = taskCounterService.countForUpdate(projectId, "IN_PROGRESS");
             if (wipCount >= 7) {
                 return ResponseEntity.badRequest().body("Limita WIP atinsă: maxim 7 task-uri IN PROGRES!");
             }
         }
 
+        Long previousAssigneeId = task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+        LocalDateTime previousDeadline = task.getDeadline();
+        boolean previousOverdue = task.isOverdue();
+
         if (isManager || isAdmin) {
             task.setTitle(dto.getTitle());
             task.setDescription(dto.getDescription());
@@ -123,24 +144,34 @@ public class TaskService {
             }
         }
 
+        String previousStatus = task.getStatus();
         task.setStatus(dto.getStatus());
-        if (dto.getPosition() != null) {
-            task.setPosition(dto.getPosition());
+        LocalDateTime now = LocalDateTime.now();
+        task.refreshOverdue(now);
+
+        // O mutare rescrie doar cheia acestui task; restul coloanei rămâne neatins
+        boolean statusChanged = !Objects.equals(previousStatus, task.getStatus());
+        if (dto.getPosition() != null || statusChanged) {
+            taskCounterService.lockColumn(projectId, task.getStatus());
+            task.setRankKey(dto.getPosition() != null
+                    ? taskRankService.rankAtIndex(projectId, task.getStatus(), task.getId(), dto.getPosition())
+                    : taskRankService.rankAtEnd(projectId, task.getStatus()));
         }
 
         taskRepository.save(task);
+        taskCounterService.move(projectId, previousStatus, previousOverdue, task.getStatus(), task.isOverdue());
+        if (statusChanged) {
+            taskTransitionRepository.save(new TaskTransition(task, previousStatus, user, now));
+        }
 
-        List<Task> tasksWithNewStatus = taskRepository
-                .findByProjectIdAndStatusOrderByPositionAsc(projectId, dto.getStatus());
-
-        for (int i = 0; i < tasksWithNewStatus.size(); i++) {
-            Task t = tasksWithNewStatus.get(i);
-            if (t.getPosition() == null || t.getPosition() != i) {
-                t.setPosition(i);
-                taskRepository.save(t);
-            }
+        Long assigneeId = task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+        if (statusChanged
+                || !Objects.equals(previousDeadline, task.getDeadline())
+                || previousOverdue != task.isOverdue()
+                || !Objects.equals(previousAssigneeId, assigneeId)) {
+            dashboardCache.evictForTask(projectId, previousAssigneeId, assigneeId);
         }
 
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok(new TaskDTO(task));
     }
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.dto.UserResponseDTO;
+import com.sgsm.backend.repository.UserRepository;
+import com.sgsm.backend.util.UsernamePrefixIndex;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Căutarea userilor după prefixul username-ului (selectorul de membri), servită din memorie.
+ * UserService actualizează indexul la creare/modificare/ștergere; reîncărcarea periodică
+ * preia și userii scriși direct în baza de date sau de alte instanțe.
+ */
+@Component
+public class UserSearchIndex implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final int maxLimit;
+
+    private volatile UsernamePrefixIndex index = UsernamePrefixIndex.empty();
+    // Lock explicit, nu synchronized: reîncărcarea face I/O și nu trebuie să fixeze un fir virtual pe carrier
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+
+    public UserSearchIndex(UserRepository userRepository,
+                           @Value("${app.user-search.max-limit:50}") int maxLimit) {
+        this.userRepository = userRepository;
+        this.maxLimit = maxLimit;
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${app.user-search.refresh-interval-ms:300000}",
+            initialDelayString = "${app.user-search.refresh-interval-ms:300000}")
+    public void reload() {
+        writeLock.lock();
+        try {
+            index = UsernamePrefixIndex.of(userRepository.findAllSummaries().stream()
+                    .map(u -> new UsernamePrefixIndex.Entry(u.getId(), u.getUsername()))
+                    .toList());
+            reloads.increment();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public List<UserResponseDTO> search(String prefix, int limit, Long excludedUserId) {
+        searches.increment();
+        return index.search(prefix, Math.max(1, Math.min(limit, maxLimit)), excludedUserId).stream()
+                .map(e -> new UserResponseDTO(e.id(), e.username()))
+                .toList();
+    }
+
+    public void put(Long userId, String username) {
+        afterCommit(() -> update(userId, username));
+    }
+
+    public void remove(Long userId) {
+        afterCommit(() -> update(userId, null));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("user.search.entries", this, searchIndex -> searchIndex.index.size()).register(registry);
+        FunctionCounter.builder("user.search.searches", searches, LongAdder::sum).register(registry);
+        FunctionCounter.builder("user.search.reloads", reloads, LongAdder::sum).register(registry);
+    }
+
+    // Scrierile sunt rare, așa că sunt serializate; cititorii folosesc instantaneul curent fără blocare
+    private void update(Long userId, String username) {
+        writeLock.lock();
+        try {
+            index = username == null ? index.without(userId) : index.with(userId, username);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.sgsm.backend.dto.UserDTO;
 import com.sgsm.backend.dto.UserResponseDTO;
 import com.sgsm.backend.model.User;
 import com.sgsm.backend.repository.UserRepository;
+import com.sgsm.backend.security.PrincipalCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -21,6 +22,12 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
     public List<UserResponseDTO> getAllUsersExcept(Long excludedUserId) {
         return userRepository.findAll().stream()
                 .filter(user -> !user.getId().equals(excludedUserId))
@@ -34,6 +41,10 @@ public class UserService {
                 .toList();
     }
 
+    public List<UserResponseDTO> searchUsers(String prefix, int limit, Long excludedUserId) {
+        return userSearchIndex.search(prefix, limit, excludedUserId);
+    }
+
     public ResponseEntity<?> createUser(UserDTO dto) {
         Optional<User> existing = userRepository.findByUsername(dto.getUsername());
         if (existing.isPresent()) {
@@ -46,6 +57,7 @@ public class UserService {
         user.setRole(dto.getRole() != null ? dto.getRole() : "USER");
 
         userRepository.save(user);
+        userSearchIndex.put(user.getId(), user.getUsername());
         return ResponseEntity.status(201).body("User creat cu succes.");
     }
 
@@ -56,6 +68,8 @@ public class UserService {
         }
 
         userRepository.deleteById(id);
+        principalCache.invalidate(user.get().getUsername());
+        userSearchIndex.remove(id);
         return ResponseEntity.ok("Utilizator șters cu succes.");
     }
 
@@ -77,15 +91,27 @@ public class UserService {
             return ResponseEntity.badRequest().body("Nu îți poți modifica propriul cont din acest panou.");
         }
 
+        String previousUsername = user.getUsername();
+        boolean credentialsChanged = false;
+
         if (dto.getUsername() != null && !dto.getUsername().isBlank()) {
+            credentialsChanged |= !dto.getUsername().equals(previousUsername);
             user.setUsername(dto.getUsername());
         }
 
         if (dto.getPassword() != null && !dto.getPassword().isBlank()) {
             user.setPassword(passwordEncoder.encode(dto.getPassword()));
+            credentialsChanged = true;
+        }
+
+        // Sesiunile existente ale userului sunt închise: tokenurile vechi nu mai corespund versiunii
+        if (credentialsChanged) {
+            user.setCredentialsVersion(user.getCredentialsVersion() + 1);
         }
 
         userRepository.save(user);
+        principalCache.invalidate(previousUsername, user.getUsername());
+        userSearchIndex.put(user.getId(), user.getUsername());
         return ResponseEntity.ok("Utilizator actualizat cu succes.");
     }
 }
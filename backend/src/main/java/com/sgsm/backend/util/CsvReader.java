@@ -0,0 +1,111 @@
+package com.sgsm.backend.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cititor CSV incremental (RFC 4180): câmpuri între ghilimele, "" pentru ghilimele, rânduri noi în câmpuri.
+ * Citește câte o înregistrare, deci fișierul nu e ținut niciodată în memorie.
+ */
+public class CsvReader implements Closeable {
+
+    private final Reader reader;
+    private int line = 1;
+    private int recordLine;
+    private int pushedBack = -2;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // Linia pe care a început ultima înregistrare citită
+    public int getRecordLine() {
+        return recordLine;
+    }
+
+    // Următoarea înregistrare sau null la finalul fișierului; rândurile goale sunt sărite
+    public List<String> next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) return null;
+            if (c == '\r' || c == '\n') {
+                skipLf(c);
+                continue;
+            }
+            recordLine = line;
+            pushBack(c);
+            return readRecord();
+        }
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean inQuotes = false;
+
+        while (true) {
+            int c = read();
+            if (inQuotes) {
+                if (c == -1) throw new IOException("Ghilimele neînchise începând cu linia " + recordLine);
+                if (c == '"') {
+                    int n = read();
+                    if (n == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        pushBack(n);
+                    }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+                continue;
+            }
+
+            if (c == '"' && field.length() == 0 && !quoted) {
+                inQuotes = true;
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                quoted = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                fields.add(field.toString());
+                if (c != -1) skipLf(c);
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private void skipLf(int c) throws IOException {
+        line++;
+        if (c == '\r') {
+            int n = read();
+            if (n != '\n') pushBack(n);
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void pushBack(int c) {
+        pushedBack = c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
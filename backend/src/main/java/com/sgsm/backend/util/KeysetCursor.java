@@ -0,0 +1,26 @@
+package com.sgsm.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor opac pentru paginarea keyset: valoarea coloanei de sortare a ultimului rând și id-ul lui
+ * (departajarea), codificate Base64 URL. Clientul doar îl trimite înapoi, nu îl interpretează.
+ */
+public record KeysetCursor(String sortKey, long id) {
+
+    public String encode() {
+        String raw = id + ":" + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // IllegalArgumentException pentru un cursor invalid (trunchiat, modificat)
+    public static KeysetCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Cursor invalid");
+        }
+        return new KeysetCursor(raw.substring(separator + 1), Long.parseLong(raw.substring(0, separator)));
+    }
+}
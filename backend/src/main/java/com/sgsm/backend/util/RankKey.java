@@ -0,0 +1,140 @@
+package com.sgsm.backend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Chei de ordonare de tip LexoRank: șiruri în baza 36 ("0-9a-z") interpretate ca fracții în [0, 1).
+ * Ordinea lexicografică a cheilor este ordinea din coloană, deci mutarea unui task scrie doar cheia lui.
+ * Cheile nu se termină niciodată în '0', ca între oricare două să mai existe loc.
+ */
+public final class RankKey {
+
+    public static final String INITIAL = "i";
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    // Precizia folosită la adăugarea la capete: pași de 1/36^4, deci ~800k inserări până la creșterea cheii
+    private static final int STEP_WIDTH = 4;
+
+    private RankKey() {}
+
+    // Cheie strict între lo și hi; null înseamnă început, respectiv sfârșit de coloană
+    public static String between(String lo, String hi) {
+        if (lo == null && hi == null) return INITIAL;
+        if (lo == null) return before(hi);
+        if (hi == null) return after(lo);
+        if (lo.compareTo(hi) >= 0) {
+            throw new IllegalArgumentException("Chei în ordine greșită: " + lo + " >= " + hi);
+        }
+        return midpoint(lo, hi);
+    }
+
+    public static String after(String lo) {
+        if (lo == null) return INITIAL;
+        int[] digits = toDigits(lo, Math.max(lo.length(), STEP_WIDTH));
+        for (int i = digits.length - 1; i >= 0; i--) {
+            if (digits[i] < BASE - 1) {
+                digits[i]++;
+                return fromDigits(digits, i + 1);
+            }
+        }
+        // Doar 'z'-uri: nu mai există pas fix, se coboară la jumătatea intervalului rămas
+        return midpoint(lo, null);
+    }
+
+    public static String before(String hi) {
+        if (hi == null) return INITIAL;
+        int[] digits = toDigits(hi, Math.max(hi.length(), STEP_WIDTH));
+        for (int i = digits.length - 1; i >= 0; i--) {
+            if (digits[i] > 0) {
+                digits[i]--;
+                for (int j = i + 1; j < digits.length; j++) digits[j] = BASE - 1;
+                String key = fromDigits(digits, digits.length);
+                if (!key.isEmpty()) return key;
+                break;
+            }
+        }
+        return midpoint("", hi);
+    }
+
+    // n chei distribuite uniform, folosite la migrare și la rebalansare
+    public static List<String> evenlySpaced(int n) {
+        List<String> keys = new ArrayList<>(n);
+        if (n <= 0) return keys;
+
+        int width = 1;
+        long range = BASE;
+        while (range < (long) (n + 1) * BASE) {
+            width++;
+            range *= BASE;
+        }
+
+        long step = range / (n + 1);
+        for (int i = 1; i <= n; i++) {
+            long value = step * i;
+            int[] digits = new int[width];
+            for (int d = width - 1; d >= 0; d--) {
+                digits[d] = (int) (value % BASE);
+                value /= BASE;
+            }
+            keys.add(fromDigits(digits, width));
+        }
+        return keys;
+    }
+
+    public static boolean isValid(String key) {
+        if (key == null || key.isEmpty() || key.charAt(key.length() - 1) == '0') return false;
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) return false;
+        }
+        return true;
+    }
+
+    private static String midpoint(String lo, String hi) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; ; i++) {
+            int a = i < lo.length() ? digit(lo.charAt(i)) : 0;
+            int b = hi == null ? BASE : (i < hi.length() ? digit(hi.charAt(i)) : 0);
+
+            if (a == b) {
+                result.append(DIGITS.charAt(a));
+                continue;
+            }
+
+            int mid = (a + b) / 2;
+            if (mid > a) {
+                return result.append(DIGITS.charAt(mid)).toString();
+            }
+
+            // Cifre consecutive: păstrăm cifra lui lo și căutăm mai departe fără limită superioară
+            result.append(DIGITS.charAt(a));
+            hi = null;
+        }
+    }
+
+    private static int[] toDigits(String key, int width) {
+        int[] digits = new int[width];
+        for (int i = 0; i < key.length(); i++) {
+            digits[i] = digit(key.charAt(i));
+        }
+        return digits;
+    }
+
+    // Primele length cifre, fără zerourile de la final
+    private static String fromDigits(int[] digits, int length) {
+        while (length > 0 && digits[length - 1] == 0) length--;
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(DIGITS.charAt(digits[i]));
+        }
+        return sb.toString();
+    }
+
+    private static int digit(char c) {
+        int d = DIGITS.indexOf(c);
+        if (d < 0) throw new IllegalArgumentException("Caracter invalid în cheie: " + c);
+        return d;
+    }
+}
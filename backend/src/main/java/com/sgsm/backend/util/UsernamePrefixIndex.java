@@ -0,0 +1,116 @@
+package com.sgsm.backend.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Index imutabil al username-urilor, sortat după cheia în litere mici (apoi id).
+ * Căutarea după prefix e o căutare binară până la primul candidat, urmată de o parcurgere
+ * a celor maxim limit potriviri consecutive. Modificările întorc un index nou (copy-on-write).
+ */
+public final class UsernamePrefixIndex {
+
+    public record Entry(long id, String username) {}
+
+    private static final UsernamePrefixIndex EMPTY = new UsernamePrefixIndex(new String[0], new Entry[0]);
+
+    private final String[] keys;
+    private final Entry[] entries;
+
+    private UsernamePrefixIndex(String[] keys, Entry[] entries) {
+        this.keys = keys;
+        this.entries = entries;
+    }
+
+    public static UsernamePrefixIndex empty() {
+        return EMPTY;
+    }
+
+    public static UsernamePrefixIndex of(Collection<Entry> users) {
+        Entry[] sorted = users.stream()
+                .filter(e -> e.username() != null)
+                .sorted((a, b) -> compare(key(a.username()), a.id(), key(b.username()), b.id()))
+                .toArray(Entry[]::new);
+        String[] keys = new String[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            keys[i] = key(sorted[i].username());
+        }
+        return new UsernamePrefixIndex(keys, sorted);
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    // Primele limit username-uri care încep cu prefix (fără diferențe de majuscule), în ordine alfabetică
+    public List<Entry> search(String prefix, int limit, Long excludedId) {
+        String p = prefix == null ? "" : key(prefix.trim());
+        List<Entry> result = new ArrayList<>(Math.min(limit, 64));
+        for (int i = lowerBound(p, Long.MIN_VALUE); i < keys.length && result.size() < limit; i++) {
+            if (!keys[i].startsWith(p)) break;
+            if (excludedId == null || entries[i].id() != excludedId) {
+                result.add(entries[i]);
+            }
+        }
+        return result;
+    }
+
+    // Adaugă sau înlocuiește (după id) un user
+    public UsernamePrefixIndex with(long id, String username) {
+        UsernamePrefixIndex base = without(id);
+        if (username == null) return base;
+
+        String key = key(username);
+        int at = base.lowerBound(key, id);
+        String[] keys = new String[base.keys.length + 1];
+        Entry[] entries = new Entry[base.entries.length + 1];
+        System.arraycopy(base.keys, 0, keys, 0, at);
+        System.arraycopy(base.entries, 0, entries, 0, at);
+        keys[at] = key;
+        entries[at] = new Entry(id, username);
+        System.arraycopy(base.keys, at, keys, at + 1, base.keys.length - at);
+        System.arraycopy(base.entries, at, entries, at + 1, base.entries.length - at);
+        return new UsernamePrefixIndex(keys, entries);
+    }
+
+    public UsernamePrefixIndex without(long id) {
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i].id() == id) {
+                String[] keys = new String[this.keys.length - 1];
+                Entry[] entries = new Entry[this.entries.length - 1];
+                System.arraycopy(this.keys, 0, keys, 0, i);
+                System.arraycopy(this.entries, 0, entries, 0, i);
+                System.arraycopy(this.keys, i + 1, keys, i, keys.length - i);
+                System.arraycopy(this.entries, i + 1, entries, i, entries.length - i);
+                return new UsernamePrefixIndex(keys, entries);
+            }
+        }
+        return this;
+    }
+
+    // Prima poziție cu (cheie, id) >= (key, id)
+    private int lowerBound(String key, long id) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(keys[mid], entries[mid].id(), key, id) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(String keyA, long idA, String keyB, long idB) {
+        int byKey = keyA.compareTo(keyB);
+        return byKey != 0 ? byKey : Long.compare(idA, idB);
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,84 @@
+package com.sgsm.backend.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sgsm.backend.dto.TaskDTO;
+import com.sgsm.backend.model.Project;
+import com.sgsm.backend.model.Task;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.util.RankKey;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Răspunsul GET /tasks?projectId= pentru un board de 500 de taskuri: construcția TaskDTO din entități
+ * (calea de dinainte de proiecțiile JPQL) și serializarea JSON cu configurația Jackson a aplicației.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardSerializationBenchmark {
+
+    private static final String[] STATUSES = {"TO_DO", "IN_PROGRESS", "DONE"};
+
+    @Param({"500"})
+    public int tasks;
+
+    private List<Task> entities;
+    private List<TaskDTO> board;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        Project project = new Project(1L, "Board", "descriere", LocalDateTime.now());
+        List<User> users = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            users.add(new User(i, "user" + i, "user" + i + "@example.com", "x", "USER"));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> ranks = RankKey.evenlySpaced(tasks);
+        entities = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            Task task = new Task((long) i + 1, "Task " + i, "Descrierea taskului " + i + " pentru board",
+                    STATUSES[i % STATUSES.length], now.plusDays(i % 30 - 10), "backend,ui",
+                    project, i % 4 == 0 ? null : users.get(i % users.size()));
+            task.setRankKey(ranks.get(i));
+            task.refreshOverdue(now);
+            entities.add(task);
+        }
+        board = entities.stream().map(TaskDTO::new).toList();
+
+        // Aceleași setări ca ObjectMapper-ul configurat de Spring Boot (date ISO, nu timestamp-uri)
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    @Benchmark
+    public Object dtoFromEntities() {
+        List<TaskDTO> result = new ArrayList<>(entities.size());
+        for (Task task : entities) {
+            result.add(new TaskDTO(task));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] serializeBoard() throws Exception {
+        return objectMapper.writeValueAsBytes(board);
+    }
+
+    @Benchmark
+    public byte[] dtoAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(dtoFromEntities());
+    }
+}
@@ -0,0 +1,115 @@
+package com.sgsm.backend.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sgsm.backend.dto.ProjectCommentDTO;
+import com.sgsm.backend.model.ProjectComment;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.ProjectCommentRepository;
+import com.sgsm.backend.service.PinnedCommentCache;
+import com.sgsm.backend.service.ProjectCommentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Comentariile unui proiect, inclusiv serializarea răspunsului: împărțirea în pinned/unpinned peste entități
+ * (ProjectCommentService.getAllComments de dinainte), getAllComments actual (DTO-uri din query, pinned din cache)
+ * și prima pagină a feed-ului. Repository-ul este un RepositoryStub, deci se măsoară doar munca din aplicație.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommentSplitBenchmark {
+
+    private static final long PROJECT_ID = 1L;
+    private static final int FEED_PAGE = 30;
+
+    @Param({"200", "2000"})
+    public int comments;
+
+    private List<ProjectComment> entities;
+    private ProjectCommentService commentService;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<User> authors = new ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            authors.add(new User(i, "user" + i, "user" + i + "@example.com", "x", "USER"));
+        }
+
+        // Cele mai noi întâi, un comentariu pinned la 50
+        entities = new ArrayList<>(comments);
+        for (int i = 0; i < comments; i++) {
+            ProjectComment comment = new ProjectComment();
+            comment.setId((long) comments - i);
+            comment.setContent("Comentariul " + i + " despre progresul proiectului");
+            comment.setCreatedAt(now.minusMinutes(i));
+            comment.setAuthor(authors.get(i % authors.size()));
+            comment.setPinned(i % 50 == 0);
+            entities.add(comment);
+        }
+        List<ProjectCommentDTO> pinned = entities.stream().filter(ProjectComment::isPinned).map(c -> dto(c, true)).toList();
+        List<ProjectCommentDTO> unpinned = entities.stream().filter(c -> !c.isPinned()).map(c -> dto(c, false)).toList();
+
+        ProjectCommentRepository commentRepository = RepositoryStub.of(ProjectCommentRepository.class)
+                .returns("findDtosByProjectIdAndPinnedTrue", pinned)
+                .returns("findDtosByProjectIdAndPinnedFalse", unpinned)
+                .answer("findDtosByProjectIdAndPinnedFalseBefore", args -> new ArrayList<>(
+                        unpinned.subList(0, Math.min(unpinned.size(), ((Limit) args[3]).max()))))
+                .build();
+
+        commentService = new ProjectCommentService();
+        ReflectionTestUtils.setField(commentService, "commentRepository", commentRepository);
+        ReflectionTestUtils.setField(commentService, "pinnedCommentCache",
+                new PinnedCommentCache(commentRepository, 1000, Duration.ofMinutes(10)));
+        ReflectionTestUtils.setField(commentService, "defaultLimit", FEED_PAGE);
+        ReflectionTestUtils.setField(commentService, "maxLimit", 100);
+
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    // Implementarea de dinainte, pe lista findByProjectIdOrderByCreatedAtDesc deja încărcată
+    @Benchmark
+    public byte[] legacyTwoPassSplit() throws Exception {
+        List<ProjectCommentDTO> pinned = entities.stream()
+                .filter(ProjectComment::isPinned)
+                .map(c -> dto(c, true))
+                .collect(Collectors.toList());
+        List<ProjectCommentDTO> unpinned = entities.stream()
+                .filter(c -> !c.isPinned())
+                .map(c -> dto(c, false))
+                .collect(Collectors.toList());
+        return objectMapper.writeValueAsBytes(Map.of("pinned", pinned, "unpinned", unpinned));
+    }
+
+    @Benchmark
+    public byte[] getAllComments() throws Exception {
+        return objectMapper.writeValueAsBytes(commentService.getAllComments(PROJECT_ID).getBody());
+    }
+
+    @Benchmark
+    public byte[] feedFirstPage() throws Exception {
+        return objectMapper.writeValueAsBytes(commentService.getCommentFeed(PROJECT_ID, null, null).getBody());
+    }
+
+    private static ProjectCommentDTO dto(ProjectComment c, boolean pinned) {
+        return new ProjectCommentDTO(c.getId(), c.getContent(), c.getAuthor().getUsername(), c.getCreatedAt(), pinned);
+    }
+}
@@ -0,0 +1,140 @@
+package com.sgsm.backend.perf;
+
+import com.sgsm.backend.dto.ManagerDashboardDTO;
+import com.sgsm.backend.model.ProjectMember;
+import com.sgsm.backend.model.Task;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.MembershipTotals;
+import com.sgsm.backend.repository.ProjectMemberRepository;
+import com.sgsm.backend.repository.TaskStatusCount;
+import com.sgsm.backend.service.DashboardCache;
+import com.sgsm.backend.service.DashboardService;
+import com.sgsm.backend.service.PermissionService;
+import com.sgsm.backend.service.TaskCounterService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Dashboard-ul de manager al unui admin peste N taskuri: agregarea în memorie din versiunea inițială
+ * (toate entitățile încărcate, câte o trecere pe status) față de DashboardService peste rândurile de contoare.
+ * Repository-urile sunt stub-uri (RepositoryStub), deci se măsoară doar munca din aplicație, nu și baza de date.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DashboardAggregationBenchmark {
+
+    private static final String[] STATUSES = {"TO_DO", "IN_PROGRESS", "DONE"};
+
+    @Param({"1000", "10000", "100000"})
+    public int tasks;
+
+    private List<Task> allTasks;
+    private List<ProjectMember> allMembers;
+    private DashboardService dashboardService;
+    private User admin;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = new ArrayList<>();
+        for (long i = 1; i <= Math.max(10, tasks / 10); i++) {
+            users.add(new User(i, "user" + i, "user" + i + "@example.com", "x", "USER"));
+        }
+
+        allTasks = new ArrayList<>(tasks);
+        Map<String, long[]> counters = new LinkedHashMap<>();
+        for (int i = 0; i < tasks; i++) {
+            Task task = new Task((long) i, "Task " + i, null, STATUSES[i % STATUSES.length],
+                    now.plusDays(i % 20 - 10), null, null, users.get(i % users.size()));
+            task.refreshOverdue(now);
+            allTasks.add(task);
+
+            long[] row = counters.computeIfAbsent(task.getStatus(), s -> new long[2]);
+            row[0]++;
+            if (task.isOverdue()) row[1]++;
+        }
+        allMembers = new ArrayList<>();
+        for (User user : users) {
+            ProjectMember pm = new ProjectMember();
+            pm.setUser(user);
+            allMembers.add(pm);
+        }
+
+        List<TaskStatusCount> rows = new ArrayList<>();
+        counters.forEach((status, row) -> rows.add(statusCount(status, row[0], row[1])));
+
+        ProjectMemberRepository projectMemberRepository = RepositoryStub.of(ProjectMemberRepository.class)
+                .returns("countGlobalTotals", membershipTotals(100, users.size()))
+                .build();
+        TaskCounterService taskCounterService = new TaskCounterService() {
+            @Override
+            public List<TaskStatusCount> totals() {
+                return rows;
+            }
+        };
+        // Fără cache: fiecare apel recalculează, ca la o intrare invalidată
+        DashboardCache dashboardCache = new DashboardCache(1, Duration.ZERO) {
+            @Override
+            public <T> T get(String view, Long userId, boolean admin, Supplier<T> loader) {
+                return loader.get();
+            }
+        };
+
+        dashboardService = new DashboardService();
+        ReflectionTestUtils.setField(dashboardService, "projectMemberRepository", projectMemberRepository);
+        ReflectionTestUtils.setField(dashboardService, "taskCounterService", taskCounterService);
+        ReflectionTestUtils.setField(dashboardService, "permissionService", new PermissionService());
+        ReflectionTestUtils.setField(dashboardService, "dashboardCache", dashboardCache);
+        admin = new User(0L, "admin", "admin@example.com", "x", "ADMIN");
+    }
+
+    // Implementarea de dinainte de agregarea GROUP BY, fără costul findAll()
+    @Benchmark
+    public Object legacyInMemory() {
+        LocalDateTime now = LocalDateTime.now();
+        int todo = (int) allTasks.stream().filter(t -> "TO_DO".equals(t.getStatus())).count();
+        int inProgress = (int) allTasks.stream().filter(t -> "IN_PROGRESS".equals(t.getStatus())).count();
+        int done = (int) allTasks.stream().filter(t -> "DONE".equals(t.getStatus())).count();
+        int late = (int) allTasks.stream()
+                .filter(t -> t.getDeadline() != null && t.getDeadline().isBefore(now) && !"DONE".equals(t.getStatus()))
+                .count();
+        int totalMembers = (int) allMembers.stream()
+                .map(pm -> pm.getUser().getId())
+                .distinct()
+                .count();
+        return new ManagerDashboardDTO(100, totalMembers, allTasks.size(), todo, inProgress, done, late);
+    }
+
+    @Benchmark
+    public Object counterRows() {
+        return dashboardService.getDashboardForManager(admin).getBody();
+    }
+
+    private static TaskStatusCount statusCount(String status, long total, long late) {
+        return new TaskStatusCount() {
+            public String getStatus() { return status; }
+            public long getTotal() { return total; }
+            public long getLate() { return late; }
+        };
+    }
+
+    private static MembershipTotals membershipTotals(long projects, long members) {
+        return new MembershipTotals() {
+            public long getProjects() { return projects; }
+            public long getMembers() { return members; }
+        };
+    }
+}
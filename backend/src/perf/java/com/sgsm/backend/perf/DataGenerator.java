@@ -0,0 +1,221 @@
+package com.sgsm.backend.perf;
+
+import com.sgsm.backend.model.Project;
+import com.sgsm.backend.util.RankKey;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Populează baza de date cu volume realiste, direct prin JDBC în batch-uri (fără JPA), cu id-uri explicite.
+ * Distribuțiile sunt asimetrice (Zipf): câteva proiecte mari concentrează majoritatea taskurilor, membrilor și
+ * comentariilor, iar restul sunt mici. Același seed produce aceleași date.
+ * <p>
+ * Contoarele de taskuri, indexul de useri și cache-urile nu sunt atinse aici; apelantul le reconstruiește după.
+ */
+final class DataGenerator {
+
+    private static final int BATCH = 1000;
+    private static final String[] STATUSES = {"TO_DO", "IN_PROGRESS", "DONE"};
+    private static final double[] STATUS_SHARE = {0.4, 0.25, 0.35};
+    private static final String[] TAGS = {"backend", "frontend", "bug", "ui", "infra", "docs", null};
+
+    /** Volumele cerute; implicit un set mic, suprascris cu -Dgen.users=20000 -Dgen.tasks=2000000 etc. */
+    record Scale(int users, int projects, int tasks, int comments, double skew, long seed) {
+
+        static Scale fromSystemProperties() {
+            return new Scale(
+                    Integer.getInteger("gen.users", 2_000),
+                    Integer.getInteger("gen.projects", 1_000),
+                    Integer.getInteger("gen.tasks", 200_000),
+                    Integer.getInteger("gen.comments", 50_000),
+                    Double.parseDouble(System.getProperty("gen.skew", "0.8")),
+                    Long.getLong("gen.seed", 42L));
+        }
+    }
+
+    /** Ce s-a generat: membrii fiecărui proiect (primul e managerul) și ponderile folosite la alegerea proiectelor. */
+    record Dataset(Scale scale, long[][] membersByProject, int[] tasksByProject, Zipf projectPopularity, long millis) {}
+
+    private final DataSource dataSource;
+    private final String passwordHash;
+
+    DataGenerator(DataSource dataSource, String passwordHash) {
+        this.dataSource = dataSource;
+        this.passwordHash = passwordHash;
+    }
+
+    Dataset generate(Scale scale) throws SQLException {
+        long start = System.nanoTime();
+        Random random = new Random(scale.seed());
+        Zipf popularity = new Zipf(scale.projects(), scale.skew());
+        Zipf userActivity = new Zipf(scale.users(), scale.skew());
+        LocalDateTime now = LocalDateTime.now();
+
+        long[][] members = new long[scale.projects()][];
+        int[] tasksByProject = new int[scale.projects()];
+        for (int i = 0; i < scale.tasks(); i++) {
+            tasksByProject[popularity.sample(random)]++;
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            // Commit după fiecare batch: o singură tranzacție de milioane de rânduri ar ține tot undo log-ul în memorie
+            connection.setAutoCommit(false);
+
+            try (Batch batch = new Batch(connection,
+                    "INSERT INTO users (id, username, email, password, role, credentials_version) VALUES (?, ?, ?, ?, ?, 0)")) {
+                for (int u = 1; u <= scale.users(); u++) {
+                    batch.row(u, "user" + u, "user" + u + "@perf.test", passwordHash, u == 1 ? "ADMIN" : "USER");
+                }
+            }
+
+            try (Batch batch = new Batch(connection,
+                    "INSERT INTO projects (id, title, title_key, description, created_at) VALUES (?, ?, ?, ?, ?)")) {
+                for (int p = 0; p < scale.projects(); p++) {
+                    String title = "Proiect " + (p + 1);
+                    batch.row(p + 1L, title, Project.titleKey(title), "Generat pentru teste de performanță",
+                            now.minusMinutes(scale.projects() - p));
+                }
+            }
+
+            // Echipa crește cu volumul proiectului: 3 membri pentru cele mici, sute pentru cele din capul distribuției.
+            // Jumătate din alegeri sunt uniforme, ca echipele mari să se poată completa și cu useri rari.
+            try (Batch batch = new Batch(connection,
+                    "INSERT INTO project_members (project_id, user_id, role, joined_at) VALUES (?, ?, ?, ?)")) {
+                for (int p = 0; p < scale.projects(); p++) {
+                    int size = (int) Math.min(scale.users() / 2, 3 + Math.round(tasksByProject[p] / 50.0));
+                    Set<Long> team = new LinkedHashSet<>();
+                    while (team.size() < size) {
+                        team.add((random.nextBoolean() ? userActivity.sample(random) : random.nextInt(scale.users())) + 1L);
+                    }
+                    members[p] = team.stream().mapToLong(Long::longValue).toArray();
+                    for (int m = 0; m < members[p].length; m++) {
+                        batch.row(p + 1L, members[p][m], m == 0 ? "MANAGER" : "MEMBER", now);
+                    }
+                }
+            }
+
+            try (Batch batch = new Batch(connection,
+                    "INSERT INTO tasks (id, title, description, status, deadline, overdue, tags, created_at, project_id, assigned_to, rank_key) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+                long id = 1;
+                for (int p = 0; p < scale.projects(); p++) {
+                    int[] perStatus = split(tasksByProject[p], random);
+                    for (int s = 0; s < STATUSES.length; s++) {
+                        List<String> ranks = RankKey.evenlySpaced(perStatus[s]);
+                        for (String rank : ranks) {
+                            LocalDateTime deadline = random.nextInt(10) == 0 ? null : now.plusDays(random.nextInt(120) - 60);
+                            boolean overdue = deadline != null && deadline.isBefore(now) && !"DONE".equals(STATUSES[s]);
+                            Long assignee = random.nextInt(5) == 0 ? null : members[p][random.nextInt(members[p].length)];
+                            batch.row(id, "Task " + id, "Descrierea taskului " + id, STATUSES[s], deadline, overdue,
+                                    TAGS[random.nextInt(TAGS.length)], now.minusDays(random.nextInt(365)),
+                                    p + 1L, assignee, rank);
+                            id++;
+                        }
+                    }
+                }
+            }
+
+            try (Batch batch = new Batch(connection,
+                    "INSERT INTO project_comment (id, content, created_at, author_id, project_id, pinned) VALUES (?, ?, ?, ?, ?, ?)")) {
+                for (long c = 1; c <= scale.comments(); c++) {
+                    int p = popularity.sample(random);
+                    long author = members[p][random.nextInt(members[p].length)];
+                    batch.row(c, "Comentariul " + c + " despre progresul proiectului", now.minusMinutes(random.nextInt(525_600)),
+                            author, p + 1L, random.nextInt(100) == 0);
+                }
+            }
+
+            // Id-urile au fost date explicit; entitățile create ulterior prin aplicație continuă după ele
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE users ALTER COLUMN id RESTART WITH " + (scale.users() + 1));
+                statement.execute("ALTER TABLE projects ALTER COLUMN id RESTART WITH " + (scale.projects() + 1));
+                statement.execute("ALTER TABLE tasks ALTER COLUMN id RESTART WITH " + (scale.tasks() + 1));
+                statement.execute("ALTER TABLE project_comment ALTER COLUMN id RESTART WITH " + (scale.comments() + 1));
+            }
+            connection.commit();
+        }
+
+        return new Dataset(scale, members, tasksByProject, popularity, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static int[] split(int total, Random random) {
+        int[] result = new int[STATUSES.length];
+        for (int i = 0; i < total; i++) {
+            double r = random.nextDouble();
+            int s = r < STATUS_SHARE[0] ? 0 : r < STATUS_SHARE[0] + STATUS_SHARE[1] ? 1 : 2;
+            result[s]++;
+        }
+        return result;
+    }
+
+    /** Distribuție Zipf peste [0, n): indexul 0 e cel mai frecvent; eșantionare prin căutare binară în CDF. */
+    static final class Zipf {
+
+        private final double[] cdf;
+
+        Zipf(int n, double exponent) {
+            cdf = new double[n];
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += 1 / Math.pow(i + 1, exponent);
+                cdf[i] = sum;
+            }
+            for (int i = 0; i < n; i++) {
+                cdf[i] /= sum;
+            }
+        }
+
+        int sample(Random random) {
+            int index = Arrays.binarySearch(cdf, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cdf.length - 1);
+        }
+    }
+
+    // Un INSERT pregătit, trimis și confirmat în batch-uri de câte BATCH rânduri
+    private static final class Batch implements AutoCloseable {
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private int pending;
+
+        Batch(Connection connection, String sql) throws SQLException {
+            this.connection = connection;
+            this.statement = connection.prepareStatement(sql);
+        }
+
+        void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            if (++pending == BATCH) {
+                flush();
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (pending > 0) flush();
+            } finally {
+                statement.close();
+            }
+        }
+
+        private void flush() throws SQLException {
+            statement.executeBatch();
+            connection.commit();
+            pending = 0;
+        }
+    }
+}
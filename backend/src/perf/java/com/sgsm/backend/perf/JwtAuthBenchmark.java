@@ -0,0 +1,93 @@
+package com.sgsm.backend.perf;
+
+import com.sgsm.backend.security.JwtUtil;
+import com.sgsm.backend.security.RevokedTokenFilter;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costul autentificării per cerere în JwtFilter: calea veche (cheie și parser noi, token parsat de 3 ori),
+ * verificarea unică fără cache, verificarea unui token deja văzut și verificarea în lista de revocare.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthBenchmark {
+
+    private static final String SECRET_KEY = "sgsm-project-management-app-secret-key-1234567890";
+
+    private JwtUtil cached;
+    private JwtUtil uncached;
+    private String token;
+    private String tokenId;
+
+    // Lista de revocare plină (dimensiunea configurată implicit)
+    private static final int REVOKED = 100_000;
+    private RevokedTokenFilter revoked;
+    private String revokedTokenId;
+
+    @Setup
+    public void setUp() {
+        cached = new JwtUtil(10_000, Duration.ofMinutes(15));
+        uncached = new JwtUtil(0, Duration.ofMinutes(15));
+        token = cached.generateToken("benchmark-user", "USER", 0);
+        tokenId = cached.verify(token).tokenId();
+
+        long expiresAt = System.currentTimeMillis() + 3_600_000;
+        revoked = new RevokedTokenFilter(REVOKED, 0.001);
+        for (int i = 0; i < REVOKED; i++) {
+            revoked.add(UUID.randomUUID().toString(), expiresAt);
+        }
+        revokedTokenId = UUID.randomUUID().toString();
+        revoked.add(revokedTokenId, expiresAt);
+    }
+
+    @Benchmark
+    public Object legacyTripleParse() {
+        String username = legacyClaims(token).getSubject();
+        boolean valid = legacyClaims(token) != null && !legacyClaims(token).getExpiration().before(new Date());
+        return valid ? username : null;
+    }
+
+    @Benchmark
+    public Object verifyUncached() {
+        return uncached.verify(token);
+    }
+
+    @Benchmark
+    public Object verifyCached() {
+        return cached.verify(token);
+    }
+
+    // Calea din JwtFilter pentru un token nerevocat: doar filtrul Bloom
+    @Benchmark
+    public boolean revocationCheckNotRevoked() {
+        return revoked.isRevoked(tokenId);
+    }
+
+    @Benchmark
+    public boolean revocationCheckRevoked() {
+        return revoked.isRevoked(revokedTokenId);
+    }
+
+    // Implementarea de dinainte: cheia și parserul erau reconstruite la fiecare apel
+    private static Claims legacyClaims(String token) {
+        Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,133 @@
+package com.sgsm.backend.perf;
+
+import com.sgsm.backend.dto.ProjectDTO;
+import com.sgsm.backend.dto.TaskDTO;
+import com.sgsm.backend.model.Project;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.ProjectRepository;
+import com.sgsm.backend.repository.UserRepository;
+import com.sgsm.backend.security.JwtUtil;
+import com.sgsm.backend.service.ProjectService;
+import com.sgsm.backend.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Latența board-ului (GET /tasks?projectId=...) fără și cu un val de login-uri în paralel.
+ * Limitarea per user/IP e relaxată ca fiecare login să ajungă la BCrypt (cazul cel mai rău).
+ * <p>
+ * mvn -Pperf test -Dtest=LoginFloodLoadTest
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:login-flood;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "app.overdue-sweeper.enabled=false",
+        "app.board-snapshots.enabled=false",
+        "app.auth.bcrypt-cost=12",
+        "app.auth.login-pool.size=1",
+        "app.auth.login-pool.queue-capacity=20",
+        "app.auth.throttle.user.capacity=100000",
+        "app.auth.throttle.ip.capacity=100000"
+})
+class LoginFloodLoadTest {
+
+    private static final int BOARD_REQUESTS = 300;
+    // Model deschis: login-urile sosesc cu rată fixă, indiferent cât de repede răspunde serverul
+    private static final int LOGINS_PER_SECOND = 50;
+
+    @LocalServerPort private int port;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private ProjectService projectService;
+    @Autowired private TaskService taskService;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private JwtUtil jwtUtil;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    @Test
+    void boardLatencyStaysFlatDuringLoginFlood() throws Exception {
+        User manager = userRepository.save(new User(null, "flood", "flood@test", passwordEncoder.encode("secret"), "USER"));
+        ProjectDTO project = new ProjectDTO();
+        project.setTitle("Flood");
+        project.setDescription("Flood");
+        project.setMemberIds(List.of());
+        projectService.createProject(project, manager);
+        Long projectId = projectRepository.findAll().stream().map(Project::getId).max(Long::compare).orElseThrow();
+        for (int i = 0; i < 60; i++) {
+            TaskDTO task = new TaskDTO();
+            task.setProjectId(projectId);
+            task.setAssignedToId(manager.getId());
+            task.setTitle("Task " + i);
+            task.setDescription("Descriere");
+            task.setTags("tag");
+            task.setStatus(i % 2 == 0 ? "TO_DO" : "DONE");
+            task.setDeadline(LocalDateTime.now().plusDays(7));
+            taskService.createTask(task, manager);
+        }
+        String token = jwtUtil.generateToken(manager.getUsername(), manager.getRole(), manager.getCredentialsVersion());
+        HttpRequest board = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/tasks?projectId=" + projectId))
+                .header("Authorization", "Bearer " + token).GET().build();
+
+        measure(board, 100); // încălzire JIT
+        long[] baseline = measure(board, BOARD_REQUESTS);
+
+        Map<Integer, LongAdder> loginStatuses = new ConcurrentHashMap<>();
+        HttpRequest login = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"flood\",\"password\":\"secret\"}"))
+                .build();
+        ScheduledExecutorService flood = Executors.newSingleThreadScheduledExecutor();
+        flood.scheduleAtFixedRate(() -> client.sendAsync(login, HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, error) -> loginStatuses
+                                .computeIfAbsent(error != null ? -1 : response.statusCode(), s -> new LongAdder())
+                                .increment()),
+                0, 1_000_000 / LOGINS_PER_SECOND, TimeUnit.MICROSECONDS);
+        Thread.sleep(2000);
+        long[] underFlood = measure(board, BOARD_REQUESTS);
+        flood.shutdownNow();
+
+        System.out.printf("board baseline   p50=%.1fms p95=%.1fms p99=%.1fms%n", p(baseline, 50), p(baseline, 95), p(baseline, 99));
+        System.out.printf("board under flood p50=%.1fms p95=%.1fms p99=%.1fms%n", p(underFlood, 50), p(underFlood, 95), p(underFlood, 99));
+        System.out.println("login statuses " + loginStatuses);
+
+        assertTrue(loginStatuses.getOrDefault(503, new LongAdder()).sum() > 0, "pool-ul de login trebuie să fi respins cereri");
+        double budget = Math.max(p(baseline, 95) * 4, p(baseline, 95) + 25);
+        assertTrue(p(underFlood, 95) <= budget,
+                "p95 board sub flood " + p(underFlood, 95) + "ms depășește " + budget + "ms");
+    }
+
+    private long[] measure(HttpRequest request, int count) throws Exception {
+        long[] latencies = new long[count];
+        for (int i = 0; i < count; i++) {
+            long start = System.nanoTime();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            latencies[i] = System.nanoTime() - start;
+            assertEquals(200, response.statusCode());
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static double p(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
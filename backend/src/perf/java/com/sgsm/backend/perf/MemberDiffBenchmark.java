@@ -0,0 +1,124 @@
+package com.sgsm.backend.perf;
+
+import com.sgsm.backend.model.Project;
+import com.sgsm.backend.model.ProjectMember;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.ProjectMemberRepository;
+import com.sgsm.backend.repository.UserRepository;
+import com.sgsm.backend.service.DashboardCache;
+import com.sgsm.backend.service.MembershipCache;
+import com.sgsm.backend.service.ProjectMembershipSync;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Diferența de membri din ProjectService.updateProject: jumătate din membri înlocuiți.
+ * Calea veche caută liniar fiecare id cerut în lista existentă (O(n·m)); ProjectMembershipSync face
+ * diferența de mulțimi. Repository-urile sunt stub-uri (RepositoryStub), deci se măsoară doar munca din aplicație.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberDiffBenchmark {
+
+    private static final long EDITOR_ID = 1L;
+
+    @Param({"50", "500", "2000"})
+    public int members;
+
+    private Project project;
+    private List<ProjectMember> existingMembers;
+    private List<Long> wanted;
+    private ProjectMembershipSync membershipSync;
+
+    @Setup
+    public void setUp() {
+        project = new Project("P", "d");
+        project.setId(10L);
+
+        existingMembers = new ArrayList<>();
+        for (long id = 1; id <= members; id++) {
+            ProjectMember pm = new ProjectMember();
+            pm.setUser(user(id));
+            pm.setProject(project);
+            pm.setRole(id == EDITOR_ID ? "MANAGER" : "MEMBER");
+            existingMembers.add(pm);
+        }
+        // Păstrează a doua jumătate și adaugă tot atâția membri noi
+        wanted = LongStream.rangeClosed(members / 2 + 1, members + members / 2).boxed().toList();
+
+        List<Long> existingIds = existingMembers.stream().map(pm -> pm.getUser().getId()).toList();
+        ProjectMemberRepository projectMemberRepository = RepositoryStub.of(ProjectMemberRepository.class)
+                .returns("findUserIdsByProjectId", existingIds)
+                .returns("findUserIdsByProjectIdAndRole", List.of(EDITOR_ID))
+                .build();
+        UserRepository userRepository = RepositoryStub.of(UserRepository.class)
+                .answer("findAllById", args -> {
+                    List<User> users = new ArrayList<>();
+                    ((Iterable<?>) args[0]).forEach(id -> users.add(user((Long) id)));
+                    return users;
+                })
+                .build();
+
+        // Cache-urile reale: evacuările fac parte din costul sincronizării
+        DashboardCache dashboardCache = new DashboardCache(10_000, Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(dashboardCache, "projectMemberRepository", projectMemberRepository);
+
+        membershipSync = new ProjectMembershipSync();
+        ReflectionTestUtils.setField(membershipSync, "projectMemberRepository", projectMemberRepository);
+        ReflectionTestUtils.setField(membershipSync, "userRepository", userRepository);
+        ReflectionTestUtils.setField(membershipSync, "dashboardCache", dashboardCache);
+        ReflectionTestUtils.setField(membershipSync, "membershipCache",
+                new MembershipCache(projectMemberRepository, 10_000, Duration.ofMinutes(10)));
+    }
+
+    // Bucla din updateProject de dinainte, cu apelurile la repository înlocuite de colectarea rezultatelor
+    @Benchmark
+    public Object legacyNestedScan() {
+        Set<Long> newMemberIds = new HashSet<>(wanted);
+        List<ProjectMember> removed = new ArrayList<>();
+        for (ProjectMember pm : existingMembers) {
+            Long uid = pm.getUser().getId();
+            if (!uid.equals(EDITOR_ID) && !newMemberIds.contains(uid)) {
+                removed.add(pm);
+            }
+        }
+
+        List<ProjectMember> added = new ArrayList<>();
+        for (Long memberId : newMemberIds) {
+            if (memberId == null || memberId.equals(EDITOR_ID)) continue;
+
+            boolean alreadyExists = existingMembers.stream()
+                    .anyMatch(pm -> pm.getUser().getId().equals(memberId));
+
+            if (!alreadyExists) {
+                ProjectMember newMember = new ProjectMember();
+                newMember.setUser(user(memberId));
+                newMember.setProject(project);
+                newMember.setRole("MEMBER");
+                added.add(newMember);
+            }
+        }
+        return removed.size() + added.size();
+    }
+
+    @Benchmark
+    public Object setDifference() {
+        return membershipSync.sync(project, wanted, EDITOR_ID);
+    }
+
+    private static User user(long id) {
+        return new User(id, "user" + id, "user" + id + "@example.com", "x", "USER");
+    }
+}
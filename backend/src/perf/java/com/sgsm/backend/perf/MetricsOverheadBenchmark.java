@@ -0,0 +1,114 @@
+package com.sgsm.backend.perf;
+
+import com.sgsm.backend.repository.TaskRepository;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.actuate.metrics.AutoTimer;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.MetricsRepositoryMethodInvocationListener;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costul instrumentării pe calea unei cereri: observarea HTTP (ServerHttpObservationFilter, cu histograma
+ * configurată în application.properties, într-un registry Prometheus) și timer-ul unei invocări de repository.
+ * Overhead-ul per cerere = observedRequest - bareRequest + nr. de apeluri la repository × repositoryInvocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    private PrometheusMeterRegistry registry;
+    private ServerHttpObservationFilter filter;
+    private ServerHttpObservationFilter defaultsFilter;
+    private FilterChain chain;
+    private MetricsRepositoryMethodInvocationListener repositoryListener;
+    private RepositoryMethodInvocation invocation;
+
+    @Setup
+    public void setUp() throws Exception {
+        registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        // Echivalentul management.metrics.distribution.*.http.server.requests
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().equals("http.server.requests")) return config;
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        });
+
+        // management.observations.long-task-timer.enabled=false: fără timer-ul http.server.requests.active
+        ObservationRegistry observations = ObservationRegistry.create();
+        observations.observationConfig().observationHandler(
+                new DefaultMeterObservationHandler(registry, DefaultMeterObservationHandler.IgnoredMeters.LONG_TASK_TIMER));
+        filter = new ServerHttpObservationFilter(observations);
+        ObservationRegistry defaults = ObservationRegistry.create();
+        defaults.observationConfig().observationHandler(new DefaultMeterObservationHandler(registry));
+        defaultsFilter = new ServerHttpObservationFilter(defaults);
+        // Rolul handler mapping-ului: ruta potrivită devine tag-ul uri
+        chain = (request, response) -> ServerHttpObservationFilter.findObservationContext((HttpServletRequest) request)
+                .ifPresent(context -> context.setPathPattern("/tasks"));
+
+        repositoryListener = new MetricsRepositoryMethodInvocationListener(() -> registry,
+                new DefaultRepositoryTagsProvider(), "spring.data.repository.invocations", AutoTimer.ENABLED);
+        invocation = new RepositoryMethodInvocation(TaskRepository.class,
+                TaskRepository.class.getMethod("findBoardByProjectId", Long.class),
+                new RepositoryMethodInvocationResult() {
+                    public State getState() { return State.SUCCESS; }
+                    public Throwable getError() { return null; }
+                }, 250_000);
+    }
+
+    @Benchmark
+    public Object bareRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        chain.doFilter(request, response);
+        return response;
+    }
+
+    @Benchmark
+    public Object observedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    // Setările implicite Spring Boot, pentru comparație
+    @Benchmark
+    public Object observedRequestWithActiveTimer() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        defaultsFilter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Benchmark
+    public void repositoryInvocation() {
+        repositoryListener.afterInvocation(invocation);
+    }
+}
@@ -0,0 +1,238 @@
+package com.sgsm.backend.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sgsm.backend.security.JwtUtil;
+import com.sgsm.backend.service.TaskCounterService;
+import com.sgsm.backend.service.UserSearchIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Suită de regresie de performanță: generează un set de date la scara cerută (DataGenerator), apoi N clienți
+ * concurenți apelează endpoint-urile REST reale într-un amestec fix. Raportul (throughput, p50/p95/p99 per
+ * endpoint) e scris în target/perf-report.json, iar testul pică dacă un buget din perf-budgets.properties
+ * e depășit. Orice buget poate fi suprascris cu -Dperf.budget.&lt;cheie&gt;=valoare. În mvn -Pperf verify rulează
+ * înaintea benchmark-urilor JMH, iar un buget depășit oprește build-ul.
+ * <p>
+ * mvn -Pperf test -Dtest=PerfRegressionLoadTest [-Dgen.tasks=2000000 -DargLine=-Xmx4g] [-Dperf.clients=32]
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:perf-regression;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false",
+        "logging.level.root=WARN",
+        "app.overdue-sweeper.enabled=false",
+        "app.board-snapshots.enabled=false"
+})
+class PerfRegressionLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("perf.clients", 16);
+    private static final int SESSIONS = Integer.getInteger("perf.sessions", 500);
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("perf.warmup-seconds", 15));
+    private static final Duration MEASURE = Duration.ofSeconds(Integer.getInteger("perf.seconds", 30));
+    private static final String REPORT = System.getProperty("perf.report", "target/perf-report.json");
+
+    // Un user autentificat și un proiect al cărui membru este
+    record Session(String token, long projectId) {}
+
+    // Amestecul de trafic: board-ul e cel mai des deschis
+    enum Endpoint {
+        BOARD("board", 40, s -> "/tasks?projectId=" + s.projectId()),
+        DASHBOARD("dashboard", 20, s -> "/dashboard"),
+        PROJECTS("projects", 20, s -> "/projects?limit=20"),
+        COMMENTS("comments", 20, s -> "/projects/" + s.projectId() + "/comments?limit=30");
+
+        final String key;
+        final int weight;
+        final Function<Session, String> path;
+
+        Endpoint(String key, int weight, Function<Session, String> path) {
+            this.key = key;
+            this.weight = weight;
+            this.path = path;
+        }
+    }
+
+    static final class Stats {
+        final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        final LongAdder errors = new LongAdder();
+        long[] sorted;
+    }
+
+    @LocalServerPort private int port;
+    @Autowired private DataSource dataSource;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private TaskCounterService taskCounterService;
+    @Autowired private UserSearchIndex userSearchIndex;
+    @Autowired private JwtUtil jwtUtil;
+
+    @Test
+    void endpointsStayWithinBudget() throws Exception {
+        DataGenerator.Scale scale = DataGenerator.Scale.fromSystemProperties();
+        DataGenerator.Dataset dataset = new DataGenerator(dataSource, passwordEncoder.encode("secret")).generate(scale);
+        taskCounterService.rebuild();
+        userSearchIndex.reload();
+        System.out.printf("date generate în %d ms: %s, cel mai mare proiect %d taskuri%n",
+                dataset.millis(), scale, Arrays.stream(dataset.tasksByProject()).max().orElse(0));
+
+        List<Session> sessions = sessions(dataset);
+        Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) stats.put(endpoint, new Stats());
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(4))
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        load(client, sessions, stats);
+
+        double seconds = MEASURE.toNanos() / 1e9;
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scale", scale);
+        report.put("clients", CLIENTS);
+        report.put("seconds", seconds);
+        long total = 0;
+        long errors = 0;
+        for (Map.Entry<Endpoint, Stats> entry : stats.entrySet()) {
+            Stats s = entry.getValue();
+            s.sorted = s.latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            total += s.sorted.length;
+            errors += s.errors.sum();
+            report.put(entry.getKey().key, Map.of(
+                    "requests", s.sorted.length, "errors", s.errors.sum(), "throughput", s.sorted.length / seconds,
+                    "p50", p(s.sorted, 50), "p95", p(s.sorted, 95), "p99", p(s.sorted, 99)));
+            System.out.printf("%-10s %7.1f req/s  p50=%8.1fms  p95=%8.1fms  p99=%8.1fms  erori=%d%n",
+                    entry.getKey().key, s.sorted.length / seconds, p(s.sorted, 50), p(s.sorted, 95), p(s.sorted, 99), s.errors.sum());
+        }
+        report.put("throughput", total / seconds);
+        System.out.printf("total      %7.1f req/s%n", total / seconds);
+        writeReport(report);
+
+        Properties budgets = budgets();
+        List<String> violations = new ArrayList<>();
+        if (total / seconds < budget(budgets, "throughput.min")) {
+            violations.add(String.format("throughput %.1f req/s < %s", total / seconds, budget(budgets, "throughput.min")));
+        }
+        if (errors > budget(budgets, "errors.max")) {
+            violations.add("erori " + errors + " > " + budget(budgets, "errors.max"));
+        }
+        for (Map.Entry<Endpoint, Stats> entry : stats.entrySet()) {
+            for (int percentile : new int[]{95, 99}) {
+                String key = entry.getKey().key + ".p" + percentile + "-ms";
+                double actual = p(entry.getValue().sorted, percentile);
+                if (!(actual <= budget(budgets, key))) {
+                    violations.add(String.format("%s %.1f > %s", key, actual, budget(budgets, key)));
+                }
+            }
+        }
+        assertTrue(violations.isEmpty(), "bugete depășite: " + violations);
+    }
+
+    // Proiectele sunt alese după popularitate, ca traficul să se concentreze pe cele mari, ca în producție
+    private List<Session> sessions(DataGenerator.Dataset dataset) {
+        Random random = new Random(dataset.scale().seed());
+        Map<Long, String> tokens = new HashMap<>();
+        List<Session> sessions = new ArrayList<>(SESSIONS);
+        while (sessions.size() < SESSIONS) {
+            int project = dataset.projectPopularity().sample(random);
+            long[] members = dataset.membersByProject()[project];
+            long userId = members[random.nextInt(members.length)];
+            if (userId == 1) continue; // adminul vede toate proiectele, nu e un user tipic
+            String token = tokens.computeIfAbsent(userId, id -> jwtUtil.generateToken("user" + id, "USER", 0));
+            sessions.add(new Session(token, project + 1L));
+        }
+        return sessions;
+    }
+
+    // Model închis, fără timp de gândire: fiecare client trimite cererea următoare imediat ce o primește pe cea curentă
+    private void load(HttpClient client, List<Session> sessions, Map<Endpoint, Stats> stats) throws Exception {
+        long measureFrom = System.nanoTime() + WARMUP.toNanos();
+        long end = measureFrom + MEASURE.toNanos();
+        int totalWeight = Arrays.stream(Endpoint.values()).mapToInt(e -> e.weight).sum();
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+
+        for (int c = 0; c < CLIENTS; c++) {
+            Random random = new Random(c);
+            Runnable[] next = new Runnable[1];
+            next[0] = () -> {
+                if (System.nanoTime() >= end) {
+                    done.countDown();
+                    return;
+                }
+                Session session = sessions.get(random.nextInt(sessions.size()));
+                Endpoint endpoint = pick(random.nextInt(totalWeight));
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + endpoint.path.apply(session)))
+                        .header("Authorization", "Bearer " + session.token())
+                        .timeout(Duration.ofSeconds(30))
+                        .GET().build();
+                long start = System.nanoTime();
+                client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                    if (start >= measureFrom) {
+                        Stats s = stats.get(endpoint);
+                        if (error == null && response.statusCode() == 200) s.latencies.add(System.nanoTime() - start);
+                        else s.errors.increment();
+                    }
+                    next[0].run();
+                });
+            };
+            next[0].run();
+        }
+
+        assertTrue(done.await(WARMUP.plus(MEASURE).plusSeconds(60).toSeconds(), TimeUnit.SECONDS), "clienții nu s-au oprit");
+    }
+
+    private static Endpoint pick(int ticket) {
+        for (Endpoint endpoint : Endpoint.values()) {
+            ticket -= endpoint.weight;
+            if (ticket < 0) return endpoint;
+        }
+        throw new IllegalStateException();
+    }
+
+    private static Properties budgets() throws Exception {
+        Properties budgets = new Properties();
+        try (InputStream in = PerfRegressionLoadTest.class.getResourceAsStream("/perf-budgets.properties")) {
+            assertNotNull(in, "perf-budgets.properties lipsește");
+            budgets.load(in);
+        }
+        return budgets;
+    }
+
+    private static double budget(Properties budgets, String key) {
+        String value = System.getProperty("perf.budget." + key, budgets.getProperty(key));
+        assertNotNull(value, "buget nedefinit: " + key);
+        return Double.parseDouble(value);
+    }
+
+    private static void writeReport(Map<String, Object> report) throws Exception {
+        File file = new File(REPORT);
+        if (file.getParentFile() != null) file.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+        System.out.println("raport: " + file.getAbsolutePath());
+    }
+
+    private static double p(long[] sorted, int percentile) {
+        if (sorted.length == 0) return Double.NaN;
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,56 @@
+package com.sgsm.backend.perf;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Repository fără bază de date pentru benchmark-uri: metodele numite întorc răspunsul dat, restul întorc
+ * o valoare goală. Un proxy JDK costă câțiva ns per apel, spre deosebire de un mock Mockito, care ar domina măsurătoarea.
+ */
+final class RepositoryStub<T> {
+
+    private final Class<T> type;
+    private final Map<String, Function<Object[], Object>> answers = new HashMap<>();
+
+    private RepositoryStub(Class<T> type) {
+        this.type = type;
+    }
+
+    static <T> RepositoryStub<T> of(Class<T> type) {
+        return new RepositoryStub<>(type);
+    }
+
+    RepositoryStub<T> answer(String method, Function<Object[], Object> answer) {
+        answers.put(method, answer);
+        return this;
+    }
+
+    RepositoryStub<T> returns(String method, Object value) {
+        return answer(method, args -> value);
+    }
+
+    T build() {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) return answer.apply(args);
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+            Class<?> returnType = method.getReturnType();
+            if (returnType == Optional.class) return Optional.empty();
+            if (returnType == List.class || returnType == Iterable.class) return List.of();
+            if (returnType == long.class) return 0L;
+            if (returnType == int.class) return 0;
+            if (returnType == boolean.class) return false;
+            return null;
+        }));
+    }
+}
@@ -0,0 +1,58 @@
+package com.sgsm.backend.perf;
+
+import com.sgsm.backend.util.UsernamePrefixIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selectorul de membri cu 20k conturi: filtrarea întregii liste (calea veche, fără transferul ei)
+ * față de căutarea binară în indexul de prefixe.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserSearchBenchmark {
+
+    private static final int USERS = 20_000;
+
+    private List<UsernamePrefixIndex.Entry> users;
+    private UsernamePrefixIndex index;
+
+    @Param({"m", "mar", "maria.p"})
+    public String prefix;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] names = {"maria", "mihai", "andrei", "ana", "ioana", "radu", "elena", "george", "cristina", "vlad"};
+        users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            String name = names[random.nextInt(names.length)] + "." + (char) ('a' + random.nextInt(26)) + i;
+            users.add(new UsernamePrefixIndex.Entry(i, name));
+        }
+        index = UsernamePrefixIndex.of(users);
+    }
+
+    @Benchmark
+    public Object fullScan() {
+        String p = prefix.toLowerCase(Locale.ROOT);
+        return users.stream()
+                .filter(u -> u.username().toLowerCase(Locale.ROOT).startsWith(p))
+                .sorted((a, b) -> a.username().compareToIgnoreCase(b.username()))
+                .limit(10)
+                .toList();
+    }
+
+    @Benchmark
+    public Object prefixIndex() {
+        return index.search(prefix, 10, null);
+    }
+}
@@ -0,0 +1,266 @@
+package com.sgsm.backend.perf;
+
+import com.sgsm.backend.BackendApplication;
+import com.sgsm.backend.dto.ProjectDTO;
+import com.sgsm.backend.dto.TaskDTO;
+import com.sgsm.backend.model.Project;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.ProjectRepository;
+import com.sgsm.backend.repository.UserRepository;
+import com.sgsm.backend.security.JwtUtil;
+import com.sgsm.backend.service.ProjectService;
+import com.sgsm.backend.service.TaskService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 2000 de useri concurenți (model închis, cu timp de gândire), jumătate pe board (GET /tasks, atinge baza de date)
+ * și jumătate pe dashboard (servit din cache), cu aplicația pornită pe fire platformă și apoi pe fire virtuale.
+ * Fiecare statement SQL primește o latență artificială, ca la un PostgreSQL aflat pe altă mașină.
+ * <p>
+ * mvn -Pperf test -Dtest=VirtualThreadsLoadTest
+ */
+class VirtualThreadsLoadTest {
+
+    private static final int USERS = Integer.getInteger("vt.users", 2000);
+    // Timp de gândire între cereri: 2000 de useri generează ~100 req/s, cât poate servi un singur vCPU
+    private static final Duration THINK_TIME = Duration.ofSeconds(20);
+    private static final Duration WARMUP = THINK_TIME.plusSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(Integer.getInteger("vt.seconds", 30));
+    // Un board = un singur statement; pool de 20 conexiuni => cel mult ~40 board-uri/s, sub cele ~50/s cerute
+    private static final long STATEMENT_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(Integer.getInteger("vt.latency-ms", 500));
+
+    record Result(String mode, long boardOk, long dashboardOk, long busy, long errors,
+                  long[] board, long[] dashboard, double seconds) {
+
+        void print() {
+            System.out.printf("%-9s board: %6.0f req/s p50=%7.1fms p99=%7.1fms | dashboard: %6.0f req/s p50=%7.1fms p99=%7.1fms | 503=%d erori=%d%n",
+                    mode, boardOk / seconds, p(board, 50), p(board, 99),
+                    dashboardOk / seconds, p(dashboard, 50), p(dashboard, 99), busy, errors);
+        }
+    }
+
+    @Test
+    void compareThreadModelsAtTwoThousandUsers() throws Exception {
+        String only = System.getProperty("vt.mode", "");
+        Result platform = only.equals("virtual") ? null : run(false);
+        Result virtual = only.equals("platform") ? null : run(true);
+        if (platform == null || virtual == null) {
+            (platform == null ? virtual : platform).print();
+            return;
+        }
+        platform.print();
+        virtual.print();
+
+        assertEquals(0, platform.errors() + virtual.errors(), "doar 200 sau 503 sunt acceptate");
+        // Bulkhead-ul respinge după max-wait, în loc ca cererile să stea în coada Hikari până la connection-timeout
+        assertTrue(p(virtual.board(), 99) < p(platform.board(), 99),
+                "p99 board virtual " + p(virtual.board(), 99) + "ms vs platformă " + p(platform.board(), 99) + "ms");
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class, StatementLatency.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:vt-" + mode + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--app.overdue-sweeper.enabled=false",
+                        "--app.board-snapshots.enabled=false")) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String[] urls = seed(context, port);
+            StatementLatency.enabled = true;
+            String token = urls[2];
+            HttpRequest board = HttpRequest.newBuilder(URI.create(urls[0])).header("Authorization", "Bearer " + token).GET().build();
+            HttpRequest dashboard = HttpRequest.newBuilder(URI.create(urls[1])).header("Authorization", "Bearer " + token).GET().build();
+
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newFixedThreadPool(4))
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            try {
+                Result result = load(mode, client, board, dashboard);
+                MeterRegistry registry = context.getBean(MeterRegistry.class);
+                System.out.println(mode + " bulkhead rejected "
+                        + registry.find("db.bulkhead.rejected").functionCounters().stream().mapToDouble(FunctionCounter::count).sum());
+                return result;
+            } finally {
+                StatementLatency.enabled = false;
+            }
+        }
+    }
+
+    // Întoarce [url board, url dashboard, token]
+    private String[] seed(ConfigurableApplicationContext context, int port) {
+        UserRepository users = context.getBean(UserRepository.class);
+        PasswordEncoder encoder = context.getBean(PasswordEncoder.class);
+        User manager = users.save(new User(null, "vt", "vt@test", encoder.encode("secret"), "USER"));
+
+        ProjectDTO project = new ProjectDTO();
+        project.setTitle("Virtual");
+        project.setDescription("Virtual");
+        project.setMemberIds(List.of());
+        context.getBean(ProjectService.class).createProject(project, manager);
+        Long projectId = context.getBean(ProjectRepository.class).findAll().stream()
+                .map(Project::getId).max(Long::compare).orElseThrow();
+
+        TaskService taskService = context.getBean(TaskService.class);
+        for (int i = 0; i < 30; i++) {
+            TaskDTO task = new TaskDTO();
+            task.setProjectId(projectId);
+            task.setAssignedToId(manager.getId());
+            task.setTitle("Task " + i);
+            task.setDescription("Descriere");
+            task.setTags("tag");
+            task.setStatus(i % 2 == 0 ? "TO_DO" : "DONE");
+            task.setDeadline(LocalDateTime.now().plusDays(7));
+            taskService.createTask(task, manager);
+        }
+
+        String token = context.getBean(JwtUtil.class)
+                .generateToken(manager.getUsername(), manager.getRole(), manager.getCredentialsVersion());
+        return new String[]{
+                "http://localhost:" + port + "/tasks?projectId=" + projectId,
+                "http://localhost:" + port + "/dashboard",
+                token};
+    }
+
+    // Clientul e asincron, pe fire platformă: nu concurează cu serverul pentru carrier-ele firelor virtuale
+    private Result load(String mode, HttpClient client, HttpRequest board, HttpRequest dashboard) throws Exception {
+        ConcurrentLinkedQueue<Long> boardLatencies = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<Long> dashboardLatencies = new ConcurrentLinkedQueue<>();
+        LongAdder busy = new LongAdder();
+        LongAdder errors = new LongAdder();
+
+        long measureFrom = System.nanoTime() + WARMUP.toNanos();
+        long end = measureFrom + MEASURE.toNanos();
+        ScheduledExecutorService thinking = Executors.newSingleThreadScheduledExecutor();
+        CountDownLatch done = new CountDownLatch(USERS);
+
+        for (int i = 0; i < USERS; i++) {
+            boolean onBoard = i % 2 == 0;
+            HttpRequest request = onBoard ? board : dashboard;
+            ConcurrentLinkedQueue<Long> latencies = onBoard ? boardLatencies : dashboardLatencies;
+            Runnable[] user = new Runnable[1];
+            user[0] = () -> {
+                if (System.nanoTime() >= end) {
+                    done.countDown();
+                    return;
+                }
+                long start = System.nanoTime();
+                client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                    if (start >= measureFrom) {
+                        int status = error != null ? -1 : response.statusCode();
+                        if (status == 200) latencies.add(System.nanoTime() - start);
+                        else if (status == 503) busy.increment();
+                        else errors.increment();
+                    }
+                    thinking.schedule(user[0], THINK_TIME.toMillis(), TimeUnit.MILLISECONDS);
+                });
+            };
+            // Pornire eșalonată pe durata unui timp de gândire
+            thinking.schedule(user[0], THINK_TIME.toMillis() * i / USERS, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(done.await(WARMUP.plus(MEASURE).plusSeconds(60).toSeconds(), TimeUnit.SECONDS));
+        thinking.shutdownNow();
+        return new Result(mode, boardLatencies.size(), dashboardLatencies.size(), busy.sum(), errors.sum(),
+                sorted(boardLatencies), sorted(dashboardLatencies), MEASURE.toNanos() / 1e9);
+    }
+
+    private static long[] sorted(Collection<Long> values) {
+        long[] result = values.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static double p(long[] sorted, int percentile) {
+        if (sorted.length == 0) return Double.NaN;
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    // Latență fixă la fiecare execuție de statement (parkNanos: un fir virtual eliberează carrier-ul)
+    @Configuration
+    static class StatementLatency {
+
+        // Doar în timpul încărcării; datele de test se inserează fără întârziere
+        static volatile boolean enabled;
+
+        @Bean
+        static BeanPostProcessor statementLatencyPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof LatencyDataSource)) {
+                        return new LatencyDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        static final class LatencyDataSource extends DelegatingDataSource {
+
+            LatencyDataSource(DataSource target) {
+                super(target);
+            }
+
+            @Override
+            public Connection getConnection() throws SQLException {
+                return wrap(super.getConnection(), Connection.class);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T wrap(T target, Class<T> type) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (enabled && method.getName().startsWith("execute")) {
+                    LockSupport.parkNanos(STATEMENT_LATENCY_NANOS);
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                    return wrap(result, (Class<Object>) method.getReturnType());
+                }
+                return result;
+            });
+        }
+    }
+}
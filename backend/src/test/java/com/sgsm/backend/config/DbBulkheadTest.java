@@ -0,0 +1,51 @@
+package com.sgsm.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DbBulkheadTest {
+
+    @Test
+    void rejectsWhenAllPermitsAreHeldAndReleasesOnceOnClose() throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        DbBulkhead bulkhead = new DbBulkhead(true, 1, Duration.ofMillis(20));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        bulkhead.bindTo(registry);
+        DataSource dataSource = (DataSource) bulkhead.postProcessAfterInitialization(target, "dataSource");
+
+        Connection first = dataSource.getConnection();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        first.close();
+        first.close();
+        Connection second = dataSource.getConnection();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        second.close();
+
+        assertEquals(2, registry.get("db.bulkhead.acquired").functionCounter().count());
+        assertEquals(2, registry.get("db.bulkhead.rejected").functionCounter().count());
+        assertEquals(0, registry.get("db.bulkhead.in.use").gauge().value());
+    }
+
+    @Test
+    void releasesPermitWhenTargetFails() throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("pool"));
+        DbBulkhead bulkhead = new DbBulkhead(true, 1, Duration.ofMillis(20));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        bulkhead.bindTo(registry);
+        DataSource dataSource = (DataSource) bulkhead.postProcessAfterInitialization(target, "dataSource");
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(0, registry.get("db.bulkhead.in.use").gauge().value());
+    }
+}
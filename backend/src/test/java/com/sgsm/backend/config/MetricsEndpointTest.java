@@ -0,0 +1,81 @@
+package com.sgsm.backend.config;
+
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.UserRepository;
+import com.sgsm.backend.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// /actuator/prometheus e doar pentru admini și scraper (HTTP Basic) și conține metricile HTTP, de repository, SQL, Hibernate, Hikari și cache
+@SpringBootTest(properties = {
+        "app.metrics.scrape.username=scraper",
+        "app.metrics.scrape.password=scrape-secret"
+})
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false) // testele Spring Boot dezactivează altfel exportul metricilor
+class MetricsEndpointTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JwtUtil jwtUtil;
+
+    @Test
+    void prometheus_requiresAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + tokenFor("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    @Test
+    void prometheus_acceptsScrapeCredentialOnlyThere() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("scraper", "gresit")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("scraper", "scrape-secret")))
+                .andExpect(status().isOk());
+
+        // Credențialul scraper-ului nu autentifică restul API-ului
+        mockMvc.perform(get("/admin/ping").with(httpBasic("scraper", "scrape-secret")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void prometheus_exposesRouteRepositoryPoolAndCacheMetrics() throws Exception {
+        String admin = tokenFor("ADMIN");
+        mockMvc.perform(get("/dashboard").header("Authorization", "Bearer " + tokenFor("USER")))
+                .andExpect(status().isOk());
+
+        String body = mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + admin))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(body.contains("http_server_requests_seconds_bucket{") && body.contains("uri=\"/dashboard\""),
+                "histogramă per rută");
+        assertTrue(body.contains("spring_data_repository_invocations_seconds_count{"), "timere de repository");
+        assertTrue(body.contains("hibernate_statements_total"), "statistici Hibernate");
+        assertTrue(body.contains("hikaricp_connections_active"), "pool Hikari");
+        assertTrue(body.contains("cache_gets_total{cache=\"dashboard\""), "cache dashboard");
+        assertTrue(body.contains("cache=\"principals\""), "cache principal");
+        assertTrue(body.contains("user_search_entries"), "index căutare useri");
+        assertTrue(body.contains("jwt_revoked_tokens"), "revocări JWT");
+        assertTrue(body.contains("sql_statements_per_request_count{") && body.contains("uri=\"/dashboard\""),
+                "instrucțiuni SQL per cerere");
+    }
+
+    private String tokenFor(String role) {
+        String username = role.toLowerCase() + System.nanoTime();
+        User user = userRepository.save(new User(null, username, username + "@test", "hash", role));
+        return jwtUtil.generateToken(user.getUsername(), user.getRole(), user.getCredentialsVersion());
+    }
+}
@@ -0,0 +1,42 @@
+package com.sgsm.backend.config;
+
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bugetul de instrucțiuni SQL al unui bloc din test (de obicei o cerere MockMvc): cel mult maxStatements
+ * și nicio instrucțiune repetată peste pragul N+1 al SqlStatementCounter.
+ * <pre>
+ * SqlBudget.assertWithin(counter, 3, () -&gt; mockMvc.perform(get("/projects")).andExpect(status().isOk()));
+ * </pre>
+ */
+public final class SqlBudget {
+
+    private SqlBudget() {}
+
+    public static SqlStatementCounter.Scope assertWithin(SqlStatementCounter counter, int maxStatements,
+                                                         Executable action) throws Throwable {
+        SqlStatementCounter.Scope scope = counter.open();
+        try {
+            action.execute();
+        } finally {
+            scope.close();
+        }
+
+        Map<String, Integer> repeated = scope.repeatedOver(counter.getRepeatThreshold());
+        assertTrue(repeated.isEmpty(), () -> "N+1: " + describe(repeated));
+        assertTrue(scope.total() <= maxStatements, () -> scope.total() + " instrucțiuni SQL, bugetul este "
+                + maxStatements + ":\n" + describe(scope.byShape()));
+        return scope;
+    }
+
+    private static String describe(Map<String, Integer> shapes) {
+        return shapes.entrySet().stream()
+                .map(e -> e.getValue() + " × " + e.getKey().replaceAll("\\s+", " "))
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,136 @@
+package com.sgsm.backend.config;
+
+import com.sgsm.backend.dto.ProjectDTO;
+import com.sgsm.backend.model.Project;
+import com.sgsm.backend.model.ProjectComment;
+import com.sgsm.backend.model.Task;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.ProjectCommentRepository;
+import com.sgsm.backend.repository.ProjectRepository;
+import com.sgsm.backend.repository.TaskRepository;
+import com.sgsm.backend.repository.UserRepository;
+import com.sgsm.backend.security.JwtUtil;
+import com.sgsm.backend.service.ProjectService;
+import com.sgsm.backend.service.TaskCounterService;
+import com.sgsm.backend.util.RankKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Bugetul SQL per endpoint nu crește cu numărul de proiecte, membri, taskuri sau comentarii
+@SpringBootTest
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class SqlBudgetTest {
+
+    private static final int PROJECTS = 15;
+    private static final int MEMBERS = 20;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private SqlStatementCounter counter;
+    @Autowired private ProjectService projectService;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private ProjectCommentRepository commentRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JwtUtil jwtUtil;
+
+    private User member;
+    private String token;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        User manager = userRepository.save(new User(null, "manager" + suffix, "manager" + suffix + "@test", "hash", "USER"));
+        List<User> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(userRepository.save(new User(null, "member" + i + "_" + suffix, "member" + i + "_" + suffix + "@test", "hash", "USER")));
+        }
+        member = members.get(0);
+        token = jwtUtil.generateToken(member.getUsername(), member.getRole(), member.getCredentialsVersion());
+
+        for (int p = 0; p < PROJECTS; p++) {
+            ProjectDTO dto = new ProjectDTO();
+            dto.setTitle("Buget " + suffix + " " + p);
+            dto.setDescription("Buget SQL");
+            dto.setMemberIds(members.stream().map(User::getId).toList());
+            projectService.createProject(dto, manager);
+        }
+        Project project = projectRepository.findAll().stream()
+                .filter(p -> p.getTitle().startsWith("Buget " + suffix))
+                .findFirst()
+                .orElseThrow();
+        projectId = project.getId();
+
+        List<String> keys = RankKey.evenlySpaced(60);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Task task = new Task(null, "Task " + i, "Descriere", TaskCounterService.BOARD_STATUSES.get(i % 3),
+                    null, "tag", project, members.get(i % MEMBERS));
+            task.setRankKey(keys.get(i));
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+
+        List<ProjectComment> comments = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            ProjectComment comment = new ProjectComment();
+            comment.setContent("Comentariul " + i);
+            comment.setCreatedAt(LocalDateTime.now().minusMinutes(i));
+            comment.setAuthor(members.get(i % MEMBERS));
+            comment.setProject(project);
+            comment.setPinned(i % 10 == 0);
+            comments.add(comment);
+        }
+        commentRepository.saveAll(comments);
+    }
+
+    @Test
+    void endpoints_stayWithinStatementBudget() throws Throwable {
+        // Bugetele includ și încărcarea principalului și a rolurilor, când cache-urile sunt reci
+        assertWithin(2, "/projects");
+        assertWithin(3, "/projects/" + projectId + "/members");
+        assertWithin(3, "/tasks?projectId=" + projectId);
+        assertWithin(3, "/projects/" + projectId + "/comments");
+        assertWithin(2, "/projects/" + projectId + "/comments?limit=30");
+        assertWithin(3, "/dashboard");
+    }
+
+    @Test
+    void scope_detectsRepeatedStatementShapes() {
+        List<Long> ids = userRepository.findAll().stream().map(User::getId).limit(counter.getRepeatThreshold() + 1).toList();
+
+        SqlStatementCounter.Scope scope = counter.open();
+        try {
+            ids.forEach(id -> userRepository.findById(id));
+            // Listele IN de lungimi diferite au aceeași formă
+            userRepository.findAllById(ids.subList(0, 2));
+            userRepository.findAllById(ids.subList(0, 3));
+        } finally {
+            scope.close();
+        }
+
+        assertEquals(ids.size() + 2, scope.total());
+        assertEquals(1, scope.repeatedOver(counter.getRepeatThreshold()).size());
+        assertEquals(ids.size(), scope.maxRepeats());
+        assertTrue(scope.byShape().containsValue(2), "formă comună pentru liste IN: " + scope.byShape());
+    }
+
+    private void assertWithin(int maxStatements, String path) throws Throwable {
+        SqlBudget.assertWithin(counter, maxStatements, () ->
+                mockMvc.perform(get(path).header("Authorization", "Bearer " + token)).andExpect(status().isOk()));
+    }
+}
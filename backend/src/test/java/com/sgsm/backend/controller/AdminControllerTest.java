@@ -0,0 +1,41 @@
+package com.sgsm.backend.controller;
+
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.UserRepository;
+import com.sgsm.backend.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Listarea paginată din /admin/projects vede toate proiectele, deci e doar pentru admini
+@SpringBootTest
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class AdminControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JwtUtil jwtUtil;
+
+    @Test
+    void projects_requireAdmin() throws Exception {
+        mockMvc.perform(get("/admin/projects").param("limit", "10").header("Authorization", "Bearer " + tokenFor("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/admin/projects").header("Authorization", "Bearer " + tokenFor("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/admin/projects").param("limit", "10").header("Authorization", "Bearer " + tokenFor("ADMIN")))
+                .andExpect(status().isOk());
+    }
+
+    private String tokenFor(String role) {
+        String username = role.toLowerCase() + System.nanoTime();
+        User user = userRepository.save(new User(null, username, username + "@test", "hash", role));
+        return jwtUtil.generateToken(user.getUsername(), user.getRole(), user.getCredentialsVersion());
+    }
+}
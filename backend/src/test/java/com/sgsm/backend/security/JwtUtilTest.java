@@ -0,0 +1,38 @@
+package com.sgsm.backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil(100, Duration.ofMinutes(15));
+
+    @Test
+    void verify_validToken_returnsClaimsAndCachesResult() {
+        String token = jwtUtil.generateToken("john", "USER", 0);
+
+        JwtUtil.VerifiedToken first = jwtUtil.verify(token);
+        assertNotNull(first);
+        assertEquals("john", first.username());
+        assertEquals("USER", first.role());
+        assertNotNull(first.tokenId());
+
+        // A doua cerere cu același token nu mai parsează/verifică semnătura
+        assertSame(first, jwtUtil.verify(token));
+        assertEquals("john", jwtUtil.extractUsername(token));
+    }
+
+    @Test
+    void verify_tamperedOrMalformedToken_returnsNull() {
+        String token = jwtUtil.generateToken("john", "USER", 0);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertNull(jwtUtil.verify(tampered));
+        assertNull(jwtUtil.verify("nu.este.jwt"));
+        assertNull(jwtUtil.verify(""));
+        assertFalse(jwtUtil.isTokenValid(tampered));
+    }
+}
@@ -0,0 +1,46 @@
+package com.sgsm.backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginThrottleTest {
+
+    @Test
+    void bucket_rejectsBurstAndRefillsOverTime() {
+        long start = 0;
+        LoginThrottle.Bucket bucket = new LoginThrottle.Bucket(3, 6, start); // 1 token la 10 secunde
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryConsume(start));
+        }
+        long wait = bucket.tryConsume(start);
+        assertEquals(TimeUnit.SECONDS.toNanos(10), wait, TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertEquals(0, bucket.tryConsume(start + TimeUnit.SECONDS.toNanos(10)));
+    }
+
+    @Test
+    void tryAcquire_limitsPerUsernameAcrossIps() {
+        LoginThrottle throttle = new LoginThrottle(2, 1, 100, 100);
+
+        assertEquals(0, throttle.tryAcquire("John", "10.0.0.1"));
+        assertEquals(0, throttle.tryAcquire("john", "10.0.0.2"));
+        assertTrue(throttle.tryAcquire(" JOHN ", "10.0.0.3") > 0);
+
+        // Alt username de pe același IP nu e afectat
+        assertEquals(0, throttle.tryAcquire("ana", "10.0.0.1"));
+    }
+
+    @Test
+    void tryAcquire_limitsPerIp() {
+        LoginThrottle throttle = new LoginThrottle(100, 100, 2, 1);
+
+        assertEquals(0, throttle.tryAcquire("a", "10.0.0.1"));
+        assertEquals(0, throttle.tryAcquire("b", "10.0.0.1"));
+        assertTrue(throttle.tryAcquire("c", "10.0.0.1") > 0);
+        assertEquals(0, throttle.tryAcquire("c", "10.0.0.2"));
+    }
+}
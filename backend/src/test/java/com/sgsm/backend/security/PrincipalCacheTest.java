@@ -0,0 +1,52 @@
+package com.sgsm.backend.security;
+
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PrincipalCacheTest {
+
+    private UserRepository userRepository;
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        principalCache = new PrincipalCache(userRepository, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void get_loadsOnceUntilInvalidated() {
+        User user = new User(1L, "john", "john@test", "hash", "USER");
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
+
+        AuthPrincipal first = principalCache.get("john");
+        AuthPrincipal second = principalCache.get("john");
+
+        assertEquals(new AuthPrincipal(1L, "john", "USER", 0), first);
+        assertSame(first, second);
+        verify(userRepository, times(1)).findByUsername("john");
+
+        // Parola schimbată: versiunea nouă e citită imediat după invalidare
+        user.setCredentialsVersion(1);
+        principalCache.invalidate("john");
+        assertEquals(1, principalCache.get("john").credentialsVersion());
+        verify(userRepository, times(2)).findByUsername("john");
+    }
+
+    @Test
+    void get_deletedUser_returnsNullAndIsNotCached() {
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertNull(principalCache.get("ghost"));
+        assertNull(principalCache.get("ghost"));
+        verify(userRepository, times(2)).findByUsername("ghost");
+    }
+}
@@ -0,0 +1,81 @@
+package com.sgsm.backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevokedTokenFilterTest {
+
+    private final long inOneHour = System.currentTimeMillis() + 3_600_000;
+
+    @Test
+    void isRevoked_onlyForAddedAndUnexpiredTokens() {
+        RevokedTokenFilter filter = new RevokedTokenFilter(1000, 0.001);
+        filter.add("revoked", inOneHour);
+        filter.add("expired", System.currentTimeMillis() - 1);
+
+        assertTrue(filter.isRevoked("revoked"));
+        assertFalse(filter.isRevoked("expired"));
+        assertFalse(filter.isRevoked("other"));
+        assertFalse(filter.isRevoked(null));
+    }
+
+    @Test
+    void add_beyondCapacity_rebuildsWithoutLosingEntries() {
+        RevokedTokenFilter filter = new RevokedTokenFilter(64, 0.01);
+        String[] ids = new String[1000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID().toString();
+            filter.add(ids[i], inOneHour);
+        }
+
+        for (String id : ids) {
+            assertTrue(filter.isRevoked(id));
+        }
+        assertTrue(filter.capacity() >= ids.length);
+    }
+
+    @Test
+    void purgeAndReplace_dropExpiredOrMissingEntries() {
+        RevokedTokenFilter filter = new RevokedTokenFilter(1000, 0.001);
+        filter.add("a", inOneHour);
+        filter.add("b", System.currentTimeMillis() + 10);
+
+        assertEquals(1, filter.purgeExpired(System.currentTimeMillis() + 1000));
+        assertTrue(filter.isRevoked("a"));
+
+        // Reîncărcarea din baza de date e sursa de adevăr
+        Map<String, Long> fromDatabase = new HashMap<>();
+        fromDatabase.put("c", inOneHour);
+        filter.replaceAll(fromDatabase, filter.version());
+
+        assertFalse(filter.isRevoked("a"));
+        assertTrue(filter.isRevoked("c"));
+        assertEquals(1, filter.size());
+    }
+
+    @Test
+    void replaceAll_keepsEntriesAddedAfterTheSnapshot() {
+        RevokedTokenFilter filter = new RevokedTokenFilter(1000, 0.001);
+        filter.add("old", inOneHour);
+
+        // Citirea din baza de date începe înainte ca revocarea lui "new" să fie comisă
+        long snapshot = filter.version();
+        Map<String, Long> staleRead = new HashMap<>();
+        staleRead.put("c", inOneHour);
+        filter.add("new", inOneHour);
+        filter.replaceAll(staleRead, snapshot);
+
+        assertTrue(filter.isRevoked("new"));
+        assertTrue(filter.isRevoked("c"));
+        assertFalse(filter.isRevoked("old"));
+
+        // La reîncărcarea următoare baza de date e din nou sursa de adevăr
+        filter.replaceAll(staleRead, filter.version());
+        assertFalse(filter.isRevoked("new"));
+    }
+}
@@ -5,6 +5,9 @@ import com.sgsm.backend.dto.LoginRequest;
 import com.sgsm.backend.model.User;
 import com.sgsm.backend.repository.UserRepository;
 import com.sgsm.backend.security.JwtUtil;
+import com.sgsm.backend.security.LoginExecutor;
+import com.sgsm.backend.security.LoginThrottle;
+import com.sgsm.backend.security.TokenRevocationList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -17,6 +20,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 class AuthServiceTest {
@@ -26,6 +30,14 @@ class AuthServiceTest {
     private JwtUtil jwtUtil;  // Simulare utilitarul pentru generarea/verificarea token-urilor JWT
     @Mock
     private PasswordEncoder passwordEncoder;  // Simulare encoder parolă pentru verificarea autentificării
+    @Mock
+    private LoginThrottle loginThrottle;
+    @Mock
+    private LoginExecutor loginExecutor;
+    @Mock
+    private RefreshTokenService refreshTokenService;
+    @Mock
+    private TokenRevocationList revocationList;
     @InjectMocks
     private AuthService authService; // Injectare mock-uri în clasa testată: AuthService
     @BeforeEach
@@ -77,7 +89,8 @@ class AuthServiceTest {
 
         when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("correctpass", "encodedPassword")).thenReturn(true);
-        when(jwtUtil.generateToken("john", "USER")).thenReturn("fake.jwt.token");
+        when(jwtUtil.generateToken("john", "USER", 0L)).thenReturn("fake.jwt.token");
+        when(refreshTokenService.issue(user)).thenReturn("fake.refresh.token");
 
         ResponseEntity<?> response = authService.authenticate(request);
 
@@ -85,5 +98,58 @@ class AuthServiceTest {
         AuthResponse authResponse = (AuthResponse) response.getBody();
         assertNotNull(authResponse);
         assertEquals("fake.jwt.token", authResponse.getToken());
+        assertEquals("fake.refresh.token", authResponse.getRefreshToken());
+    }
+
+    @Test
+    void logout_revokesAccessAndRefreshToken() {
+        java.time.Instant expiresAt = java.time.Instant.now().plusSeconds(600);
+        when(jwtUtil.verify("access")).thenReturn(new JwtUtil.VerifiedToken("john", "USER", 0, expiresAt, "jti-1"));
+
+        ResponseEntity<?> response = authService.logout("access", "refresh");
+
+        assertEquals(204, response.getStatusCode().value());
+        verify(revocationList).revoke("jti-1", expiresAt);
+        verify(refreshTokenService).revoke("refresh");
+    }
+
+    @Test
+    void authenticate_outdatedBcryptCost_rehashesPassword() {
+        User user = new User();
+        user.setUsername("john");
+        user.setPassword("oldHash");
+        user.setRole("USER");
+
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("correctpass", "oldHash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("oldHash")).thenReturn(true);
+        when(passwordEncoder.encode("correctpass")).thenReturn("newHash");
+
+        ResponseEntity<?> response = authService.authenticate(new LoginRequest("john", "correctpass"));
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals("newHash", user.getPassword());
+        verify(userRepository).save(user);
+    }
+
+    @Test
+    void authenticateAsync_throttled_returns429WithoutHashing() {
+        when(loginThrottle.tryAcquire("john", "10.0.0.1")).thenReturn(12L);
+
+        ResponseEntity<?> response = authService.authenticateAsync(new LoginRequest("john", "pass"), "10.0.0.1").join();
+
+        assertEquals(429, response.getStatusCodeValue());
+        assertEquals("12", response.getHeaders().getFirst("Retry-After"));
+        verifyNoInteractions(userRepository, passwordEncoder, loginExecutor);
+    }
+
+    @Test
+    void authenticateAsync_poolSaturated_returns503() {
+        doThrow(new java.util.concurrent.RejectedExecutionException()).when(loginExecutor).execute(any());
+
+        ResponseEntity<?> response = authService.authenticateAsync(new LoginRequest("john", "pass"), "10.0.0.1").join();
+
+        assertEquals(503, response.getStatusCodeValue());
+        verifyNoInteractions(passwordEncoder);
     }
 }
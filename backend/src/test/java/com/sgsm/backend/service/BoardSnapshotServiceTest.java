@@ -0,0 +1,95 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.dto.CfdPointDTO;
+import com.sgsm.backend.model.BoardSnapshot;
+import com.sgsm.backend.model.BoardSnapshotId;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.BoardSnapshotRepository;
+import com.sgsm.backend.repository.ProjectMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BoardSnapshotServiceTest {
+
+    @InjectMocks
+    private BoardSnapshotService boardSnapshotService;
+
+    @Mock
+    private BoardSnapshotRepository snapshotRepository;
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+    @Spy
+    private PermissionService permissionService;
+    @Mock
+    private MembershipCache membershipCache;
+
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(permissionService, "membershipCache", membershipCache);
+        ReflectionTestUtils.setField(boardSnapshotService, "maxRangeDays", 731);
+
+        member = new User();
+        member.setId(1L);
+        member.setRole("USER");
+        when(membershipCache.isMember(1L, 100L)).thenReturn(true);
+    }
+
+    @Test
+    void testGetCfd_pivotsDailyRowsPerDate() {
+        LocalDate day1 = LocalDate.of(2025, 3, 1);
+        LocalDate day2 = day1.plusDays(1);
+        when(snapshotRepository.findDaily(100L, day1.atStartOfDay(), day2.atStartOfDay())).thenReturn(List.of(
+                snapshot(day1, "TO_DO", 4, 1),
+                snapshot(day1, "DONE", 2, 0),
+                snapshot(day2, "TO_DO", 3, 1),
+                snapshot(day2, "IN_PROGRESS", 1, 1)));
+
+        ResponseEntity<?> response = boardSnapshotService.getCfd(100L, day1, day2, member);
+
+        assertEquals(200, response.getStatusCode().value());
+        @SuppressWarnings("unchecked")
+        List<CfdPointDTO> points = (List<CfdPointDTO>) response.getBody();
+        assertEquals(2, points.size());
+        assertEquals(day1, points.get(0).getDate());
+        assertEquals(4, points.get(0).getTodoCount());
+        assertEquals(2, points.get(0).getDoneCount());
+        assertEquals(1, points.get(0).getLateCount());
+        assertEquals(1, points.get(1).getInProgressCount());
+        assertEquals(2, points.get(1).getLateCount());
+    }
+
+    @Test
+    void testGetCfd_rejectsInvertedRangeAndNonMembers() {
+        LocalDate day = LocalDate.of(2025, 3, 1);
+
+        assertEquals(400, boardSnapshotService.getCfd(100L, day, day.minusDays(1), member).getStatusCode().value());
+
+        User outsider = new User();
+        outsider.setId(2L);
+        outsider.setRole("USER");
+        assertEquals(403, boardSnapshotService.getCfd(100L, day, day, outsider).getStatusCode().value());
+
+        verify(snapshotRepository, never()).findDaily(any(), any(), any());
+    }
+
+    private BoardSnapshot snapshot(LocalDate day, String status, long count, long overdue) {
+        BoardSnapshot s = new BoardSnapshot();
+        s.setId(new BoardSnapshotId(100L, BoardSnapshot.DAY, day.atStartOfDay(), status));
+        s.setTaskCount(count);
+        s.setOverdueCount(overdue);
+        return s;
+    }
+}
@@ -0,0 +1,133 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.repository.ProjectMemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DashboardCacheTest {
+
+    private final DashboardCache cache = new DashboardCache(100, Duration.ofMinutes(1));
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        ProjectMemberRepository projectMemberRepository = mock(ProjectMemberRepository.class);
+        when(projectMemberRepository.findUserIdsByProjectIdAndRole(anyLong(), anyString())).thenReturn(List.of());
+        ReflectionTestUtils.setField(cache, "projectMemberRepository", projectMemberRepository);
+        cache.bindTo(registry);
+    }
+
+    @Test
+    void concurrentMisses_computeOnlyOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.get(DashboardCache.USER_VIEW, 1L, false, () -> {
+                    loads.incrementAndGet();
+                    sleep(200); // calcul lent, ca toate cererile să se suprapună
+                    return "dashboard";
+                });
+            }));
+        }
+        start.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("dashboard", result.get());
+        }
+        executor.shutdown();
+
+        assertEquals(1, loads.get());
+        assertEquals(15, coalescedLoads());
+    }
+
+    @Test
+    void adminsShareOneEntry() {
+        cache.get(DashboardCache.USER_VIEW, 1L, true, () -> "global");
+
+        // alt admin primește aceeași intrare, fără recalculare
+        String value = cache.get(DashboardCache.USER_VIEW, 2L, true, () -> fail("nu trebuia recalculat"));
+
+        assertEquals("global", value);
+        assertEquals(1, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void loaderError_releasesWaiters() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> loader = executor.submit(() -> cache.get(DashboardCache.USER_VIEW, 1L, false, () -> {
+                loading.countDown();
+                await(release);
+                throw new StackOverflowError();
+            }));
+            loading.await();
+            Future<Object> waiter = executor.submit(() -> cache.get(DashboardCache.USER_VIEW, 1L, false, () -> "alt calcul"));
+            while (coalescedLoads() == 0) Thread.sleep(5);
+            release.countDown();
+
+            assertInstanceOf(StackOverflowError.class, assertThrows(Exception.class, () -> loader.get(5, TimeUnit.SECONDS)).getCause());
+            assertInstanceOf(StackOverflowError.class, assertThrows(Exception.class, () -> waiter.get(5, TimeUnit.SECONDS)).getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void invalidation_onlyDropsLoadsOfTheSameKey() {
+        // Invalidarea altei chei în timpul calculului nu împiedică salvarea în cache
+        cache.get(DashboardCache.USER_VIEW, 1L, false, () -> {
+            cache.evictForMembership(10L, List.of(2L));
+            return "v1";
+        });
+        assertEquals("v1", cache.get(DashboardCache.USER_VIEW, 1L, false, () -> "recalculat"));
+
+        // Invalidarea aceleiași chei: valoarea calculată din datele vechi nu rămâne în cache
+        cache.get(DashboardCache.USER_VIEW, 3L, false, () -> {
+            cache.evictForMembership(10L, List.of(3L));
+            return "vechi";
+        });
+        assertEquals("nou", cache.get(DashboardCache.USER_VIEW, 3L, false, () -> "nou"));
+    }
+
+    private double coalescedLoads() {
+        return registry.get("cache.coalesced.loads").functionCounter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.dto.FlowMetricsDTO;
+import com.sgsm.backend.dto.FlowStatsDTO;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.ProjectMemberRepository;
+import com.sgsm.backend.repository.TaskFlowRow;
+import com.sgsm.backend.repository.TaskTransitionRepository;
+import com.sgsm.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class FlowMetricsServiceTest {
+
+    @InjectMocks
+    private FlowMetricsService flowMetricsService;
+
+    @Mock
+    private TaskTransitionRepository transitionRepository;
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Spy
+    private PermissionService permissionService;
+    @Mock
+    private MembershipCache membershipCache;
+
+    private final LocalDate day = LocalDate.of(2025, 3, 10);
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(permissionService, "membershipCache", membershipCache);
+        ReflectionTestUtils.setField(flowMetricsService, "maxRangeDays", 366);
+
+        admin = new User();
+        admin.setId(1L);
+        admin.setRole("ADMIN");
+    }
+
+    @Test
+    void testGetFlowMetrics_percentilesPerProjectAndAssignee() {
+        // 20 taskuri finalizate în aceeași zi: cycle time 1..20 ore, lead time dublu
+        List<TaskFlowRow> rows = new ArrayList<>();
+        LocalDateTime doneAt = day.atTime(23, 0);
+        for (int i = 1; i <= 20; i++) {
+            rows.add(row((long) i, i <= 15 ? 7L : 8L, doneAt.minusHours(2L * i), doneAt.minusHours(i), doneAt));
+        }
+        when(transitionRepository.streamCompletedInRange(eq(100L), any(), any())).thenReturn(rows.stream());
+
+        FlowMetricsDTO metrics = (FlowMetricsDTO) flowMetricsService.getFlowMetrics(100L, day, day, admin).getBody();
+
+        FlowStatsDTO project = metrics.getProject();
+        assertEquals(20, project.getCompleted());
+        assertEquals(10.0, project.getCycleTimeHours().getP50());
+        assertEquals(17.0, project.getCycleTimeHours().getP85());
+        assertEquals(19.0, project.getCycleTimeHours().getP95());
+        assertEquals(20.0, project.getLeadTimeHours().getP50());
+        assertEquals(20.0, project.getThroughputPerDay().getP50());
+
+        assertEquals(2, metrics.getAssignees().size());
+        assertEquals(7L, metrics.getAssignees().get(0).getAssigneeId());
+        assertEquals(15, metrics.getAssignees().get(0).getCompleted());
+    }
+
+    @Test
+    void testGetFlowMetrics_forbiddenForNonMembers() {
+        User outsider = new User();
+        outsider.setId(2L);
+        outsider.setRole("USER");
+
+        assertEquals(403, flowMetricsService.getFlowMetrics(100L, day, day, outsider).getStatusCode().value());
+        verifyNoInteractions(transitionRepository);
+    }
+
+    private TaskFlowRow row(Long taskId, Long assigneeId, LocalDateTime created, LocalDateTime started, LocalDateTime done) {
+        TaskFlowRow row = mock(TaskFlowRow.class);
+        when(row.getTaskId()).thenReturn(taskId);
+        when(row.getAssigneeId()).thenReturn(assigneeId);
+        when(row.getCreatedAt()).thenReturn(created);
+        when(row.getStartedAt()).thenReturn(started);
+        when(row.getDoneAt()).thenReturn(done);
+        return row;
+    }
+}
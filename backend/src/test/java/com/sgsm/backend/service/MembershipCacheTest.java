@@ -0,0 +1,59 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.repository.MembershipRole;
+import com.sgsm.backend.repository.ProjectMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MembershipCacheTest {
+
+    private ProjectMemberRepository projectMemberRepository;
+    private MembershipCache membershipCache;
+
+    @BeforeEach
+    void setUp() {
+        projectMemberRepository = mock(ProjectMemberRepository.class);
+        membershipCache = new MembershipCache(projectMemberRepository, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void rolesAreLoadedOncePerUser() {
+        when(projectMemberRepository.findRolesByUserId(1L))
+                .thenReturn(List.of(role(100L, "MANAGER"), role(200L, "MEMBER")));
+
+        assertEquals(Optional.of("MANAGER"), membershipCache.roleOf(1L, 100L));
+        assertTrue(membershipCache.isMember(1L, 200L));
+        assertFalse(membershipCache.isMember(1L, 300L));
+
+        verify(projectMemberRepository, times(1)).findRolesByUserId(1L);
+    }
+
+    @Test
+    void evictReloadsChangedMembership() {
+        when(projectMemberRepository.findRolesByUserId(1L))
+                .thenReturn(List.of(role(100L, "MEMBER")))
+                .thenReturn(List.of());
+
+        assertTrue(membershipCache.isMember(1L, 100L));
+
+        // Fără tranzacție activă invalidarea e imediată
+        membershipCache.evictAfterCommit(List.of(1L));
+
+        assertFalse(membershipCache.isMember(1L, 100L));
+        verify(projectMemberRepository, times(2)).findRolesByUserId(1L);
+    }
+
+    private static MembershipRole role(Long projectId, String role) {
+        return new MembershipRole() {
+            @Override public Long getProjectId() { return projectId; }
+            @Override public String getRole() { return role; }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.dto.ProjectDTO;
+import com.sgsm.backend.model.Project;
+import com.sgsm.backend.model.Task;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.OverdueCandidate;
+import com.sgsm.backend.repository.TaskRepository;
+import com.sgsm.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Query-ul sweeper-ului pe o bază reală: ce marchează și ce nu mai recitește la rularea următoare
+@SpringBootTest
+@ActiveProfiles("h2")
+class OverdueSweepQueryTest {
+
+    @Autowired private TaskOverdueService taskOverdueService;
+    @Autowired private ProjectService projectService;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @Test
+    void sweep_marksPendingTasksOnceIncludingThoseWithoutStatus() {
+        String suffix = String.valueOf(System.nanoTime());
+        User manager = userRepository.save(new User(null, "sweep" + suffix, "sweep" + suffix + "@test", "hash", "USER"));
+        ProjectDTO dto = new ProjectDTO();
+        dto.setTitle("Sweep " + suffix);
+        dto.setDescription("d");
+        dto.setMemberIds(List.of());
+        Project project = (Project) projectService.createProject(dto, manager).getBody();
+
+        LocalDateTime now = LocalDateTime.now();
+        Task late = task(project, "TO_DO", now.minusDays(1), false);
+        Task withoutStatus = task(project, null, now.minusDays(2), false);
+        Task done = task(project, "DONE", now.minusDays(3), false);
+        Task alreadyLate = task(project, "IN_PROGRESS", now.minusDays(4), true);
+        Task future = task(project, "TO_DO", now.plusDays(1), false);
+
+        TaskOverdueService.Cursor cursor = TaskOverdueService.Cursor.START;
+        while (cursor != null) {
+            cursor = taskOverdueService.markBatch(now, cursor, 100).next();
+        }
+
+        assertTrue(taskRepository.findById(late.getId()).orElseThrow().isOverdue());
+        assertTrue(taskRepository.findById(withoutStatus.getId()).orElseThrow().isOverdue());
+        assertFalse(taskRepository.findById(done.getId()).orElseThrow().isOverdue());
+        assertFalse(taskRepository.findById(future.getId()).orElseThrow().isOverdue());
+
+        // Rularea următoare nu mai găsește niciun task al proiectului
+        List<Long> ids = List.of(late.getId(), withoutStatus.getId(), done.getId(), alreadyLate.getId(), future.getId());
+        List<OverdueCandidate> again = transactionTemplate.execute(status -> taskRepository.lockNewlyOverdue(
+                now, TaskOverdueService.Cursor.START.deadline(), TaskOverdueService.Cursor.START.id(), 10_000));
+        assertTrue(again.stream().noneMatch(c -> ids.contains(c.getId())));
+    }
+
+    private Task task(Project project, String status, LocalDateTime deadline, boolean overdue) {
+        Task task = new Task(null, "T", "d", status, deadline, "tag", project, null);
+        task.setOverdue(overdue);
+        return taskRepository.save(task);
+    }
+}
@@ -0,0 +1,90 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.dto.CommentFeedDTO;
+import com.sgsm.backend.dto.ProjectCommentDTO;
+import com.sgsm.backend.dto.ProjectCommentRequestDTO;
+import com.sgsm.backend.dto.ProjectDTO;
+import com.sgsm.backend.model.Project;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class ProjectCommentFeedTest {
+
+    @Autowired private ProjectCommentService commentService;
+    @Autowired private ProjectService projectService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void pagesUnpinnedCommentsAndServesPinnedFromCache() {
+        String suffix = String.valueOf(System.nanoTime());
+        User manager = userRepository.save(new User(null, "feed-mgr" + suffix, "fm" + suffix + "@test", "hash", "USER"));
+        List<User> authors = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            authors.add(userRepository.save(new User(null, "feed-a" + i + suffix, "fa" + i + suffix + "@test", "hash", "USER")));
+        }
+
+        ProjectDTO dto = new ProjectDTO();
+        dto.setTitle("Feed " + suffix);
+        dto.setDescription("d");
+        dto.setMemberIds(authors.stream().map(User::getId).toList());
+        Long projectId = ((Project) projectService.createProject(dto, manager).getBody()).getId();
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ProjectCommentRequestDTO comment = new ProjectCommentRequestDTO();
+            comment.setContent("c" + i);
+            ids.add(((ProjectCommentDTO) commentService.addComment(projectId, comment, authors.get(i % 4)).getBody()).getId());
+        }
+        commentService.togglePin(projectId, ids.get(0), manager);
+        commentService.togglePin(projectId, ids.get(5), manager);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        CommentFeedDTO first = feed(projectId, null);
+        assertEquals(List.of("c5", "c0"), first.getPinned().stream().map(ProjectCommentDTO::getContent).toList());
+        assertEquals(List.of("c7", "c6", "c4"), first.getItems().stream().map(ProjectCommentDTO::getContent).toList());
+        // Pagina și lista pinned: câte un query, autorii veniți prin JOIN
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityFetchCount());
+
+        CommentFeedDTO second = feed(projectId, first.getNextCursor());
+        assertNull(second.getPinned());
+        assertEquals(List.of("c3", "c2", "c1"), second.getItems().stream().map(ProjectCommentDTO::getContent).toList());
+        assertNull(second.getNextCursor());
+
+        statistics.clear();
+        feed(projectId, null);
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        // Unpin invalidează cache-ul proiectului
+        commentService.togglePin(projectId, ids.get(5), manager);
+        assertEquals(List.of("c0"), feed(projectId, null).getPinned().stream().map(ProjectCommentDTO::getContent).toList());
+    }
+
+    @Test
+    void rejectsTamperedCursor() {
+        assertEquals(400, commentService.getCommentFeed(1L, 10, "xyz").getStatusCode().value());
+    }
+
+    private CommentFeedDTO feed(Long projectId, String cursor) {
+        ResponseEntity<?> response = commentService.getCommentFeed(projectId, 3, cursor);
+        assertEquals(200, response.getStatusCode().value());
+        return (CommentFeedDTO) response.getBody();
+    }
+}
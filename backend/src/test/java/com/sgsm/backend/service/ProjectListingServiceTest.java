@@ -0,0 +1,94 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.dto.CursorPageDTO;
+import com.sgsm.backend.dto.ProjectDTO;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.ProjectListRow;
+import com.sgsm.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class ProjectListingServiceTest {
+
+    @Autowired private ProjectListingService listingService;
+    @Autowired private ProjectService projectService;
+    @Autowired private UserRepository userRepository;
+
+    @Test
+    void pagesByTitleWithoutGapsOrDuplicates() {
+        String suffix = String.valueOf(System.nanoTime());
+        User manager = userRepository.save(new User(null, "list-mgr" + suffix, "lm" + suffix + "@test", "hash", "USER"));
+        List<String> titles = List.of("delta", "Alpha", "charlie", "Bravo", "echo", "alpha", "foxtrot");
+        for (String title : titles) {
+            create(manager, title);
+        }
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageDTO<String> page = page(manager, 3, cursor, "title", null, pages == 0);
+            if (pages == 0) {
+                assertEquals(7L, page.getTotal());
+                assertTrue(page.getTotalExact());
+            }
+            seen.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(List.of("Alpha", "alpha", "Bravo", "charlie", "delta", "echo", "foxtrot"), seen);
+    }
+
+    @Test
+    void prefixSearchIsCaseInsensitiveAndEscapesWildcards() {
+        String suffix = String.valueOf(System.nanoTime());
+        User manager = userRepository.save(new User(null, "list-q" + suffix, "lq" + suffix + "@test", "hash", "USER"));
+        create(manager, "Raport_" + suffix);
+        create(manager, "raportX" + suffix);
+        create(manager, "Altceva " + suffix);
+
+        assertEquals(List.of("Raport_" + suffix, "raportX" + suffix),
+                page(manager, 10, null, "title", "RAPORT", false).getItems());
+        assertEquals(List.of("Raport_" + suffix), page(manager, 10, null, "title", "raport_", false).getItems());
+
+        List<String> newest = page(manager, 10, null, "createdAt", null, false).getItems();
+        assertEquals("Altceva " + suffix, newest.get(0));
+    }
+
+    @Test
+    void rejectsTamperedCursorAndUnknownSort() {
+        User manager = userRepository.save(new User(null, "list-bad" + System.nanoTime(), "lb" + System.nanoTime() + "@test", "hash", "USER"));
+
+        assertEquals(400, listingService.page(manager, false, 10, "nu-e-cursor", "title", null, false, ProjectListRow::getTitle)
+                .getStatusCode().value());
+        assertEquals(400, listingService.page(manager, false, 10, null, "rank", null, false, ProjectListRow::getTitle)
+                .getStatusCode().value());
+    }
+
+    private void create(User manager, String title) {
+        ProjectDTO dto = new ProjectDTO();
+        dto.setTitle(title);
+        dto.setDescription("d");
+        dto.setMemberIds(List.of());
+        projectService.createProject(dto, manager);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CursorPageDTO<String> page(User user, int limit, String cursor, String sort, String q, boolean total) {
+        ResponseEntity<?> response = listingService.page(user, false, limit, cursor, sort, q, total, ProjectListRow::getTitle);
+        assertEquals(200, response.getStatusCode().value());
+        return (CursorPageDTO<String>) response.getBody();
+    }
+}
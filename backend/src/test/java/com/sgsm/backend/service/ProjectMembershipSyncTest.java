@@ -0,0 +1,109 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.model.Project;
+import com.sgsm.backend.model.ProjectMember;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.ProjectMemberRepository;
+import com.sgsm.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ProjectMembershipSyncTest {
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private DashboardCache dashboardCache;
+    @Mock
+    private MembershipCache membershipCache;
+    @InjectMocks
+    private ProjectMembershipSync membershipSync;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        project = new Project("P", "d");
+        project.setId(10L);
+        when(userRepository.getReferenceById(anyLong())).thenAnswer(invocation -> user(invocation.getArgument(0)));
+        when(userRepository.findAllById(any())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            List<User> users = new ArrayList<>();
+            ids.forEach(id -> users.add(user(id)));
+            return users;
+        });
+    }
+
+    @Test
+    void sync_largeProject_usesOneQueryPerStepRegardlessOfSize() {
+        // 600 membri existenți (1..600), lista nouă păstrează 301..600 și adaugă 601..900
+        when(projectMemberRepository.findUserIdsByProjectId(10L))
+                .thenReturn(LongStream.rangeClosed(1, 600).boxed().toList());
+        List<Long> wanted = LongStream.rangeClosed(301, 900).boxed().toList();
+
+        Set<Long> changed = membershipSync.sync(project, wanted, 1L);
+
+        ArgumentCaptor<Collection<Long>> removed = ArgumentCaptor.forClass(Collection.class);
+        verify(projectMemberRepository, times(1)).deleteByProjectIdAndUserIdIn(eq(10L), removed.capture());
+        assertEquals(LongStream.rangeClosed(2, 300).boxed().collect(Collectors.toSet()), new HashSet<>(removed.getValue()));
+
+        ArgumentCaptor<Iterable<ProjectMember>> added = ArgumentCaptor.forClass(Iterable.class);
+        verify(userRepository, times(1)).findAllById(any());
+        verify(projectMemberRepository, times(1)).saveAll(added.capture());
+        Set<Long> addedIds = new HashSet<>();
+        added.getValue().forEach(pm -> addedIds.add(pm.getUser().getId()));
+        assertEquals(LongStream.rangeClosed(601, 900).boxed().collect(Collectors.toSet()), addedIds);
+
+        verify(projectMemberRepository, never()).save(any());
+        verify(projectMemberRepository, never()).delete(any());
+        verify(userRepository, never()).findById(any());
+        assertEquals(599, changed.size());
+        verify(membershipCache).evictAfterCommit(changed);
+    }
+
+    @Test
+    void sync_unchangedMembers_writesNothing() {
+        when(projectMemberRepository.findUserIdsByProjectId(10L)).thenReturn(List.of(1L, 2L, 3L));
+
+        assertTrue(membershipSync.sync(project, List.of(2L, 3L), 1L).isEmpty());
+
+        verify(projectMemberRepository, never()).deleteByProjectIdAndUserIdIn(any(), any());
+        verify(projectMemberRepository, never()).saveAll(any());
+        verifyNoInteractions(userRepository, dashboardCache, membershipCache);
+    }
+
+    @Test
+    void initialize_addsCreatorAsManagerAndMembersInOneBatch() {
+        User creator = user(1L);
+
+        membershipSync.initialize(project, creator, Arrays.asList(1L, 2L, null, 3L));
+
+        ArgumentCaptor<Iterable<ProjectMember>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(projectMemberRepository).saveAll(saved.capture());
+        Map<Long, String> roles = new HashMap<>();
+        saved.getValue().forEach(pm -> roles.put(pm.getUser().getId(), pm.getRole()));
+        assertEquals(Map.of(1L, "MANAGER", 2L, "MEMBER", 3L, "MEMBER"), roles);
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        return user;
+    }
+}
@@ -0,0 +1,132 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.dto.ProjectCommentRequestDTO;
+import com.sgsm.backend.dto.ProjectDTO;
+import com.sgsm.backend.model.Project;
+import com.sgsm.backend.model.Task;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.ProjectRepository;
+import com.sgsm.backend.repository.TaskRepository;
+import com.sgsm.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+class ProjectPurgerTest {
+
+    @Autowired private ProjectService projectService;
+    @Autowired private ProjectCommentService commentService;
+    @Autowired private ProjectPurger projectPurger;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TaskCounterService taskCounterService;
+    @Autowired private TaskService taskService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void restoreChunkSize() {
+        setChunkSize(5000);
+    }
+
+    @Test
+    void deleteProject_hidesImmediatelyThenPurgesInChunks() throws InterruptedException {
+        setChunkSize(7);
+
+        String suffix = String.valueOf(System.nanoTime());
+        User manager = userRepository.save(new User(null, "purge-mgr" + suffix, "pm" + suffix + "@test", "hash", "USER"));
+        User member = userRepository.save(new User(null, "purge-mem" + suffix, "pu" + suffix + "@test", "hash", "USER"));
+
+        ProjectDTO dto = new ProjectDTO();
+        dto.setTitle("De șters " + suffix);
+        dto.setDescription("d");
+        dto.setMemberIds(List.of(member.getId()));
+        Project project = (Project) projectService.createProject(dto, manager).getBody();
+        Long projectId = project.getId();
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            tasks.add(new Task(null, "T" + i, "d", "TO_DO", null, "tag", project, member));
+        }
+        taskRepository.saveAll(tasks);
+        taskCounterService.add(projectId, "TO_DO", 30, 0);
+        ProjectCommentRequestDTO comment = new ProjectCommentRequestDTO();
+        comment.setContent("comentariu");
+        commentService.addComment(projectId, comment, manager);
+
+        ResponseEntity<?> response = projectService.deleteProject(projectId, manager);
+        assertEquals(202, response.getStatusCode().value());
+
+        // Ascuns imediat, înainte de eliminarea rândurilor
+        assertTrue(projectRepository.findById(projectId).isEmpty());
+        assertTrue(projectService.getProjectsForUser(member).stream().noneMatch(p -> p.getId().equals(projectId)));
+        assertTrue(taskRepository.findDtosByAssignedToId(member.getId()).isEmpty());
+        assertEquals(0, taskCounterService.count(projectId, "TO_DO"));
+
+        Map<String, Object> status = waitForPurge(projectId, manager);
+        assertEquals(ProjectPurger.Status.DONE, status.get("status"));
+        assertEquals(30L, ((Map<?, ?>) status.get("deletedRows")).get("tasks"));
+
+        for (String table : List.of("tasks", "project_comment", "project_members", "project_task_counters")) {
+            assertEquals(0, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + table + " WHERE project_id = ?", Integer.class, projectId), table);
+        }
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM projects WHERE id = ?", Integer.class, projectId));
+
+        // Fostul membru nu vede starea ștergerii
+        assertEquals(403, projectService.getDeletionStatus(projectId, member).getStatusCode().value());
+    }
+
+    @Test
+    void deletedProject_boardHiddenFromAdminsBeforePurge() {
+        String suffix = String.valueOf(System.nanoTime());
+        User manager = userRepository.save(new User(null, "hidden-mgr" + suffix, "hm" + suffix + "@test", "hash", "USER"));
+        User admin = userRepository.save(new User(null, "hidden-adm" + suffix, "ha" + suffix + "@test", "hash", "ADMIN"));
+
+        ProjectDTO dto = new ProjectDTO();
+        dto.setTitle("Ascuns " + suffix);
+        dto.setDescription("d");
+        dto.setMemberIds(List.of());
+        Project project = (Project) projectService.createProject(dto, manager).getBody();
+        taskRepository.save(new Task(null, "T", "d", "TO_DO", null, "tag", project, manager));
+        assertEquals(1, ((List<?>) taskService.getTasks(project.getId(), admin).getBody()).size());
+
+        // Marcat ca șters, cu rândurile încă neeliminate de purjare
+        jdbcTemplate.update("UPDATE projects SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?", project.getId());
+
+        assertEquals(List.of(), taskService.getTasks(project.getId(), admin).getBody());
+    }
+
+    // Bean-ul e un proxy (@Async), câmpul trebuie setat pe obiectul țintă
+    private void setChunkSize(int chunkSize) {
+        ProjectPurger target = AopTestUtils.getTargetObject(projectPurger);
+        ReflectionTestUtils.setField(target, "chunkSize", chunkSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> waitForPurge(Long projectId, User user) throws InterruptedException {
+        Map<String, Object> status = Map.of();
+        for (int i = 0; i < 100; i++) {
+            ResponseEntity<?> response = projectService.getDeletionStatus(projectId, user);
+            assertEquals(200, response.getStatusCode().value());
+            status = (Map<String, Object>) response.getBody();
+            if (status.get("status") == ProjectPurger.Status.DONE) break;
+            Thread.sleep(100);
+        }
+        return status;
+    }
+}
@@ -2,11 +2,9 @@ package com.sgsm.backend.service;
 
 import com.sgsm.backend.dto.ProjectDTO;
 import com.sgsm.backend.model.Project;
-import com.sgsm.backend.model.ProjectMember;
 import com.sgsm.backend.model.User;
 import com.sgsm.backend.repository.ProjectMemberRepository;
 import com.sgsm.backend.repository.ProjectRepository;
-import com.sgsm.backend.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -27,7 +25,15 @@ class ProjectServiceTest {
     @Mock
     private ProjectMemberRepository projectMemberRepository;
     @Mock
-    private UserRepository userRepository;
+    private ProjectMembershipSync projectMembershipSync;
+    @Mock
+    private TaskCounterService taskCounterService;
+    @Mock
+    private DashboardCache dashboardCache;
+    @Spy
+    private PermissionService permissionService;
+    @Mock
+    private MembershipCache membershipCache;
 
     @BeforeEach
     void setUp() {
@@ -49,12 +55,7 @@ class ProjectServiceTest {
         Project savedProject = new Project("Test Project", "Description");
         savedProject.setId(100L);
 
-        User otherUser = new User();
-        otherUser.setId(2L);
-        otherUser.setUsername("member");
-
         when(projectRepository.save(any(Project.class))).thenReturn(savedProject);
-        when(userRepository.findById(2L)).thenReturn(java.util.Optional.of(otherUser));
 
         // Act
         ResponseEntity<?> response = projectService.createProject(dto, manager);
@@ -62,6 +63,7 @@ class ProjectServiceTest {
         // Assert
         assertEquals(200, response.getStatusCodeValue());
         verify(projectRepository, times(1)).save(any(Project.class));
-        verify(projectMemberRepository, times(2)).save(any(ProjectMember.class)); // manager + member
+        verify(projectMembershipSync).initialize(savedProject, manager, List.of(2L)); // manager + member, într-un batch
+        verify(taskCounterService).initProject(100L);
     }
 }
@@ -0,0 +1,93 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.dto.AuthResponse;
+import com.sgsm.backend.model.RefreshToken;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.RefreshTokenRepository;
+import com.sgsm.backend.repository.UserRepository;
+import com.sgsm.backend.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private JwtUtil jwtUtil;
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        user = new User(7L, "john", "john@mail.com", "hash", "USER");
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void issue_storesOnlyDigest() {
+        String raw = refreshTokenService.issue(user);
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals(JwtUtil.digest(raw), saved.getValue().getTokenHash());
+        assertNotEquals(raw, saved.getValue().getTokenHash());
+        assertEquals(7L, saved.getValue().getUserId());
+    }
+
+    @Test
+    void refresh_validToken_rotatesAndIssuesNewPair() {
+        RefreshToken stored = new RefreshToken("h", 7L, 0, LocalDateTime.now().plusDays(1));
+        when(refreshTokenRepository.findByTokenHashForUpdate(JwtUtil.digest("raw"))).thenReturn(Optional.of(stored));
+        when(jwtUtil.generateToken("john", "USER", 0L)).thenReturn("new.access.token");
+
+        ResponseEntity<?> response = refreshTokenService.refresh("raw");
+
+        assertEquals(200, response.getStatusCode().value());
+        AuthResponse body = (AuthResponse) response.getBody();
+        assertEquals("new.access.token", body.getToken());
+        assertNotNull(body.getRefreshToken());
+        assertNotNull(stored.getRevokedAt());
+    }
+
+    @Test
+    void refresh_reusedToken_revokesAllSessions() {
+        RefreshToken stored = new RefreshToken("h", 7L, 0, LocalDateTime.now().plusDays(1));
+        stored.setRevokedAt(LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenRepository.findByTokenHashForUpdate(any())).thenReturn(Optional.of(stored));
+
+        ResponseEntity<?> response = refreshTokenService.refresh("raw");
+
+        assertEquals(401, response.getStatusCode().value());
+        verify(refreshTokenRepository).revokeAllForUser(eq(7L), any());
+        verifyNoInteractions(jwtUtil);
+    }
+
+    @Test
+    void refresh_afterPasswordChange_returns401() {
+        user.setCredentialsVersion(1);
+        RefreshToken stored = new RefreshToken("h", 7L, 0, LocalDateTime.now().plusDays(1));
+        when(refreshTokenRepository.findByTokenHashForUpdate(any())).thenReturn(Optional.of(stored));
+
+        assertEquals(401, refreshTokenService.refresh("raw").getStatusCode().value());
+        verifyNoInteractions(jwtUtil);
+    }
+}
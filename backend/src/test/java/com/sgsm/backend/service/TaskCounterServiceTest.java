@@ -0,0 +1,134 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.dto.ProjectDTO;
+import com.sgsm.backend.model.Project;
+import com.sgsm.backend.model.ProjectTaskCounterId;
+import com.sgsm.backend.model.Task;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.ProjectTaskCounterRepository;
+import com.sgsm.backend.repository.TaskRepository;
+import com.sgsm.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Rândurile de contor lipsă: reconstruirea le creează pe toate, iar writerii concurenți (și nodurile pornite
+// simultan) nu se ciocnesc
+@SpringBootTest
+@ActiveProfiles("h2")
+class TaskCounterServiceTest {
+
+    @Autowired private TaskCounterService taskCounterService;
+    @Autowired private ProjectService projectService;
+    @Autowired private ProjectTaskCounterRepository counterRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+
+    private Project project;
+    private User manager;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        manager = userRepository.save(new User(null, "counter" + suffix, "counter" + suffix + "@test", "hash", "USER"));
+        ProjectDTO dto = new ProjectDTO();
+        dto.setTitle("Contoare " + suffix);
+        dto.setDescription("d");
+        dto.setMemberIds(List.of());
+        project = (Project) projectService.createProject(dto, manager).getBody();
+    }
+
+    @Test
+    void rebuild_seedsEveryStatusOfEveryProject() {
+        taskRepository.save(new Task(null, "T", "d", "TO_DO", null, "tag", project, manager));
+
+        taskCounterService.rebuild();
+
+        assertEquals(1, taskCounterService.count(project.getId(), "TO_DO"));
+        for (String status : TaskCounterService.BOARD_STATUSES) {
+            assertTrue(counterRepository.existsById(new ProjectTaskCounterId(project.getId(), status)), status);
+        }
+    }
+
+    @Test
+    void rebuild_overwritesDriftedCounts() {
+        taskRepository.save(new Task(null, "T", "d", "DONE", null, "tag", project, manager));
+        taskCounterService.add(project.getId(), "DONE", 5, 2);
+
+        taskCounterService.rebuild();
+
+        assertEquals(1, taskCounterService.count(project.getId(), "DONE"));
+    }
+
+    @Test
+    void rebuildIfEmpty_nodesStartingTogetherBothSucceed() throws Exception {
+        taskRepository.save(new Task(null, "T", "d", "TO_DO", null, "tag", project, manager));
+        counterRepository.deleteAllInBatch();
+
+        int nodes = 2;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(nodes);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < nodes; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    taskCounterService.rebuildIfEmpty();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) result.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, taskCounterService.count(project.getId(), "TO_DO"));
+        assertTrue(counterRepository.existsById(new ProjectTaskCounterId(project.getId(), "DONE")));
+    }
+
+    @Test
+    void add_concurrentFirstWritersToMissingRow() throws Exception {
+        counterRepository.deleteById(new ProjectTaskCounterId(project.getId(), "IN_PROGRESS"));
+
+        int writers = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    taskCounterService.add(project.getId(), "IN_PROGRESS", 1, 0);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) result.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(writers, taskCounterService.count(project.getId(), "IN_PROGRESS"));
+    }
+
+    @Test
+    void countForUpdate_createsMissingRowToLock() {
+        ProjectTaskCounterId id = new ProjectTaskCounterId(project.getId(), "DONE");
+        counterRepository.deleteById(id);
+
+        assertEquals(0, taskCounterService.countForUpdate(project.getId(), "DONE"));
+        assertTrue(counterRepository.existsById(id));
+    }
+}
@@ -0,0 +1,208 @@
+package com.sgsm.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sgsm.backend.dto.TaskImportResultDTO;
+import com.sgsm.backend.model.ProjectMember;
+import com.sgsm.backend.model.TaskTransition;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.ImportedTask;
+import com.sgsm.backend.repository.MemberRef;
+import com.sgsm.backend.repository.ProjectMemberRepository;
+import com.sgsm.backend.repository.ProjectRepository;
+import com.sgsm.backend.repository.TaskRepository;
+import com.sgsm.backend.repository.TaskTransitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TaskImportServiceTest {
+
+    @InjectMocks
+    private TaskImportService taskImportService;
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private TaskTransitionRepository taskTransitionRepository;
+    @Mock
+    private TaskCounterService taskCounterService;
+    @Mock
+    private TaskBulkLoader taskBulkLoader;
+    @Mock
+    private DashboardCache dashboardCache;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+    @Spy
+    private PermissionService permissionService;
+    @Mock
+    private MembershipCache membershipCache;
+
+    @Captor
+    private ArgumentCaptor<List<TaskBulkLoader.Row>> rowsCaptor;
+    @Captor
+    private ArgumentCaptor<List<TaskTransition>> transitionsCaptor;
+
+    private User manager;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(permissionService, "membershipCache", membershipCache);
+        ReflectionTestUtils.setField(taskImportService, "chunkSize", 2);
+        ReflectionTestUtils.setField(taskImportService, "maxReportedErrors", 1000);
+
+        manager = new User();
+        manager.setId(1L);
+        manager.setRole("USER");
+
+        ProjectMember membership = new ProjectMember();
+        membership.setRole("MANAGER");
+        when(projectRepository.existsById(100L)).thenReturn(true);
+        when(membershipCache.roleOf(1L, 100L)).thenReturn(Optional.of(membership.getRole()));
+        when(projectMemberRepository.findMemberRefsByProjectId(100L)).thenReturn(List.of(member(2L, "ana")));
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    void importCsv_loadsValidRowsInChunksAndReportsInvalidLines() {
+        String csv = "title,status,deadline,assignee,description\n"
+                + "Primul,TO_DO,2099-01-01,ana,\"descriere\npe doua linii\"\n"
+                + ",TO_DO,,,\n"
+                + "Al doilea,DONE,2000-01-01T10:00,,\n"
+                + "Al treilea,BLOCKED,,,\n"
+                + "Al patrulea,,,necunoscut,\n";
+
+        ResponseEntity<?> response = importCsv(csv);
+
+        assertEquals(200, response.getStatusCode().value());
+        TaskImportResultDTO result = (TaskImportResultDTO) response.getBody();
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(4, 6, 7), result.getErrors().stream().map(TaskImportResultDTO.RowError::getLine).toList());
+
+        // Fiecare lot e trimis separat la încărcare, iar contoarele primesc delta per status
+        verify(taskBulkLoader, times(3)).load(rowsCaptor.capture());
+        List<TaskBulkLoader.Row> loaded = rowsCaptor.getAllValues().stream().flatMap(List::stream).toList();
+        assertEquals(List.of("Primul", "Al doilea"), loaded.stream().map(TaskBulkLoader.Row::title).toList());
+        assertEquals(2L, loaded.get(0).assigneeId());
+        assertEquals("descriere\npe doua linii", loaded.get(0).description());
+        assertFalse(loaded.get(1).overdue());
+        verify(taskCounterService).add(100L, "TO_DO", 1, 0);
+        verify(taskCounterService).add(100L, "DONE", 1, 0);
+        verify(dashboardCache).evictForTask(eq(100L), any(Long[].class));
+    }
+
+    @Test
+    void importCsv_logsCreationTransitionsInTheChunkTransaction() {
+        when(taskRepository.findImportedWithoutTransition(eq(100L), any()))
+                .thenReturn(List.of(imported(500L, "TO_DO", 2L), imported(501L, "DONE", null)));
+
+        importCsv("title,status,assignee\nA,TO_DO,ana\nB,DONE,\n");
+
+        InOrder order = inOrder(taskBulkLoader, taskRepository, taskTransitionRepository, transactionManager);
+        order.verify(taskBulkLoader).load(rowsCaptor.capture());
+        order.verify(taskRepository).findImportedWithoutTransition(100L, rowsCaptor.getValue().get(0).createdAt());
+        order.verify(taskTransitionRepository).saveAll(transitionsCaptor.capture());
+        order.verify(transactionManager).commit(any());
+
+        List<TaskTransition> transitions = transitionsCaptor.getValue();
+        assertEquals(List.of(500L, 501L), transitions.stream().map(TaskTransition::getTaskId).toList());
+        assertNull(transitions.get(0).getFromStatus());
+        assertEquals("DONE", transitions.get(1).getToStatus());
+        assertEquals(2L, transitions.get(0).getAssigneeId());
+        assertEquals(1L, transitions.get(0).getActorId());
+        assertEquals(rowsCaptor.getValue().get(0).createdAt(), transitions.get(1).getChangedAt());
+    }
+
+    @Test
+    void importNdjson_stopsAtWipLimit() {
+        when(taskCounterService.count(100L, "IN_PROGRESS")).thenReturn(6L);
+        String ndjson = "{\"title\":\"A\",\"status\":\"IN_PROGRESS\",\"deadline\":\"2000-01-01\"}\n"
+                + "{\"title\":\"B\",\"status\":\"IN_PROGRESS\"}\n"
+                + "nu e json\n";
+
+        ResponseEntity<?> response = taskImportService.importTasks(100L,
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), "application/x-ndjson", manager);
+
+        TaskImportResultDTO result = (TaskImportResultDTO) response.getBody();
+        assertEquals(1, result.getImported());
+        assertEquals(2, result.getFailed());
+        verify(taskCounterService).add(100L, "IN_PROGRESS", 1, 1);
+    }
+
+    @Test
+    void importCsv_malformedLineAfterSavedChunks_reportsPartialImportAndEvicts() {
+        String csv = "title,assignee\n"
+                + "A,ana\n"
+                + "B,\n"
+                + "\"ghilimele neînchise,\n";
+
+        ResponseEntity<?> response = importCsv(csv);
+
+        assertEquals(200, response.getStatusCode().value());
+        TaskImportResultDTO result = (TaskImportResultDTO) response.getBody();
+        assertEquals(2, result.getImported());
+        assertTrue(result.getFileError().contains("Ghilimele neînchise"));
+        verify(dashboardCache).evictForTask(eq(100L), any(Long[].class));
+    }
+
+    @Test
+    void importCsv_malformedBeforeAnyChunk_isBadRequest() {
+        ResponseEntity<?> response = importCsv("description\nfără titlu\n");
+
+        assertEquals(400, response.getStatusCode().value());
+        verifyNoInteractions(dashboardCache);
+    }
+
+    @Test
+    void importTasks_forbiddenForRegularMember() {
+        ProjectMember membership = new ProjectMember();
+        membership.setRole("MEMBER");
+        when(membershipCache.roleOf(1L, 100L)).thenReturn(Optional.of(membership.getRole()));
+
+        ResponseEntity<?> response = importCsv("title\nA\n");
+
+        assertEquals(403, response.getStatusCode().value());
+        verifyNoInteractions(taskBulkLoader);
+    }
+
+    private ResponseEntity<?> importCsv(String csv) {
+        return taskImportService.importTasks(100L,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), "text/csv", manager);
+    }
+
+    private static ImportedTask imported(Long id, String status, Long assigneeId) {
+        return new ImportedTask() {
+            @Override public Long getId() { return id; }
+            @Override public String getStatus() { return status; }
+            @Override public Long getAssigneeId() { return assigneeId; }
+        };
+    }
+
+    private static MemberRef member(Long id, String username) {
+        return new MemberRef() {
+            @Override public Long getId() { return id; }
+            @Override public String getUsername() { return username; }
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.dto.ProjectDTO;
+import com.sgsm.backend.dto.TaskDTO;
+import com.sgsm.backend.model.Project;
+import com.sgsm.backend.model.Task;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.ProjectRepository;
+import com.sgsm.backend.repository.TaskRepository;
+import com.sgsm.backend.repository.UserRepository;
+import com.sgsm.backend.util.RankKey;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Listarea board-ului trebuie să coste același număr de query-uri indiferent de numărul de taskuri și asignați
+@SpringBootTest
+@ActiveProfiles("h2")
+class TaskListingQueryCountTest {
+
+    @Autowired private TaskService taskService;
+    @Autowired private ProjectService projectService;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private MembershipCache membershipCache;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User manager;
+    private final List<User> members = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String suffix = String.valueOf(System.nanoTime());
+        manager = userRepository.save(new User(null, "manager" + suffix, "manager" + suffix + "@test", "hash", "USER"));
+        members.clear();
+        for (int i = 0; i < 50; i++) {
+            members.add(userRepository.save(new User(null, "member" + i + "_" + suffix, "member" + i + "_" + suffix + "@test", "hash", "USER")));
+        }
+    }
+
+    @Test
+    void getTasks_statementCountDoesNotGrowWithBoardSize() {
+        Long smallBoard = createBoard("Mic", 5);
+        Long largeBoard = createBoard("Mare", 500);
+
+        membershipCache.evictAfterCommit(List.of(manager.getId()));
+        long smallStatements = countStatements(smallBoard, 5);
+        membershipCache.evictAfterCommit(List.of(manager.getId()));
+        long largeStatements = countStatements(largeBoard, 500);
+
+        assertEquals(smallStatements, largeStatements);
+        assertTrue(largeStatements <= 2, "Query-uri pentru listare: " + largeStatements);
+
+        // Cu rolurile deja în MembershipCache rămâne doar query-ul de listare
+        assertEquals(1, countStatements(smallBoard, 5));
+        assertEquals(1, countStatements(largeBoard, 500));
+    }
+
+    private long countStatements(Long projectId, int expectedTasks) {
+        statistics.clear();
+
+        ResponseEntity<?> response = taskService.getTasks(projectId, manager);
+
+        assertEquals(200, response.getStatusCode().value());
+        @SuppressWarnings("unchecked")
+        List<TaskDTO> tasks = (List<TaskDTO>) response.getBody();
+        assertEquals(expectedTasks, tasks.size());
+        assertTrue(tasks.stream().allMatch(t -> t.getAssignedToUsername() != null));
+        assertEquals(0, statistics.getEntityFetchCount());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long createBoard(String title, int taskCount) {
+        ProjectDTO dto = new ProjectDTO();
+        dto.setTitle(title);
+        dto.setDescription(title);
+        dto.setMemberIds(members.stream().map(User::getId).toList());
+        projectService.createProject(dto, manager);
+        Project project = projectRepository.findAll().stream()
+                .filter(p -> title.equals(p.getTitle()))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+
+        List<String> keys = RankKey.evenlySpaced(taskCount);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            Task task = new Task(null, "Task " + i, "Descriere", TaskCounterService.BOARD_STATUSES.get(i % 3),
+                    null, "tag", project, members.get(i % members.size()));
+            task.setRankKey(keys.get(i));
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+        return project.getId();
+    }
+}
@@ -0,0 +1,147 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.dto.TaskMoveDTO;
+import com.sgsm.backend.model.Project;
+import com.sgsm.backend.model.ProjectMember;
+import com.sgsm.backend.model.Task;
+import com.sgsm.backend.model.User;
+import com.sgsm.backend.repository.ProjectMemberRepository;
+import com.sgsm.backend.repository.TaskRepository;
+import com.sgsm.backend.repository.TaskTransitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TaskMoveServiceTest {
+
+    @InjectMocks
+    private TaskMoveService taskMoveService;
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+    @Mock
+    private TaskTransitionRepository taskTransitionRepository;
+    @Mock
+    private TaskCounterService taskCounterService;
+    @Mock
+    private TaskRankService taskRankService;
+    @Mock
+    private DashboardCache dashboardCache;
+    @Spy
+    private PermissionService permissionService;
+    @Mock
+    private MembershipCache membershipCache;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(permissionService, "membershipCache", membershipCache);
+        ReflectionTestUtils.setField(taskMoveService, "maxBatchSize", 200);
+
+        user = new User();
+        user.setId(1L);
+        user.setRole("USER");
+
+        project = new Project();
+        project.setId(100L);
+    }
+
+    @Test
+    void moveTasks_movesBatchAndUpdatesCounters() {
+        member("MANAGER");
+        Task a = task(10L, "TO_DO");
+        Task b = task(11L, "TO_DO");
+        when(taskRepository.findAllWithProjectAndAssignee(anyCollection())).thenReturn(List.of(a, b));
+        when(taskRepository.findRankKeysExcluding(eq(100L), eq("DONE"), anyCollection())).thenReturn(List.of("a", "m"));
+        when(taskRankService.ranksBetween(100L, "DONE", "a", "m", 2)).thenReturn(List.of("g", "j"));
+
+        ResponseEntity<?> response = taskMoveService.moveTasks(100L, List.of(
+                new TaskMoveDTO(10L, "DONE", 1), new TaskMoveDTO(11L, "DONE", 2)), user);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("DONE", a.getStatus());
+        assertEquals("g", a.getRankKey());
+        assertEquals("j", b.getRankKey());
+        // O singură actualizare per coloană atinsă, oricâte carduri are lotul
+        verify(taskCounterService).add(100L, "TO_DO", -2, 0);
+        verify(taskCounterService).add(100L, "DONE", 2, 0);
+        verify(taskCounterService, never()).move(any(), any(), anyBoolean(), any(), anyBoolean());
+        verify(taskRepository).saveAll(List.of(a, b));
+    }
+
+    @Test
+    void moveTasks_taskWithoutStatusMovesOntoBoard() {
+        member("MANAGER");
+        Task a = task(10L, null);
+        when(taskRepository.findAllWithProjectAndAssignee(anyCollection())).thenReturn(List.of(a));
+        when(taskRepository.findRankKeysExcluding(eq(100L), eq("TO_DO"), anyCollection())).thenReturn(List.of());
+        when(taskRankService.ranksBetween(100L, "TO_DO", null, null, 1)).thenReturn(List.of("m"));
+
+        ResponseEntity<?> response = taskMoveService.moveTasks(100L, List.of(new TaskMoveDTO(10L, "TO_DO", 0)), user);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("TO_DO", a.getStatus());
+        verify(taskCounterService).lockColumn(100L, "TO_DO");
+        verify(taskCounterService, never()).lockColumn(eq(100L), isNull());
+    }
+
+    @Test
+    void moveTasks_wipLimitCheckedOnceForWholeBatch() {
+        member("MANAGER");
+        Task a = task(10L, "TO_DO");
+        Task b = task(11L, "TO_DO");
+        when(taskRepository.findAllWithProjectAndAssignee(anyCollection())).thenReturn(List.of(a, b));
+        when(taskCounterService.countForUpdate(100L, "IN_PROGRESS")).thenReturn(6L);
+
+        ResponseEntity<?> response = taskMoveService.moveTasks(100L, List.of(
+                new TaskMoveDTO(10L, "IN_PROGRESS", 0), new TaskMoveDTO(11L, "IN_PROGRESS", 1)), user);
+
+        assertEquals(400, response.getStatusCode().value());
+        assertEquals("TO_DO", a.getStatus());
+        verify(taskRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void moveTasks_memberCannotMoveOthersTasks() {
+        member("MEMBER");
+        when(taskRepository.findAllWithProjectAndAssignee(anyCollection())).thenReturn(List.of(task(10L, "TO_DO")));
+
+        ResponseEntity<?> response = taskMoveService.moveTasks(100L, List.of(new TaskMoveDTO(10L, "DONE", 0)), user);
+
+        assertEquals(403, response.getStatusCode().value());
+        verify(taskCounterService, never()).add(any(), any(), anyLong(), anyLong());
+    }
+
+    private void member(String role) {
+        ProjectMember pm = new ProjectMember();
+        pm.setUser(user);
+        pm.setProject(project);
+        pm.setRole(role);
+        when(membershipCache.roleOf(1L, 100L)).thenReturn(Optional.of(pm.getRole()));
+    }
+
+    private Task task(Long id, String status) {
+        User other = new User();
+        other.setId(2L);
+        Task task = new Task();
+        task.setId(id);
+        task.setStatus(status);
+        task.setProject(project);
+        task.setAssignedTo(other);
+        return task;
+    }
+}
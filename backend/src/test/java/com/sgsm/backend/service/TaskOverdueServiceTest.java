@@ -0,0 +1,77 @@
+package com.sgsm.backend.service;
+
+import com.sgsm.backend.event.TasksOverdueEvent;
+import com.sgsm.backend.repository.OverdueCandidate;
+import com.sgsm.backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class TaskOverdueServiceTest {
+
+    @InjectMocks
+    private TaskOverdueService taskOverdueService;
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private TaskCounterService taskCounterService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testMarkBatch_fullBatchMarksTasksAndAdvancesCursor() {
+        List<OverdueCandidate> batch = List.of(
+                candidate(1L, 100L, "TO_DO", now.minusDays(3)),
+                candidate(2L, 100L, "TO_DO", now.minusDays(2)),
+                candidate(3L, 200L, "IN_PROGRESS", now.minusDays(1)));
+        when(taskRepository.lockNewlyOverdue(eq(now), any(), any(), eq(3))).thenReturn(batch);
+
+        TaskOverdueService.BatchResult result = taskOverdueService.markBatch(now, TaskOverdueService.Cursor.START, 3);
+
+        assertEquals(3, result.marked());
+        assertEquals(new TaskOverdueService.Cursor(now.minusDays(1), 3L), result.next());
+        verify(taskRepository).markOverdue(List.of(1L, 2L, 3L));
+        verify(taskCounterService).add(100L, "TO_DO", 0, 2L);
+        verify(taskCounterService).add(200L, "IN_PROGRESS", 0, 1L);
+        verify(eventPublisher).publishEvent(any(TasksOverdueEvent.class));
+    }
+
+    @Test
+    void testMarkBatch_nothingOverdue() {
+        when(taskRepository.lockNewlyOverdue(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        TaskOverdueService.BatchResult result = taskOverdueService.markBatch(now, TaskOverdueService.Cursor.START, 500);
+
+        assertEquals(0, result.marked());
+        assertNull(result.next());
+        verify(taskRepository, never()).markOverdue(any());
+        verifyNoInteractions(taskCounterService, eventPublisher);
+    }
+
+    private OverdueCandidate candidate(Long id, Long projectId, String status, LocalDateTime deadline) {
+        OverdueCandidate c = mock(OverdueCandidate.class);
+        when(c.getId()).thenReturn(id);
+        when(c.getProjectId()).thenReturn(projectId);
+        when(c.getStatus()).thenReturn(status);
+        when(c.getAssigneeId()).thenReturn(7L);
+        when(c.getDeadline()).thenReturn(deadline);
+        return c;
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -21,6 +22,12 @@ class TaskServiceTest {
     @Mock private ProjectRepository projectRepository;
     @Mock private UserRepository userRepository;
     @Mock private ProjectMemberRepository projectMemberRepository;
+    @Mock private TaskCounterService taskCounterService;
+    @Mock private DashboardCache dashboardCache;
+    @Mock private TaskTransitionRepository taskTransitionRepository;
+    @Mock private TaskRankService taskRankService;
+    @Spy private PermissionService permissionService;
+    @Mock private MembershipCache membershipCache;
 
     @InjectMocks private TaskService taskService;
 
@@ -31,6 +38,7 @@ class TaskServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(permissionService, "membershipCache", membershipCache);
 
         manager = new User();
         manager.setId(1L);
@@ -60,7 +68,7 @@ class TaskServiceTest {
     @Test
     void createTask_userNotManager_returns403() {
         ProjectMember relation = mockRelation(manager, project, "MEMBER");
-        when(projectMemberRepository.findByUserIdAndProjectId(1L, 100L)).thenReturn(Optional.of(relation));
+        when(membershipCache.roleOf(1L, 100L)).thenReturn(Optional.of(relation.getRole()));
 
         ResponseEntity<?> response = taskService.createTask(validTaskDTO, manager);
 
@@ -71,8 +79,8 @@ class TaskServiceTest {
     void createTask_assignedUserNotInProject_returns400() {
         ProjectMember relation = mockRelation(manager, project, "MANAGER");
 
-        when(projectMemberRepository.findByUserIdAndProjectId(1L, 100L)).thenReturn(Optional.of(relation));
-        when(projectMemberRepository.existsByUserIdAndProjectId(2L, 100L)).thenReturn(false);
+        when(membershipCache.roleOf(1L, 100L)).thenReturn(Optional.of(relation.getRole()));
+        when(membershipCache.isMember(2L, 100L)).thenReturn(false);
 
         ResponseEntity<?> response = taskService.createTask(validTaskDTO, manager);
 
@@ -87,22 +95,25 @@ class TaskServiceTest {
         assignedUser.setId(2L);
         assignedUser.setUsername("assigned");
 
-        when(projectMemberRepository.findByUserIdAndProjectId(1L, 100L)).thenReturn(Optional.of(relation));
-        when(projectMemberRepository.existsByUserIdAndProjectId(2L, 100L)).thenReturn(true);
+        when(membershipCache.roleOf(1L, 100L)).thenReturn(Optional.of(relation.getRole()));
+        when(membershipCache.isMember(2L, 100L)).thenReturn(true);
         when(projectRepository.findById(100L)).thenReturn(Optional.of(project));
         when(userRepository.findById(2L)).thenReturn(Optional.of(assignedUser));
-        when(taskRepository.findMaxPositionByStatusAndProjectId("TO_DO", 100L)).thenReturn(0);
+        when(taskRankService.rankAtEnd(100L, "TO_DO")).thenReturn("i");
         when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArguments()[0]);
 
         ResponseEntity<?> response = taskService.createTask(validTaskDTO, manager);
 
         assertEquals(200, response.getStatusCodeValue());
-        Task created = (Task) response.getBody();
+        verify(taskCounterService).increment(100L, "TO_DO", false);
+        verify(taskTransitionRepository).save(any(TaskTransition.class));
+        TaskDTO created = (TaskDTO) response.getBody();
         assertNotNull(created);
         assertEquals("Task", created.getTitle());
         assertEquals("TO_DO", created.getStatus());
-        assertEquals(assignedUser, created.getAssignedTo());
-        assertEquals(1, created.getPosition());
+        assertEquals(assignedUser.getId(), created.getAssignedToId());
+        assertEquals(assignedUser.getUsername(), created.getAssignedToUsername());
+        assertEquals("i", created.getRankKey());
     }
 
     @Test
@@ -113,8 +124,8 @@ class TaskServiceTest {
 
         ProjectMember relation = mockRelation(manager, project, "MEMBER");
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(projectMemberRepository.findByUserIdAndProjectId(1L, 100L)).thenReturn(Optional.of(relation));
+        when(taskRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(task));
+        when(membershipCache.roleOf(1L, 100L)).thenReturn(Optional.of(relation.getRole()));
 
         ResponseEntity<?> response = taskService.deleteTask(1L, manager);
 
@@ -129,12 +140,13 @@ class TaskServiceTest {
 
         ProjectMember relation = mockRelation(manager, project, "MANAGER");
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(projectMemberRepository.findByUserIdAndProjectId(1L, 100L)).thenReturn(Optional.of(relation));
+        when(taskRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(task));
+        when(membershipCache.roleOf(1L, 100L)).thenReturn(Optional.of(relation.getRole()));
 
         ResponseEntity<?> response = taskService.deleteTask(1L, manager);
 
         assertEquals(200, response.getStatusCodeValue());
         verify(taskRepository).delete(task);
+        verify(taskCounterService).decrement(100L, task.getStatus(), false);
     }
 }
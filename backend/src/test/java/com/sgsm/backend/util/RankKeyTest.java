@@ -0,0 +1,70 @@
+package com.sgsm.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankKeyTest {
+
+    @Test
+    void between_isStrictlyBetweenNeighbours() {
+        assertBetween("a", "b", RankKey.between("a", "b"));
+        assertBetween("a", "a1", RankKey.between("a", "a1"));
+        assertBetween("az", "b", RankKey.between("az", "b"));
+        assertBetween(null, "1", RankKey.between(null, "1"));
+        assertBetween("zz", null, RankKey.between("zz", null));
+        assertEquals(RankKey.INITIAL, RankKey.between(null, null));
+    }
+
+    @Test
+    void between_rejectsKeysInWrongOrder() {
+        assertThrows(IllegalArgumentException.class, () -> RankKey.between("b", "a"));
+        assertThrows(IllegalArgumentException.class, () -> RankKey.between("b", "b"));
+    }
+
+    @Test
+    void appendingStaysShort() {
+        String key = null;
+        for (int i = 0; i < 10_000; i++) {
+            String next = RankKey.after(key);
+            assertBetween(key, null, next);
+            key = next;
+        }
+        assertTrue(key.length() <= 4, key);
+    }
+
+    @Test
+    void randomInsertsKeepOrder() {
+        Random random = new Random(42);
+        List<String> column = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            int index = random.nextInt(column.size() + 1);
+            String lo = index > 0 ? column.get(index - 1) : null;
+            String hi = index < column.size() ? column.get(index) : null;
+            String key = RankKey.between(lo, hi);
+            assertBetween(lo, hi, key);
+            column.add(index, key);
+        }
+    }
+
+    @Test
+    void evenlySpaced_isSortedAndValid() {
+        List<String> keys = RankKey.evenlySpaced(5_000);
+        assertEquals(5_000, keys.size());
+        for (int i = 1; i < keys.size(); i++) {
+            assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0);
+        }
+        assertTrue(keys.stream().allMatch(RankKey::isValid));
+        assertTrue(keys.get(keys.size() - 1).length() <= 4);
+    }
+
+    private static void assertBetween(String lo, String hi, String key) {
+        assertTrue(RankKey.isValid(key), key);
+        if (lo != null) assertTrue(lo.compareTo(key) < 0, lo + " < " + key);
+        if (hi != null) assertTrue(key.compareTo(hi) < 0, key + " < " + hi);
+    }
+}
@@ -0,0 +1,47 @@
+package com.sgsm.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UsernamePrefixIndexTest {
+
+    private static List<String> names(List<UsernamePrefixIndex.Entry> entries) {
+        return entries.stream().map(UsernamePrefixIndex.Entry::username).toList();
+    }
+
+    @Test
+    void search_matchesPrefixCaseInsensitivelyInOrder() {
+        UsernamePrefixIndex index = UsernamePrefixIndex.of(List.of(
+                new UsernamePrefixIndex.Entry(1, "mihai"),
+                new UsernamePrefixIndex.Entry(2, "Maria"),
+                new UsernamePrefixIndex.Entry(3, "andrei"),
+                new UsernamePrefixIndex.Entry(4, "marius"),
+                new UsernamePrefixIndex.Entry(5, "mar")));
+
+        assertEquals(List.of("mar", "Maria", "marius"), names(index.search("MAR", 10, null)));
+        assertEquals(List.of("mar", "Maria"), names(index.search("mar", 2, null)));
+        assertEquals(List.of("Maria", "marius"), names(index.search("mar", 10, 5L)));
+        assertEquals(List.of("andrei", "mar"), names(index.search("", 2, null)));
+        assertTrue(index.search("z", 10, null).isEmpty());
+    }
+
+    @Test
+    void withAndWithout_returnNewIndexAndKeepOriginal() {
+        UsernamePrefixIndex original = UsernamePrefixIndex.of(List.of(
+                new UsernamePrefixIndex.Entry(1, "ana"),
+                new UsernamePrefixIndex.Entry(2, "bogdan")));
+
+        UsernamePrefixIndex renamed = original.with(1, "zoe").with(3, "anca");
+        assertEquals(List.of("anca"), names(renamed.search("an", 10, null)));
+        assertEquals(List.of("zoe"), names(renamed.search("z", 10, null)));
+        assertEquals(List.of("ana"), names(original.search("an", 10, null)));
+
+        UsernamePrefixIndex removed = renamed.without(2);
+        assertEquals(2, removed.size());
+        assertTrue(removed.search("b", 10, null).isEmpty());
+        assertSame(removed, removed.without(99));
+    }
+}
@@ -170,6 +170,18 @@ export const getAllUsers = async () => {
   return res.json();
 };
 
+// Selectorul de membri: primele potriviri după prefixul username-ului
+export const searchUsers = async (q: string, limit = 20) => {
+  const params = new URLSearchParams({ q, limit: String(limit) });
+  const res = await fetchWithAuth(`${API_BASE}/users/search?${params}`);
+  if (!res || !res.ok) {
+    const message = await res?.text();
+    throw new Error(message || "Eroare la căutarea utilizatorilor");
+  }
+
+  return res.json();
+};
+
 export const deleteProject = async (projectId: number) => {
   const res = await fetchWithAuth(`${API_BASE}/projects/${projectId}`, {
     method: "DELETE",
@@ -220,8 +232,16 @@ export const getProjectById = async (projectId: number) => {
 
 // Comentarii proiect
 
-export const getProjectComments = async (projectId: number) => {
-  const res = await fetchWithAuth(`${API_BASE}/projects/${projectId}/comments`);
+// O pagină din feed: { pinned (doar pe prima pagină), items, nextCursor }
+export const getProjectComments = async (
+  projectId: number,
+  cursor?: string | null
+) => {
+  const params = new URLSearchParams({ limit: "30" });
+  if (cursor) params.set("cursor", cursor);
+  const res = await fetchWithAuth(
+    `${API_BASE}/projects/${projectId}/comments?${params}`
+  );
   if (!res || !res.ok)
     throw new Error("Eroare la obținerea comentariilor proiectului");
 
@@ -1,36 +1,73 @@
 import { jwtDecode } from "jwt-decode"; // funcție care decodează tokenul JWT
 
+// Funcție reutilizabilă pentru fetch cu verificare de autentificare și expirare JWT
+// Schimbă tokenul de refresh pe o pereche nouă (tokenul vechi devine inutilizabil); null dacă sesiunea a expirat
+let refreshInFlight: Promise<string | null> | null = null;
+
+export const refreshAccessToken = (): Promise<string | null> => {
+  const refreshToken = localStorage.getItem("refreshToken");
+  if (!refreshToken) return Promise.resolve(null);
+
+  // Cererile paralele așteaptă aceeași reîmprospătare (un token de refresh se poate folosi o singură dată)
+  if (!refreshInFlight) {
+    refreshInFlight = fetch("http://localhost:8080/auth/refresh", {
+      method: "POST",
+      headers: { "Content-Type": "application/json" },
+      body: JSON.stringify({ refreshToken }),
+    })
+      .then(async (res) => {
+        if (!res.ok) return null;
+        const data = await res.json();
+        localStorage.setItem("token", data.token);
+        localStorage.setItem("refreshToken", data.refreshToken);
+        return data.token as string;
+      })
+      .catch(() => null)
+      .finally(() => {
+        refreshInFlight = null;
+      });
+  }
+  return refreshInFlight;
+};
+
+const redirectToLogin = (reason: string): never => {
+  localStorage.removeItem("token");
+  localStorage.removeItem("refreshToken");
+  window.location.href = "/login";
+  throw new Error(`${reason} Redirecționare spre login.`);
+};
+
 // Funcție reutilizabilă pentru fetch cu verificare de autentificare și expirare JWT
 export const fetchWithAuth = async (
   url: string,
   options: RequestInit = {}
 ): Promise<Response> => {
-  const token = localStorage.getItem("token"); // Ia tokenul JWT din localStorage
+  let token = localStorage.getItem("token"); // Ia tokenul JWT din localStorage
 
   // Dacă tokenul nu există, redirecționează utilizatorul spre pagina de login
   if (!token) {
-    window.location.href = "/login";
-    throw new Error("Token lipsă. Redirecționare spre login.");
+    redirectToLogin("Token lipsă.");
   }
 
+  let expired = false;
   try {
-    // Decodează tokenul pentru a verifica data de expirare
-    const decoded: any = jwtDecode(token);
+    // Decodează tokenul pentru a verifica data de expirare (cu 30 s marjă)
+    const decoded: any = jwtDecode(token!);
     const now = Date.now() / 1000; // Timpul actual în secunde
-
-    // Dacă tokenul a expirat, îl șterge și redirecționează spre login
-    if (decoded.exp && decoded.exp < now) {
-      console.warn("Token expirat!");
-      localStorage.removeItem("token");
-      window.location.href = "/login";
-      throw new Error("Token expirat. Redirecționare spre login.");
-    }
+    expired = decoded.exp && decoded.exp < now + 30;
   } catch (e) {
     // Dacă tokenul nu poate fi decodat (e invalid), îl șterge și redirecționează
     console.error("Token invalid:", e);
-    localStorage.removeItem("token");
-    window.location.href = "/login";
-    throw new Error("Token invalid. Redirecționare spre login.");
+    redirectToLogin("Token invalid.");
+  }
+
+  // Tokenul de acces trăiește puțin; îl reînnoim cu tokenul de refresh, fără parolă
+  if (expired) {
+    token = await refreshAccessToken();
+    if (!token) {
+      console.warn("Sesiune expirată!");
+      redirectToLogin("Sesiune expirată.");
+    }
   }
 
   // Setează antetele pentru cererea HTTP, incluzând tokenul în Authorization
@@ -13,7 +13,7 @@ interface CreateTaskModalProps {
   isOpen: boolean;
   onClose: () => void;
   defaultStatus: Task["status"];
-  onCreate: (taskData: Partial<Task> & { assignedToId?: number }) => void;
+  onCreate: (taskData: Partial<Task>) => void;
   members: Member[];
 }
 
@@ -55,10 +55,8 @@ const CreateTaskModal: React.FC<CreateTaskModalProps> = ({
       description,
       deadline,
       status: defaultStatus,
-      assignedTo: {
-        id: selectedMember.id,
-        username: selectedMember.username,
-      },
+      assignedToId: selectedMember.id,
+      assignedToUsername: selectedMember.username,
     });
 
     setTitle("");
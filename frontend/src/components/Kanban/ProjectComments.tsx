@@ -21,7 +21,7 @@ const ProjectComments: React.FC<ProjectCommentsProps> = ({ projectId }) => {
   const loadComments = async () => {
     try {
       const data = await getProjectComments(projectId);
-      setComments(data);
+      setComments([...(data.pinned || []), ...(data.items || [])]);
     } catch (e) {
       toast.error("Eroare la încărcarea comentariilor");
     }
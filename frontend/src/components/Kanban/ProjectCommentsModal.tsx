@@ -32,6 +32,7 @@ const ProjectCommentsModal: React.FC<ProjectCommentsModalProps> = ({
 }) => {
   const [pinned, setPinned] = useState<Comment[]>([]);
   const [unpinned, setUnpinned] = useState<Comment[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [newComment, setNewComment] = useState("");
   const [loading, setLoading] = useState(false);
   const [currentUsername, setCurrentUsername] = useState("");
@@ -64,7 +65,19 @@ const ProjectCommentsModal: React.FC<ProjectCommentsModalProps> = ({
     try {
       const data = await getProjectComments(projectId);
       setPinned(data.pinned || []);
-      setUnpinned(data.unpinned || []);
+      setUnpinned(data.items || []);
+      setNextCursor(data.nextCursor ?? null);
+    } catch {
+      toast.error("Eroare la încărcarea comentariilor");
+    }
+  };
+
+  const loadMore = async () => {
+    if (!nextCursor) return;
+    try {
+      const data = await getProjectComments(projectId, nextCursor);
+      setUnpinned((prev) => [...prev, ...(data.items || [])]);
+      setNextCursor(data.nextCursor ?? null);
     } catch {
       toast.error("Eroare la încărcarea comentariilor");
     }
@@ -188,6 +201,14 @@ const ProjectCommentsModal: React.FC<ProjectCommentsModalProps> = ({
                   {unpinned.map(renderComment)}
                 </>
               )}
+              {nextCursor && (
+                <button
+                  onClick={loadMore}
+                  className="text-sm text-blue-600 hover:underline"
+                >
+                  Încarcă mai multe
+                </button>
+              )}
             </div>
 
             <textarea
@@ -2,8 +2,8 @@ import React, { useEffect, useState } from "react";
 import { X } from "lucide-react";
 import {
   deleteProject,
-  getAllUsers,
   getProjectMembers,
+  searchUsers,
   updateProject,
 } from "../../api/api";
 import toast from "react-hot-toast";
@@ -34,18 +34,28 @@ const ProjectSettingsModal: React.FC<Props> = ({
   const [loading, setLoading] = useState(false);
   const [availableUsers, setAvailableUsers] = useState<UserItem[]>([]);
   const [selectedMembers, setSelectedMembers] = useState<number[]>([]);
+  const [userQuery, setUserQuery] = useState("");
   const navigate = useNavigate();
 
+  // Căutare după prefix, la scurt timp după ultima tastă
   useEffect(() => {
-    if (isOpen) {
-      getAllUsers().then((users) => {
-        const formatted = users.map((user: any) => ({
-          userId: user.userId ?? user.id,
-          username: user.username,
-        }));
-        setAvailableUsers(formatted);
-      });
+    if (!isOpen) return;
+    const timer = setTimeout(() => {
+      searchUsers(userQuery)
+        .then((users) => {
+          const formatted = users.map((user: any) => ({
+            userId: user.userId ?? user.id,
+            username: user.username,
+          }));
+          setAvailableUsers(formatted);
+        })
+        .catch(() => toast.error("Eroare la căutarea utilizatorilor."));
+    }, 250);
+    return () => clearTimeout(timer);
+  }, [isOpen, userQuery]);
 
+  useEffect(() => {
+    if (isOpen) {
       getProjectMembers(projectId).then((members) => {
         setSelectedMembers(members.map((m: any) => m.userId ?? m.id));
       });
@@ -163,6 +173,13 @@ const ProjectSettingsModal: React.FC<Props> = ({
                 <label className="block mb-1 text-sm font-medium text-gray-700 dark:text-gray-300">
                   Membri proiect:
                 </label>
+                <input
+                  type="text"
+                  value={userQuery}
+                  onChange={(e) => setUserQuery(e.target.value)}
+                  placeholder="Caută utilizator..."
+                  className="w-full mb-2 px-3 py-2 rounded-md border border-gray-300 dark:border-gray-600 dark:bg-gray-800 text-gray-900 dark:text-white"
+                />
                 <div className="max-h-40 overflow-y-auto space-y-1">
                   {availableUsers.map((user, index) => (
                     <label
@@ -126,11 +126,11 @@ const ViewTaskModal: React.FC<Props> = ({ isOpen, onClose, task }) => {
                   Deadline: {deadlineDate.toLocaleString("ro-RO")}
                 </div>
 
-                {task.assignedTo?.username && (
+                {task.assignedToUsername && (
                   <div className="flex items-center gap-1 text-xs text-blue-800 dark:text-blue-100 bg-blue-200 dark:bg-blue-500 px-2 py-1 rounded-full w-fit">
                     <User className="w-3 h-3" />
                     <span className="font-medium">
-                      {task.assignedTo.username}
+                      {task.assignedToUsername}
                     </span>
                   </div>
                 )}
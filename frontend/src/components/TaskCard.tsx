@@ -8,10 +8,12 @@ export interface Task {
   description?: string;
   status: "TO_DO" | "IN_PROGRESS" | "DONE" | "LATE";
   deadline?: string;
-  assignedTo?: { id: number; username: string; email?: string };
+  assignedToId?: number;
+  assignedToUsername?: string;
   projectId: number;
   tags?: string[];
   position?: number;
+  rankKey?: string;
 }
 
 export interface TaskDTO {
@@ -28,7 +28,7 @@ const TaskList: React.FC<TaskListProps> = ({ tasks, projects }) => {
       {tasks.map((task) => {
         if (!task) return null;
 
-        const projectId = (task as any).projectId ?? (task as any).project?.id;
+        const projectId = task.projectId;
         const projectTitle = projects.find((p) => p.id === projectId)?.title;
 
         return (
@@ -17,8 +17,21 @@ export const AuthProvider = ({ children }: { children: React.ReactNode }) => {
     localStorage.getItem("token")
   );
 
+  // Revocă pe server tokenul de acces și pe cel de refresh; deconectarea locală nu așteaptă răspunsul
   const logout = () => {
+    const accessToken = localStorage.getItem("token");
+    const refreshToken = localStorage.getItem("refreshToken");
+    fetch("http://localhost:8080/auth/logout", {
+      method: "POST",
+      headers: {
+        "Content-Type": "application/json",
+        ...(accessToken ? { Authorization: `Bearer ${accessToken}` } : {}),
+      },
+      body: JSON.stringify({ refreshToken }),
+    }).catch(() => {});
+
     localStorage.removeItem("token");
+    localStorage.removeItem("refreshToken");
     setToken(null);
   };
 
@@ -1,6 +1,6 @@
 import React, { useEffect, useState } from "react";
 import { useNavigate } from "react-router-dom";
-import { createProject, getAllUsers } from "../api/api";
+import { createProject, searchUsers } from "../api/api";
 import toast from "react-hot-toast";
 
 interface UserItem {
@@ -17,20 +17,25 @@ const CreateProject: React.FC = () => {
   const [availableUsers, setAvailableUsers] = useState<UserItem[]>([]);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState("");
+  const [userQuery, setUserQuery] = useState("");
 
+  // Căutare după prefix, la scurt timp după ultima tastă
   useEffect(() => {
-    getAllUsers()
-      .then((users) => {
-        const formatted = users.map((user: any) => ({
-          userId: user.userId ?? user.id,
-          username: user.username,
-        }));
-        setAvailableUsers(formatted);
-      })
-      .catch(() => {
-        toast.error("Eroare la încărcarea utilizatorilor.");
-      });
-  }, []);
+    const timer = setTimeout(() => {
+      searchUsers(userQuery)
+        .then((users) => {
+          const formatted = users.map((user: any) => ({
+            userId: user.userId ?? user.id,
+            username: user.username,
+          }));
+          setAvailableUsers(formatted);
+        })
+        .catch(() => {
+          toast.error("Eroare la încărcarea utilizatorilor.");
+        });
+    }, 250);
+    return () => clearTimeout(timer);
+  }, [userQuery]);
 
   const handleCreateProject = async (e: React.FormEvent) => {
     e.preventDefault();
@@ -87,16 +92,27 @@ const CreateProject: React.FC = () => {
           <label className="block font-medium mb-1 text-gray-700 dark:text-gray-300">
             Adaugă membri
           </label>
+          <input
+            type="text"
+            value={userQuery}
+            onChange={(e) => setUserQuery(e.target.value)}
+            placeholder="Caută utilizator..."
+            className="w-full p-2 mb-2 border rounded-md bg-gray-100 dark:bg-gray-700 dark:text-white"
+          />
           <select
             multiple
             value={selectedMembers.map(String)}
-            onChange={(e) =>
-              setSelectedMembers(
-                Array.from(e.target.selectedOptions, (opt) =>
-                  parseInt(opt.value)
-                )
-              )
-            }
+            onChange={(e) => {
+              // Selecțiile din căutările anterioare (ascunse acum) sunt păstrate
+              const visible = availableUsers.map((u) => u.userId);
+              const picked = Array.from(e.target.selectedOptions, (opt) =>
+                parseInt(opt.value)
+              );
+              setSelectedMembers((prev) => [
+                ...prev.filter((id) => !visible.includes(id)),
+                ...picked,
+              ]);
+            }}
             className="w-full p-2 border rounded-md bg-gray-100 dark:bg-gray-700 dark:text-white"
           >
             {availableUsers.map((user, index) => (
@@ -81,7 +81,14 @@ const KanbanBoard: React.FC = () => {
         getProjectById(activeProjectId),
       ]);
 
-      setTasks(tasksData);
+      // Backend-ul trimite taskurile ordonate după rankKey; position e doar indexul local din coloană
+      const columnIndex: Record<string, number> = {};
+      setTasks(
+        tasksData.map((t: Task) => ({
+          ...t,
+          position: (columnIndex[t.status] = (columnIndex[t.status] ?? -1) + 1),
+        }))
+      );
       setIsProjectManager(role === "MANAGER");
       setProjectTitle(projectData.title);
       setMembers(
@@ -164,8 +171,14 @@ const KanbanBoard: React.FC = () => {
       updated.status === "LATE" ? "IN_PROGRESS" : updated.status;
 
     try {
-      const res = await updateTask({ ...updated, status: cleanStatus });
-      setTasks((prev) => prev.map((t) => (t.id === res.id ? res : t)));
+      const res = await updateTask({
+        ...updated,
+        status: cleanStatus,
+        position: undefined,
+      });
+      setTasks((prev) =>
+        prev.map((t) => (t.id === res.id ? { ...res, position: t.position } : t))
+      );
     } catch (err) {
       toast.error("Eroare la salvarea task-ului.");
     }
@@ -207,7 +220,7 @@ const KanbanBoard: React.FC = () => {
   };
 
   const handleTaskCreate = async (taskData: Partial<Task>) => {
-    if (!taskData.assignedTo || !taskData.assignedTo.id) {
+    if (!taskData.assignedToId) {
       toast.error("Selectează un membru pentru task.");
       return;
     }
@@ -225,10 +238,16 @@ const KanbanBoard: React.FC = () => {
         deadline: taskData.deadline,
 
         projectId: activeProjectId,
-        assignedToId: taskData.assignedTo.id,
+        assignedToId: taskData.assignedToId,
       });
 
-      setTasks((prev) => [...prev, newTask]);
+      setTasks((prev) => [
+        ...prev,
+        {
+          ...newTask,
+          position: prev.filter((t) => t.status === newTask.status).length,
+        },
+      ]);
       toast.success("Task creat cu succes!");
     } catch (err: any) {
       toast.error(err.message || "Eroare la crearea task-ului");
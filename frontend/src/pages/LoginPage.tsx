@@ -26,6 +26,7 @@ const LoginPage: React.FC = () => {
 
       const data = await res.json();
       localStorage.setItem("token", data.token);
+      localStorage.setItem("refreshToken", data.refreshToken);
       window.location.href = "/";
     } catch (err: any) {
       setError(err.message || "Eroare necunoscută.");